@@ -1,17 +1,23 @@
 package com.lookmarket.api.auth;
 
 import com.lookmarket.api.security.JwtTokenProvider;
+import com.lookmarket.api.security.VerifiedToken;
 import com.lookmarket.application.auth.AuthService;
-import com.lookmarket.domain.user.User;
+import com.lookmarket.application.auth.RefreshTokenGrant;
+import com.lookmarket.domain.user.UserCredentials;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Instant;
+
 /**
  * 인증 관련 REST API Controller
  *
@@ -27,34 +33,47 @@ public class AuthController {
 
     private final AuthService authService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final LoginThrottle loginThrottle;
 
-    public AuthController(AuthService authService, JwtTokenProvider jwtTokenProvider) {
+    public AuthController(AuthService authService, JwtTokenProvider jwtTokenProvider, LoginThrottle loginThrottle) {
         this.authService = authService;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.loginThrottle = loginThrottle;
     }
 
     /**
      * 로그인 API
      *
      * @param request 로그인 요청 (이메일, 비밀번호)
+     * @param httpRequest 클라이언트 IP 확인용
      * @return 토큰 응답 (accessToken, refreshToken)
      */
     @PostMapping("/login")
-    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<TokenResponse> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest
+    ) {
         log.info("로그인 시도: email={}", request.email());
 
+        // 시도 제한 (초과 시 사용자 조회/비밀번호 검증 없이 429)
+        // 프록시 뒤에서는 server.forward-headers-strategy 설정으로 getRemoteAddr가 실제 클라이언트 IP가 됨
+        loginThrottle.acquire(request.email(), httpRequest.getRemoteAddr());
+
         // 사용자 인증
-        User user = authService.authenticate(request.email(), request.password());
+        UserCredentials user = authService.authenticate(request.email(), request.password());
 
         // 토큰 생성
         String accessToken = jwtTokenProvider.createAccessToken(
-                user.getId(),
-                user.getEmail(),
-                user.getRole().name()
+                user.id(),
+                user.email(),
+                user.role().name()
         );
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
+        RefreshTokenGrant grant = authService.startRefreshTokenFamily(user, refreshTokenExpiresAt());
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.id(), grant.familyId(), grant.tokenId());
 
-        log.info("로그인 성공: userId={}", user.getId());
+        authService.recordLogin(user.id(), httpRequest.getRemoteAddr(), httpRequest.getHeader(HttpHeaders.USER_AGENT));
+
+        log.info("로그인 성공: userId={}", user.id());
 
         return ResponseEntity.ok(TokenResponse.of(
                 accessToken,
@@ -73,28 +92,32 @@ public class AuthController {
     public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody TokenRefreshRequest request) {
         String refreshToken = request.refreshToken();
 
-        // Refresh Token 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new com.lookmarket.application.auth.AuthenticationException("유효하지 않은 Refresh Token입니다.");
-        }
+        // Refresh Token 검증 (한 번의 파싱으로 서명 검증 + Claim 추출)
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(refreshToken)
+                .orElseThrow(() -> new com.lookmarket.application.auth.AuthenticationException("유효하지 않은 Refresh Token입니다."));
 
         // 토큰 타입 확인
-        String tokenType = jwtTokenProvider.getTokenType(refreshToken);
-        if (!"refresh".equals(tokenType)) {
+        if (!verifiedToken.isRefreshToken()) {
             throw new com.lookmarket.application.auth.AuthenticationException("Refresh Token이 아닙니다.");
         }
 
-        // 사용자 검증
-        Long userId = jwtTokenProvider.getUserId(refreshToken);
-        User user = authService.validateUserForRefresh(userId);
+        // 토큰 교체 (재사용/폐기된 토큰은 사용자 조회 전에 거부) + 사용자 검증
+        Long userId = verifiedToken.userId();
+        RefreshTokenGrant grant = authService.rotateRefreshToken(
+                userId,
+                verifiedToken.familyId(),
+                verifiedToken.tokenId(),
+                refreshTokenExpiresAt()
+        );
+        UserCredentials user = grant.user();
 
         // 새 토큰 발급
         String newAccessToken = jwtTokenProvider.createAccessToken(
-                user.getId(),
-                user.getEmail(),
-                user.getRole().name()
+                user.id(),
+                user.email(),
+                user.role().name()
         );
-        String newRefreshToken = jwtTokenProvider.createRefreshToken(user.getId());
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(user.id(), grant.familyId(), grant.tokenId());
 
         log.info("토큰 갱신 성공: userId={}", userId);
 
@@ -104,4 +127,8 @@ public class AuthController {
                 jwtTokenProvider.getAccessTokenExpiration()
         ));
     }
+
+    private Instant refreshTokenExpiresAt() {
+        return Instant.now().plusMillis(jwtTokenProvider.getRefreshTokenExpiration());
+    }
 }
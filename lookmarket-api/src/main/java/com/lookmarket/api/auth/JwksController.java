@@ -0,0 +1,51 @@
+package com.lookmarket.api.auth;
+
+import com.lookmarket.api.security.JwtKeyRing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 공개 검증 키 API
+ *
+ * 엔드포인트:
+ * - GET /.well-known/jwks.json: EdDSA 서명 토큰 검증용 공개키 목록 (JWK Set)
+ *
+ * 다른 서비스는 이 키로 토큰을 직접 검증하므로 lookmarket-api를 호출할 필요가 없습니다.
+ * 키 교체 중에도 이전 키로 서명된 토큰을 검증할 수 있도록 키링의 모든 공개키를 내려줍니다.
+ * HMAC 키는 공개하지 않으므로 HS 모드에서는 빈 목록을 반환합니다.
+ */
+@RestController
+public class JwksController {
+
+    private final JwtKeyRing keyRing;
+    private final CacheControl cacheControl;
+
+    public JwksController(
+            JwtKeyRing keyRing,
+            @Value("${jwt.jwks.max-age:300s}") Duration maxAge
+    ) {
+        this.keyRing = keyRing;
+        // 키 교체 직후 캐시가 만료되기 전까지는 이전 목록이 보일 수 있으므로
+        // 새 키는 max-age 이상 먼저 등록해 두고 서명 키로 전환해야 합니다.
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    /**
+     * JWK Set 조회 (ETag가 같으면 304 Not Modified)
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> jwks() {
+        JwtKeyRing.JsonWebKeySet keySet = keyRing.jsonWebKeySet();
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(keySet.etag())
+                .body(Map.of("keys", keySet.keys()));
+    }
+}
@@ -0,0 +1,95 @@
+package com.lookmarket.api.auth;
+
+import com.lookmarket.domain.auth.LoginAttemptLimit;
+import com.lookmarket.domain.auth.LoginAttemptLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 시도 제한 (클라이언트 IP + 이메일)
+ *
+ * AuthService.authenticate 전에 호출되어, 제한을 넘은 요청은 사용자 조회와
+ * BCrypt 검증 없이 429로 거부합니다.
+ *
+ * - IP 버킷: 한 클라이언트가 여러 계정을 대입하는 경우
+ * - 이메일 버킷: 여러 IP에서 한 계정을 대입하는 경우
+ *
+ * 결과별 건수는 Micrometer 카운터(auth.login.throttle{scope, result})로 노출됩니다.
+ * auth.login-throttle.enabled=false 이면 모든 요청을 허용합니다.
+ */
+@Component
+public class LoginThrottle implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginThrottle.class);
+
+    private final LoginAttemptLimiter limiter;
+    private final boolean enabled;
+    private final LoginAttemptLimit ipLimit;
+    private final LoginAttemptLimit emailLimit;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejectedByIp = new LongAdder();
+    private final LongAdder rejectedByEmail = new LongAdder();
+
+    public LoginThrottle(
+            LoginAttemptLimiter limiter,
+            @Value("${auth.login-throttle.enabled:true}") boolean enabled,
+            @Value("${auth.login-throttle.ip.capacity:20}") int ipCapacity,
+            @Value("${auth.login-throttle.ip.refill-interval:3s}") Duration ipRefillInterval,
+            @Value("${auth.login-throttle.email.capacity:5}") int emailCapacity,
+            @Value("${auth.login-throttle.email.refill-interval:60s}") Duration emailRefillInterval
+    ) {
+        this.limiter = limiter;
+        this.enabled = enabled;
+        this.ipLimit = new LoginAttemptLimit(ipCapacity, ipRefillInterval);
+        this.emailLimit = new LoginAttemptLimit(emailCapacity, emailRefillInterval);
+    }
+
+    /**
+     * 로그인 시도 한 번 차감
+     *
+     * @param email 로그인 이메일
+     * @param clientIp 클라이언트 IP
+     * @throws TooManyLoginAttemptsException 제한을 넘은 경우
+     */
+    public void acquire(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        if (!limiter.tryAcquire("ip:" + clientIp, ipLimit)) {
+            rejectedByIp.increment();
+            log.debug("로그인 시도 제한 (IP): {}", clientIp);
+            throw new TooManyLoginAttemptsException(ipLimit.refillInterval());
+        }
+        if (!limiter.tryAcquire("email:" + email.trim().toLowerCase(Locale.ROOT), emailLimit)) {
+            rejectedByEmail.increment();
+            log.debug("로그인 시도 제한 (email): {}", email);
+            throw new TooManyLoginAttemptsException(emailLimit.refillInterval());
+        }
+        admitted.increment();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        register(registry, admitted, "all", "admitted");
+        register(registry, rejectedByIp, "ip", "rejected");
+        register(registry, rejectedByEmail, "email", "rejected");
+    }
+
+    private static void register(MeterRegistry registry, LongAdder count, String scope, String result) {
+        FunctionCounter.builder("auth.login.throttle", count, LongAdder::sum)
+                .tag("scope", scope)
+                .tag("result", result)
+                .description("로그인 시도 제한 결과별 건수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,23 @@
+package com.lookmarket.api.auth;
+
+import java.time.Duration;
+
+/**
+ * 로그인 시도 제한 초과 시 발생하는 예외 (429 Too Many Requests)
+ */
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public TooManyLoginAttemptsException(Duration retryAfter) {
+        super("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * 다시 시도할 수 있을 때까지의 시간 (Retry-After 헤더)
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
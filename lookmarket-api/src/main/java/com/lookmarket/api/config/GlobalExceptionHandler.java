@@ -1,8 +1,13 @@
 package com.lookmarket.api.config;
 
+import com.lookmarket.api.auth.TooManyLoginAttemptsException;
+import com.lookmarket.api.security.PasswordHashingRejectedException;
 import com.lookmarket.application.auth.AuthenticationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -10,6 +15,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -36,6 +42,30 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of("AUTHENTICATION_FAILED", e.getMessage()));
     }
 
+    /**
+     * 로그인 시도 제한 초과 예외 처리
+     */
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyLoginAttemptsException(TooManyLoginAttemptsException e) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(ErrorResponse.of("TOO_MANY_REQUESTS", e.getMessage()));
+    }
+
+    /**
+     * 비밀번호 해시 대기열 초과 예외 처리
+     */
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingRejectedException(PasswordHashingRejectedException e) {
+        log.warn("비밀번호 해시 대기열 초과");
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(ErrorResponse.of("SERVICE_BUSY", e.getMessage()));
+    }
+
     /**
      * 유효성 검증 실패 예외 처리
      */
@@ -67,6 +97,24 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of("BAD_REQUEST", e.getMessage()));
     }
 
+    /**
+     * 유니크 키 중복 처리 (Conflict)
+     *
+     * 사전 중복 확인(existsByEmail)과 INSERT/UPDATE 사이에 다른 요청이 같은 값을 먼저 저장한 경우입니다.
+     * 그 밖의 무결성 위반(NOT NULL, CHECK 등)은 서버 오류로 처리합니다.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        if (!isDuplicateKey(e)) {
+            return handleException(e);
+        }
+        log.warn("유니크 키 중복: {}", e.getMostSpecificCause().getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ErrorResponse.of("CONFLICT", "이미 사용 중인 값입니다."));
+    }
+
     /**
      * 기타 예외 처리 (Internal Server Error)
      */
@@ -79,6 +127,25 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of("INTERNAL_ERROR", "서버 오류가 발생했습니다."));
     }
 
+    /**
+     * 중복 키 위반 여부
+     *
+     * JPA 경로는 DuplicateKeyException으로 변환되지 않으므로 SQLException을 직접 확인합니다.
+     * SQLSTATE 23505: 표준 unique violation (H2, PostgreSQL), 오류 코드 1062: MySQL ER_DUP_ENTRY
+     */
+    static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql
+                    && ("23505".equals(sql.getSQLState()) || sql.getErrorCode() == 1062)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * 에러 응답 DTO
      */
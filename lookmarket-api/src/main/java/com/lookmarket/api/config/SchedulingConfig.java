@@ -0,0 +1,15 @@
+package com.lookmarket.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ *
+ * 주기 작업:
+ * - JwtKeyRing: JWT 키 파일 변경 감지 및 재로딩
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,17 +1,22 @@
 package com.lookmarket.api.config;
 
+import com.lookmarket.api.security.BulkheadPasswordEncoder;
 import com.lookmarket.api.security.JwtAuthenticationFilter;
+import com.lookmarket.api.security.PasswordHashingPolicy;
+import com.lookmarket.api.security.PublicEndpoints;
+import com.lookmarket.api.security.SecurityErrorResponses;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 /**
  * Spring Security 설정
  *
@@ -43,22 +48,8 @@ public class SecurityConfig {
 
                 // 요청별 인가 설정
                 .authorizeHttpRequests(auth -> auth
-                        // 인증 관련 API는 모두 허용
-                        .requestMatchers("/api/v1/auth/**").permitAll()
-
-                        // 회원가입은 인증 없이 허용 (POST /api/v1/users)
-                        .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/v1/users").permitAll()
-
-                        // Swagger UI 및 API 문서 허용
-                        .requestMatchers(
-                                "/swagger-ui/**",
-                                "/swagger-ui.html",
-                                "/v3/api-docs/**",
-                                "/swagger-resources/**"
-                        ).permitAll()
-
-                        // Actuator 헬스체크 허용
-                        .requestMatchers("/actuator/health").permitAll()
+                        // 인증 API, 회원가입, Swagger, JWKS, 헬스체크 (JWT 필터도 같은 목록으로 건너뜀)
+                        .requestMatchers(PublicEndpoints.INSTANCE).permitAll()
 
                         // 관리자 전용 API
                         .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
@@ -70,25 +61,45 @@ public class SecurityConfig {
                 // JWT 필터 추가 (UsernamePasswordAuthenticationFilter 앞에 위치)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
 
-                // 인증되지 않은 요청에 401 반환 (기본값은 403)
+                // 인증되지 않은 요청에 401, 권한 부족에 403 (미리 만든 JSON 본문)
                 .exceptionHandling(exception -> exception
-                        .authenticationEntryPoint((request, response, authException) -> {
-                            response.setStatus(org.springframework.http.HttpStatus.UNAUTHORIZED.value());
-                            response.setContentType(org.springframework.http.MediaType.APPLICATION_JSON_VALUE);
-                            response.setCharacterEncoding("UTF-8");
-                            response.getWriter().write("{\"code\":\"AUTHENTICATION_REQUIRED\",\"message\":\"인증이 필요합니다.\"}");
-                        })
+                        .authenticationEntryPoint(SecurityErrorResponses.authenticationEntryPoint())
+                        .accessDeniedHandler(SecurityErrorResponses.accessDeniedHandler())
                 );
 
         return http.build();
     }
 
     /**
-     * 비밀번호 암호화를 위한 BCryptPasswordEncoder
-     * strength 10 사용 (기본값)
+     * 비밀번호 해시 알고리즘/비용 정책
+     *
+     * cost가 0이면 기동 시 target-latency에 맞춰 비용을 보정합니다.
+     */
+    @Bean
+    public PasswordHashingPolicy passwordHashingPolicy(
+            @Value("${auth.password-hashing.algorithm:BCRYPT}") PasswordHashingPolicy.Algorithm algorithm,
+            @Value("${auth.password-hashing.cost:0}") int cost,
+            @Value("${auth.password-hashing.target-latency:250ms}") Duration targetLatency
+    ) {
+        return cost > 0
+                ? PasswordHashingPolicy.of(algorithm, cost)
+                : PasswordHashingPolicy.calibrate(algorithm, targetLatency);
+    }
+
+    /**
+     * 비밀번호 암호화를 위한 PasswordEncoder ({id} 접두어 기반 DelegatingPasswordEncoder)
+     *
+     * 해시 작업은 전용 플랫폼 스레드 풀(Bulkhead)에서 실행되어 가상 스레드의 캐리어를 점유하지 않습니다.
+     * 스레드 수를 지정하지 않으면 CPU 코어 수의 절반을 사용합니다 (BulkheadPasswordEncoder.defaultThreads).
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BulkheadPasswordEncoder passwordEncoder(
+            PasswordHashingPolicy passwordHashingPolicy,
+            @Value("${auth.password-hashing.threads:0}") int threads,
+            @Value("${auth.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password-hashing.retry-after:1s}") Duration retryAfter
+    ) {
+        int poolSize = threads > 0 ? threads : BulkheadPasswordEncoder.defaultThreads();
+        return new BulkheadPasswordEncoder(passwordHashingPolicy.encoder(), poolSize, queueCapacity, retryAfter);
     }
 }
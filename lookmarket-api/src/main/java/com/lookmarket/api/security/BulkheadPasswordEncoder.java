@@ -0,0 +1,165 @@
+package com.lookmarket.api.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 해시 전용 스레드 풀(Bulkhead)을 사용하는 PasswordEncoder
+ *
+ * 요청은 가상 스레드에서 처리되므로 BCrypt 같은 CPU 집약 작업을 그대로 실행하면
+ * 동시 로그인 수만큼 캐리어 스레드가 점유되어 가벼운 조회 요청까지 밀립니다.
+ * 이 인코더는 encode/matches를 크기가 고정된 플랫폼 스레드 풀에서 실행하고,
+ * 호출한 가상 스레드는 결과를 기다리는 동안 캐리어 스레드를 반납합니다.
+ *
+ * - 대기열(queue-capacity)이 가득 차면 기다리지 않고 PasswordHashingRejectedException (503)
+ * - 대기열 길이, 대기 시간, 해시 시간, 거부 건수를 Micrometer로 노출 (password.hashing.*)
+ */
+public class BulkheadPasswordEncoder implements PasswordEncoder, MeterBinder, DisposableBean {
+
+    private static final String METRIC_NAME = "password.hashing";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration retryAfter;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * 스레드 수를 지정하지 않았을 때의 기본값: CPU 코어 수의 절반 (최소 1)
+     *
+     * 코어를 모두 해시에 쓰면 가상 스레드의 캐리어 스레드가 CPU를 얻지 못해 다른 요청이 밀리므로
+     * 나머지 절반은 요청 처리에 남겨 둡니다.
+     */
+    public static int defaultThreads() {
+        return defaultThreads(Runtime.getRuntime().availableProcessors());
+    }
+
+    static int defaultThreads(int availableProcessors) {
+        return Math.max(1, availableProcessors / 2);
+    }
+
+    /**
+     * @param delegate 실제 해시 구현 (BCrypt 등)
+     * @param threads 해시 전용 플랫폼 스레드 수
+     * @param queueCapacity 대기열 크기
+     * @param retryAfter 거부 시 안내할 재시도 대기 시간
+     */
+    public BulkheadPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration retryAfter) {
+        this.delegate = delegate;
+        this.retryAfter = retryAfter;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 문자열 검사만 하므로 호출 스레드에서 바로 실행
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitNanos.add(startedAt - submittedAt);
+                try {
+                    return task.call();
+                } finally {
+                    hashNanos.add(System.nanoTime() - startedAt);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingRejectedException(retryAfter);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시에 실패했습니다.", e.getCause());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_NAME + ".queue.size", executor, e -> e.getQueue().size())
+                .description("비밀번호 해시 대기열 길이")
+                .register(registry);
+        Gauge.builder(METRIC_NAME + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해시 중인 스레드 수")
+                .register(registry);
+        FunctionTimer.builder(METRIC_NAME + ".wait", this, e -> e.completed.sum(), e -> e.waitNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("대기열에서 기다린 시간")
+                .register(registry);
+        FunctionTimer.builder(METRIC_NAME + ".duration", this, e -> e.completed.sum(), e -> e.hashNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("해시 계산 시간")
+                .register(registry);
+        FunctionCounter.builder(METRIC_NAME + ".rejected", rejected, LongAdder::sum)
+                .description("대기열이 가득 차 거부된 건수")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.lookmarket.api.security;
+
+import com.lookmarket.domain.user.UserRole;
+
+/**
+ * 압축 Claim 형식 (jwt.claims.format=COMPACT)
+ *
+ * 긴 Claim 이름과 문자열 역할/타입 대신 짧은 키와 숫자 코드를 사용하여
+ * Authorization 헤더 크기와 파싱 비용을 줄입니다.
+ *
+ * 표준 형식: {"sub":"1","email":"..","role":"CUSTOMER","type":"access","iat":..,"exp":..}
+ * 압축 형식: {"v":1,"sub":"1","e":"..","r":0,"t":0,"iat":..,"exp":..}
+ *
+ * sub, jti, iat, exp는 등록된 Claim이라 그대로 둡니다.
+ * 코드 값은 토큰에 기록되므로 한 번 정하면 바꾸지 않습니다 (새 값은 뒤에만 추가).
+ * 검증 측은 두 형식을 모두 읽으므로 발급 형식을 바꿔도 기존 토큰이 계속 유효합니다.
+ */
+final class CompactClaims {
+
+    /**
+     * 현재 압축 형식 버전 (v)
+     */
+    static final int VERSION = 1;
+
+    static final String CLAIM_VERSION = "v";
+    static final String CLAIM_EMAIL = "e";
+    static final String CLAIM_ROLE = "r";
+    static final String CLAIM_TYPE = "t";
+
+    static final int TYPE_ACCESS = 0;
+    static final int TYPE_REFRESH = 1;
+
+    /**
+     * 코드 순서 = 역할 코드 (UserRole 선언 순서와 무관)
+     */
+    private static final String[] ROLES = {
+            UserRole.CUSTOMER.name(),
+            UserRole.SELLER.name(),
+            UserRole.ADMIN.name()
+    };
+
+    private CompactClaims() {
+    }
+
+    /**
+     * 역할 코드, 코드가 없는 역할이면 -1 (문자열 그대로 기록)
+     */
+    static int roleCode(String role) {
+        for (int code = 0; code < ROLES.length; code++) {
+            if (ROLES[code].equals(role)) {
+                return code;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 코드에 해당하는 역할 이름, 알 수 없는 코드면 null
+     */
+    static String roleName(int code) {
+        return code >= 0 && code < ROLES.length ? ROLES[code] : null;
+    }
+
+    /**
+     * 코드에 해당하는 토큰 타입, 알 수 없는 코드면 null
+     */
+    static String typeName(int code) {
+        return switch (code) {
+            case TYPE_ACCESS -> VerifiedToken.TYPE_ACCESS;
+            case TYPE_REFRESH -> VerifiedToken.TYPE_REFRESH;
+            default -> null;
+        };
+    }
+
+    /**
+     * 지원하는 형식 버전인지 확인
+     */
+    static boolean isSupported(int version) {
+        return version == VERSION;
+    }
+}
@@ -0,0 +1,78 @@
+package com.lookmarket.api.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.io.Serial;
+import java.util.Collection;
+
+/**
+ * 검증된 JWT로 만든 Authentication
+ *
+ * UsernamePasswordAuthenticationToken은 생성할 때마다 권한 목록을 복사하고 details 등
+ * 사용하지 않는 필드를 가집니다. 이 구현은 JwtUserDetails 하나만 감싸고
+ * 권한은 RoleAuthorities의 공유 목록을 그대로 반환합니다.
+ *
+ * 토큰 검증이 끝난 뒤에만 생성되므로 항상 인증된 상태로 시작합니다.
+ */
+public final class JwtAuthentication implements Authentication {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final JwtUserDetails principal;
+    private volatile boolean authenticated = true;
+
+    public JwtAuthentication(JwtUserDetails principal) {
+        this.principal = principal;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return principal.getAuthorities();
+    }
+
+    /**
+     * JWT 인증은 자격 증명(비밀번호)을 보관하지 않음
+     */
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public JwtUserDetails getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    /**
+     * 인증 해제만 허용 (UsernamePasswordAuthenticationToken과 같은 규칙)
+     */
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (isAuthenticated) {
+            throw new IllegalArgumentException("JwtAuthentication은 인증된 상태로만 생성할 수 있습니다.");
+        }
+        this.authenticated = false;
+    }
+
+    @Override
+    public String getName() {
+        return principal.getUsername();
+    }
+
+    @Override
+    public String toString() {
+        return "JwtAuthentication[userId=" + principal.getUserId() + ", role=" + principal.getRole() + "]";
+    }
+}
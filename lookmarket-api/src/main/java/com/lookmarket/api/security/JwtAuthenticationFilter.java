@@ -6,21 +6,30 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * JWT 토큰 검증 필터
  *
- * 모든 HTTP 요청에서 Authorization 헤더의 JWT 토큰을 검증하고,
+ * 인증이 필요한 HTTP 요청에서 Authorization 헤더의 JWT 토큰을 검증하고,
  * 유효한 경우 SecurityContext에 Authentication을 설정합니다.
+ * PublicEndpoints에 해당하는 경로는 필터를 건너뜁니다.
  *
  * OncePerRequestFilter를 상속하여 요청당 한 번만 실행됩니다.
+ * 이미 검증한 토큰은 VerifiedTokenCache에서 꺼내 서명 검증을 생략합니다.
+ * 캐시 적중 여부와 관계없이 TokenRevocationChecker로 폐기 여부를 확인합니다.
+ *
+ * SecurityContextHolderStrategy 빈이 있으면(예: ScopedValue 전략) 그 전략에 인증 정보를 저장합니다.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -30,9 +39,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationChecker tokenRevocationChecker;
+    private SecurityContextHolderStrategy securityContextHolderStrategy = SecurityContextHolder.getContextHolderStrategy();
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthenticationFilter(
+            JwtTokenProvider jwtTokenProvider,
+            VerifiedTokenCache verifiedTokenCache,
+            TokenRevocationChecker tokenRevocationChecker
+    ) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationChecker = tokenRevocationChecker;
+    }
+
+    @Autowired(required = false)
+    public void setSecurityContextHolderStrategy(SecurityContextHolderStrategy securityContextHolderStrategy) {
+        this.securityContextHolderStrategy = securityContextHolderStrategy;
+    }
+
+    /**
+     * 인증 없이 허용되는 경로(헬스체크, 로그인 등)는 토큰을 확인하지 않음
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicEndpoints.INSTANCE.matches(request);
     }
 
     @Override
@@ -44,21 +75,60 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            // Access Token인지 확인
-            String tokenType = jwtTokenProvider.getTokenType(token);
-            if ("access".equals(tokenType)) {
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (StringUtils.hasText(token)) {
+            Authentication authentication = authenticate(token);
+            if (authentication != null) {
+                SecurityContext context = securityContextHolderStrategy.createEmptyContext();
+                context.setAuthentication(authentication);
+                securityContextHolderStrategy.setContext(context);
                 log.debug("SecurityContext에 인증 정보를 저장했습니다: {}", authentication.getName());
-            } else {
-                log.warn("Access Token이 아닌 토큰으로 인증 시도: type={}", tokenType);
             }
         }
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 토큰으로 Authentication 생성 (캐시 우선)
+     *
+     * @param token JWT 토큰
+     * @return Authentication, 유효한 Access Token이 아니거나 폐기되었으면 null
+     */
+    private Authentication authenticate(String token) {
+        VerifiedTokenCache.Entry cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return isRevoked(cached.verifiedToken()) ? null : cached.authentication();
+        }
+
+        // 서명 검증과 Claim 추출을 한 번에 수행
+        Optional<VerifiedToken> verifiedToken = jwtTokenProvider.verify(token);
+        if (verifiedToken.isEmpty()) {
+            return null;
+        }
+
+        // Access Token인지 확인
+        if (!verifiedToken.get().isAccessToken()) {
+            log.warn("Access Token이 아닌 토큰으로 인증 시도: type={}", verifiedToken.get().type());
+            return null;
+        }
+
+        if (isRevoked(verifiedToken.get())) {
+            return null;
+        }
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(verifiedToken.get());
+        verifiedTokenCache.put(token, verifiedToken.get(), authentication);
+        return authentication;
+    }
+
+    private boolean isRevoked(VerifiedToken verifiedToken) {
+        if (tokenRevocationChecker.isRevoked(verifiedToken)) {
+            log.debug("폐기된 토큰으로 인증 시도: userId={}", verifiedToken.userId());
+            return true;
+        }
+        return false;
+    }
+
     /**
      * HTTP 요청 헤더에서 Bearer 토큰 추출
      *
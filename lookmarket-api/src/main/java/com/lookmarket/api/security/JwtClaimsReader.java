@@ -0,0 +1,87 @@
+package com.lookmarket.api.security;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT Payload에서 필요한 Claim만 읽는 스트리밍 리더
+ *
+ * Map 기반 Claims 객체를 만들지 않고 Jackson 스트리밍 파서로
+ * sub, email, role, type, jti, fid, iat, exp 만 추출합니다. 나머지 필드는 건너뜁니다.
+ * 압축 형식(v, e, r, t)도 함께 읽으므로 두 형식의 토큰이 섞여 있어도 됩니다.
+ */
+final class JwtClaimsReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private JwtClaimsReader() {
+    }
+
+    /**
+     * Payload JSON을 VerifiedToken으로 변환
+     *
+     * @param json Payload JSON 바이트
+     * @param length 유효 길이
+     * @return VerifiedToken, 형식이 올바르지 않으면 null
+     */
+    static VerifiedToken read(byte[] json, int length) {
+        Long userId = null;
+        String email = null;
+        String role = null;
+        String type = null;
+        String tokenId = null;
+        String familyId = null;
+        Instant issuedAt = null;
+        Instant expiresAt = null;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(json, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case CompactClaims.CLAIM_VERSION -> {
+                        if (value != JsonToken.VALUE_NUMBER_INT || !CompactClaims.isSupported(parser.getIntValue())) {
+                            return null;
+                        }
+                    }
+                    case CompactClaims.CLAIM_EMAIL -> email = textOrNull(parser, value);
+                    case CompactClaims.CLAIM_ROLE -> role = value == JsonToken.VALUE_NUMBER_INT
+                            ? CompactClaims.roleName(parser.getIntValue()) : textOrNull(parser, value);
+                    case CompactClaims.CLAIM_TYPE -> type = value == JsonToken.VALUE_NUMBER_INT
+                            ? CompactClaims.typeName(parser.getIntValue()) : null;
+                    case "sub" -> userId = value == JsonToken.VALUE_STRING ? Long.parseLong(parser.getText()) : null;
+                    case "email" -> email = textOrNull(parser, value);
+                    case "role" -> role = textOrNull(parser, value);
+                    case "type" -> type = textOrNull(parser, value);
+                    case "jti" -> tokenId = textOrNull(parser, value);
+                    case VerifiedToken.CLAIM_FAMILY_ID -> familyId = textOrNull(parser, value);
+                    case "iat" -> issuedAt = epochSecondOrNull(parser, value);
+                    case "exp" -> expiresAt = epochSecondOrNull(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            return null;
+        }
+
+        if (userId == null || expiresAt == null) {
+            return null;
+        }
+        return new VerifiedToken(userId, email, role, type, tokenId, familyId, issuedAt, expiresAt);
+    }
+
+    private static String textOrNull(JsonParser parser, JsonToken value) throws IOException {
+        return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+    }
+
+    private static Instant epochSecondOrNull(JsonParser parser, JsonToken value) throws IOException {
+        return value == JsonToken.VALUE_NUMBER_INT ? Instant.ofEpochSecond(parser.getLongValue()) : null;
+    }
+}
@@ -0,0 +1,202 @@
+package com.lookmarket.api.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 고정된 Claim 구성의 JWT를 직접 직렬화하고 서명하는 라이터
+ *
+ * jjwt 빌더는 Claim Map 생성, Jackson 직렬화, Date 생성, 범용 Base64 인코딩을 토큰마다 반복합니다.
+ * 이 라이터는 Payload JSON을 바이트 버퍼에 바로 쓰고, 키링이 미리 만들어 둔 헤더 세그먼트 뒤에
+ * Base64URL로 인코딩한 뒤 서명합니다.
+ *
+ * - 출력은 jjwt 빌더와 같은 필드 순서/이스케이프 규칙을 따르므로 같은 입력이면 같은 토큰이 나옵니다.
+ * - 값이 null인 Claim은 jjwt와 마찬가지로 생략합니다.
+ * - 버퍼는 토큰마다 하나씩 할당합니다. ThreadLocal 재사용은 가상 스레드에서 효과가 없고,
+ *   200바이트 남짓한 배열은 TLAB 할당이라 풀링보다 저렴합니다.
+ *
+ * 인스턴스는 토큰 하나를 만드는 동안만 사용하며 thread-safe 하지 않습니다.
+ */
+final class JwtClaimsWriter {
+
+    private static final byte[] BASE64_URL_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * 지원하는 서명 최대 길이 (HS512, Ed25519 모두 64바이트)
+     */
+    private static final int MAX_SIGNATURE_LENGTH = 64;
+
+    private byte[] buffer = new byte[192];
+    private int position;
+
+    JwtClaimsWriter() {
+        buffer[position++] = '{';
+    }
+
+    /**
+     * 문자열 Claim 추가 (null이면 생략)
+     */
+    JwtClaimsWriter claim(String name, String value) {
+        if (value == null) {
+            return this;
+        }
+        writeName(name);
+        writeString(value);
+        return this;
+    }
+
+    /**
+     * 숫자 Claim 추가 (iat, exp 등 초 단위 시각)
+     */
+    JwtClaimsWriter claim(String name, long value) {
+        writeName(name);
+        writeAscii(Long.toString(value));
+        return this;
+    }
+
+    /**
+     * 헤더.Payload.서명 형태의 토큰 생성
+     *
+     * @param signer 서명 키와 헤더 세그먼트
+     * @return JWS Compact 토큰
+     */
+    String sign(JwtKeyRing.Signer signer) {
+        ensureCapacity(1);
+        buffer[position++] = '}';
+
+        byte[] header = signer.encodedHeader();
+        int payloadLength = encodedLength(position);
+        byte[] token = new byte[header.length + 1 + payloadLength + 1 + encodedLength(MAX_SIGNATURE_LENGTH)];
+
+        System.arraycopy(header, 0, token, 0, header.length);
+        int offset = header.length;
+        token[offset++] = '.';
+        offset = encodeBase64Url(buffer, position, token, offset);
+
+        byte[] signature = signer.key().sign(token, 0, offset);
+        if (signature.length > MAX_SIGNATURE_LENGTH) {
+            throw new IllegalStateException("지원하지 않는 서명 길이입니다: " + signature.length);
+        }
+        token[offset++] = '.';
+        offset = encodeBase64Url(signature, signature.length, token, offset);
+
+        return new String(token, 0, offset, StandardCharsets.ISO_8859_1);
+    }
+
+    private void writeName(String name) {
+        ensureCapacity(1);
+        if (position > 1) {
+            buffer[position++] = ',';
+        }
+        writeString(name);
+        ensureCapacity(1);
+        buffer[position++] = ':';
+    }
+
+    /**
+     * jjwt(Jackson)와 같은 규칙의 JSON 문자열
+     *
+     * ", \\, 제어 문자와 보조 평면 문자(서로게이트 쌍)는 이스케이프하고 나머지는 UTF-8로 씁니다.
+     */
+    private void writeString(String value) {
+        ensureCapacity(value.length() * 6 + 2);
+        buffer[position++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isSurrogate(c)) {
+                writeUnicodeEscape(c);
+            } else if (c >= 0x800) {
+                buffer[position++] = (byte) (0xE0 | c >> 12);
+                buffer[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                buffer[position++] = (byte) (0x80 | c & 0x3F);
+            } else if (c >= 0x80) {
+                buffer[position++] = (byte) (0xC0 | c >> 6);
+                buffer[position++] = (byte) (0x80 | c & 0x3F);
+            } else if (c == '"' || c == '\\') {
+                buffer[position++] = '\\';
+                buffer[position++] = (byte) c;
+            } else if (c < 0x20) {
+                writeControlCharacter(c);
+            } else {
+                buffer[position++] = (byte) c;
+            }
+        }
+        buffer[position++] = '"';
+    }
+
+    private void writeControlCharacter(char c) {
+        char shortEscape = switch (c) {
+            case '\b' -> 'b';
+            case '\t' -> 't';
+            case '\n' -> 'n';
+            case '\f' -> 'f';
+            case '\r' -> 'r';
+            default -> 0;
+        };
+        if (shortEscape == 0) {
+            writeUnicodeEscape(c);
+            return;
+        }
+        buffer[position++] = '\\';
+        buffer[position++] = (byte) shortEscape;
+    }
+
+    private void writeUnicodeEscape(char c) {
+        buffer[position++] = '\\';
+        buffer[position++] = 'u';
+        buffer[position++] = HEX[c >> 12];
+        buffer[position++] = HEX[c >> 8 & 0xF];
+        buffer[position++] = HEX[c >> 4 & 0xF];
+        buffer[position++] = HEX[c & 0xF];
+    }
+
+    private void writeAscii(String value) {
+        ensureCapacity(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            buffer[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+
+    /**
+     * 패딩 없는 Base64URL 인코딩 길이
+     */
+    private static int encodedLength(int length) {
+        return (length / 3) * 4 + (length % 3 == 0 ? 0 : length % 3 + 1);
+    }
+
+    /**
+     * 패딩 없는 Base64URL 인코딩 (대상 배열의 지정 위치부터 기록)
+     *
+     * @return 기록이 끝난 다음 위치
+     */
+    private static int encodeBase64Url(byte[] source, int length, byte[] target, int offset) {
+        int i = 0;
+        for (; i + 3 <= length; i += 3) {
+            int bits = (source[i] & 0xFF) << 16 | (source[i + 1] & 0xFF) << 8 | (source[i + 2] & 0xFF);
+            target[offset++] = BASE64_URL_ALPHABET[bits >>> 18];
+            target[offset++] = BASE64_URL_ALPHABET[bits >>> 12 & 0x3F];
+            target[offset++] = BASE64_URL_ALPHABET[bits >>> 6 & 0x3F];
+            target[offset++] = BASE64_URL_ALPHABET[bits & 0x3F];
+        }
+        int remaining = length - i;
+        if (remaining == 1) {
+            int bits = (source[i] & 0xFF) << 16;
+            target[offset++] = BASE64_URL_ALPHABET[bits >>> 18];
+            target[offset++] = BASE64_URL_ALPHABET[bits >>> 12 & 0x3F];
+        } else if (remaining == 2) {
+            int bits = (source[i] & 0xFF) << 16 | (source[i + 1] & 0xFF) << 8;
+            target[offset++] = BASE64_URL_ALPHABET[bits >>> 18];
+            target[offset++] = BASE64_URL_ALPHABET[bits >>> 12 & 0x3F];
+            target[offset++] = BASE64_URL_ALPHABET[bits >>> 6 & 0x3F];
+        }
+        return offset;
+    }
+}
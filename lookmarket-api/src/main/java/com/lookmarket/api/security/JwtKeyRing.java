@@ -0,0 +1,466 @@
+package com.lookmarket.api.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.MacAlgorithm;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * JWT 서명 키링 (kid 기반 키 선택 + 무중단 키 교체)
+ *
+ * - 서명 키 1개, 검증 키 여러 개를 보관하며 모든 토큰 헤더에 kid를 기록합니다.
+ * - 검증 시 헤더 세그먼트(Base64URL 문자열)로 키를 바로 찾습니다. (HashMap O(1), 키 순회 없음)
+ * - jwt.keys.file 로 지정한 파일이 바뀌면 재시작 없이 키를 다시 읽습니다.
+ *
+ * 키 파일 형식 (Properties):
+ * <pre>
+ * signing-key-id=2026-10
+ * keys.2026-10=새-서명-키-문자열
+ * keys.2026-04=이전-키-문자열 (검증만)
+ * eddsa.ed-2026-10.private=Base64(PKCS#8 Ed25519 개인키)
+ * eddsa.ed-2026-10.public=Base64(X.509 Ed25519 공개키)
+ * eddsa.ed-2026-04.public=... (개인키 없이 공개키만 두면 검증 전용)
+ * </pre>
+ *
+ * jwt.secret 키는 항상 jwt.key-id(기본 "default")로 등록되며,
+ * kid가 없는 기존 토큰은 이 키로 검증합니다.
+ * 교체 절차: 새 키를 추가 → signing-key-id 변경 → Access Token 만료 시간이 지난 뒤 이전 키 제거.
+ *
+ * 서명 방식 (jwt.signing-algorithm):
+ * - HS (기본): 공유 비밀키로 서명. 검증하려는 서비스도 비밀키가 필요합니다.
+ * - EdDSA: Ed25519 개인키로 서명하고 공개키를 /.well-known/jwks.json 으로 공개합니다.
+ *   키 파일이 없으면 기동 시 임시 키 쌍을 생성합니다. (재시작/다중 인스턴스 간 공유 불가, 로컬 개발용)
+ */
+@Component
+public class JwtKeyRing {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    public static final String DEFAULT_KEY_ID = "default";
+
+    private static final String SIGNING_KEY_ID_PROPERTY = "signing-key-id";
+    private static final String KEY_PROPERTY_PREFIX = "keys.";
+    private static final String EDDSA_PROPERTY_PREFIX = "eddsa.";
+    private static final String EDDSA_PRIVATE_SUFFIX = ".private";
+    private static final String EDDSA_PUBLIC_SUFFIX = ".public";
+    private static final String EDDSA_JCA_ALGORITHM = "Ed25519";
+
+    /**
+     * X.509 SubjectPublicKeyInfo로 인코딩된 Ed25519 공개키 중 원시 공개키(32바이트)를 제외한 접두부 길이
+     */
+    private static final int ED25519_X509_PREFIX_LENGTH = 12;
+
+    /**
+     * 키마다 보관하는 유휴 Mac 인스턴스 최대 수 (동시 서명/검증 수만큼이면 충분)
+     */
+    private static final int MAX_IDLE_MACS = Runtime.getRuntime().availableProcessors() * 4;
+
+    private final String defaultKeyId;
+    private final SecretKey defaultSecretKey;
+    private final Path keysFile;
+    private final SigningAlgorithm signingAlgorithm;
+    private final KeyPair ephemeralKeyPair;
+    private final String ephemeralKeyId;
+    private final Map<String, PooledHmacAlgorithm> algorithms = new HashMap<>();
+
+    private volatile Snapshot snapshot;
+    private volatile FileTime keysFileModifiedAt;
+
+    public JwtKeyRing(String secret, String defaultKeyId, String keysFile) {
+        this(secret, defaultKeyId, keysFile, SigningAlgorithm.HS);
+    }
+
+    @Autowired
+    public JwtKeyRing(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.key-id:" + DEFAULT_KEY_ID + "}") String defaultKeyId,
+            @Value("${jwt.keys.file:}") String keysFile,
+            @Value("${jwt.signing-algorithm:HS}") SigningAlgorithm signingAlgorithm
+    ) {
+        this.defaultKeyId = defaultKeyId;
+        this.defaultSecretKey = JwtSigningKey.hmacKey(secret);
+        this.keysFile = StringUtils.hasText(keysFile) ? Path.of(keysFile) : null;
+        this.signingAlgorithm = signingAlgorithm;
+
+        if (signingAlgorithm == SigningAlgorithm.EdDSA && this.keysFile == null) {
+            log.warn("jwt.keys.file 없이 EdDSA 모드로 기동합니다. 임시 키로 서명하므로 재시작하면 기존 토큰이 무효화됩니다.");
+            this.ephemeralKeyPair = JwtSigningKey.EdDsa.generateKeyPair();
+            this.ephemeralKeyId = "ephemeral-" + Instant.now().getEpochSecond();
+        } else {
+            this.ephemeralKeyPair = null;
+            this.ephemeralKeyId = null;
+        }
+
+        for (MacAlgorithm standard : List.of(Jwts.SIG.HS256, Jwts.SIG.HS384, Jwts.SIG.HS512)) {
+            algorithms.put(standard.getId(), new PooledHmacAlgorithm(standard, this::macPoolFor));
+        }
+
+        // 기동 시 키 파일 오류는 즉시 실패
+        try {
+            reload();
+        } catch (IOException e) {
+            throw new IllegalStateException("JWT 키 파일을 읽을 수 없습니다: " + keysFile, e);
+        }
+    }
+
+    /**
+     * 서명 방식
+     */
+    public enum SigningAlgorithm {
+        /** HMAC-SHA (공유 비밀키) */
+        HS,
+        /** Ed25519 (공개키 검증) */
+        EdDSA
+    }
+
+    /**
+     * JWKS 응답 내용과 ETag
+     *
+     * @param keys 공개키 JWK 목록 (HMAC 키는 포함하지 않음)
+     * @param etag 키 목록이 바뀔 때만 달라지는 값
+     */
+    public record JsonWebKeySet(List<Map<String, Object>> keys, String etag) {
+    }
+
+    /**
+     * jwt.secret 하나만 사용하는 키링
+     */
+    public static JwtKeyRing of(String secret) {
+        return new JwtKeyRing(secret, DEFAULT_KEY_ID, "");
+    }
+
+    /**
+     * 현재 서명 키
+     */
+    JwtSigningKey signingKey() {
+        return snapshot.signer().key();
+    }
+
+    /**
+     * 현재 서명 키와 그 키로 발급할 토큰의 헤더 세그먼트
+     *
+     * 키와 헤더를 같은 스냅샷에서 꺼내므로 키 교체 중에도 서로 어긋나지 않습니다.
+     */
+    Signer signer() {
+        return snapshot.signer();
+    }
+
+    /**
+     * 토큰의 헤더 세그먼트로 검증 키 조회
+     *
+     * @param token JWT 토큰
+     * @param headerEnd 첫 번째 '.' 위치
+     * @return 검증 키, 등록되지 않은 헤더(알 수 없는 kid, 다른 alg 등)면 null
+     */
+    JwtSigningKey findByEncodedHeader(String token, int headerEnd) {
+        return snapshot.byEncodedHeader().get(token.substring(0, headerEnd));
+    }
+
+    /**
+     * kid로 검증 키 조회
+     */
+    JwtSigningKey findByKeyId(String keyId) {
+        return snapshot.byKeyId().get(keyId != null ? keyId : defaultKeyId);
+    }
+
+    /**
+     * jjwt 파서에 등록할 풀링 MacAlgorithm 목록
+     */
+    Collection<PooledHmacAlgorithm> algorithms() {
+        return algorithms.values();
+    }
+
+    /**
+     * jjwt 파서용 키 Locator (헤더 kid → 검증 키)
+     */
+    Locator<Key> keyLocator() {
+        return new LocatorAdapter<>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                JwtSigningKey key = findByKeyId(header.getKeyId());
+                return key != null ? key.verificationKey() : null;
+            }
+        };
+    }
+
+    /**
+     * 등록된 kid 목록
+     */
+    public Collection<String> keyIds() {
+        return snapshot.byKeyId().keySet();
+    }
+
+    /**
+     * 공개 검증 키 목록 (/.well-known/jwks.json)
+     */
+    public JsonWebKeySet jsonWebKeySet() {
+        return snapshot.jsonWebKeySet();
+    }
+
+    /**
+     * 현재 서명 키의 kid
+     */
+    public String signingKeyId() {
+        return snapshot.signer().key().keyId();
+    }
+
+    /**
+     * 키 파일이 바뀌었으면 다시 읽기 (jwt.keys.reload-interval 간격)
+     *
+     * 읽기에 실패하면 기존 키를 그대로 사용합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.reload-interval:30000}")
+    public void reloadIfModified() {
+        if (keysFile == null) {
+            return;
+        }
+        try {
+            FileTime modifiedAt = Files.getLastModifiedTime(keysFile);
+            if (!modifiedAt.equals(keysFileModifiedAt)) {
+                reload();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("JWT 키 파일을 다시 읽지 못했습니다. 기존 키를 유지합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 키 파일을 읽어 키링 교체
+     */
+    public synchronized void reload() throws IOException {
+        Map<String, KeyMaterial> materials = new HashMap<>();
+        materials.put(defaultKeyId, new KeyMaterial(defaultSecretKey, null, null));
+        String signingKeyId = defaultKeyId;
+        if (ephemeralKeyPair != null) {
+            materials.put(ephemeralKeyId,
+                    new KeyMaterial(null, ephemeralKeyPair.getPrivate(), ephemeralKeyPair.getPublic()));
+            signingKeyId = ephemeralKeyId;
+        }
+
+        if (keysFile != null) {
+            FileTime modifiedAt = Files.getLastModifiedTime(keysFile);
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(keysFile)) {
+                properties.load(reader);
+            }
+            readKeys(properties, materials);
+            signingKeyId = properties.getProperty(SIGNING_KEY_ID_PROPERTY, defaultKeyId);
+            keysFileModifiedAt = modifiedAt;
+        }
+
+        Snapshot previous = this.snapshot;
+        Map<String, JwtSigningKey> byKeyId = new HashMap<>();
+        Map<String, JwtSigningKey> byEncodedHeader = new HashMap<>();
+        Map<SecretKey, MacPool> macPools = new HashMap<>();
+
+        for (Map.Entry<String, KeyMaterial> entry : materials.entrySet()) {
+            JwtSigningKey key = reuseOrCreate(previous, entry.getKey(), entry.getValue());
+            byKeyId.put(key.keyId(), key);
+            if (key instanceof JwtSigningKey.Hmac hmac) {
+                macPools.put(hmac.secretKey(), hmac.macPool());
+            }
+        }
+
+        JwtSigningKey signingKey = byKeyId.get(signingKeyId);
+        if (signingKey == null || !signingKey.canSign()) {
+            throw new IllegalArgumentException("서명 가능한 키가 키링에 없습니다: " + signingKeyId);
+        }
+        if (signingAlgorithm == SigningAlgorithm.EdDSA && !(signingKey instanceof JwtSigningKey.EdDsa)) {
+            throw new IllegalArgumentException("EdDSA 모드에서는 Ed25519 키로 서명해야 합니다: " + signingKeyId);
+        }
+
+        String signingHeader = null;
+        for (JwtSigningKey key : byKeyId.values()) {
+            String header = encodedHeader(key, true);
+            byEncodedHeader.put(header, key);
+            if (key == signingKey) {
+                signingHeader = header;
+            }
+            if (key.keyId().equals(defaultKeyId)) {
+                // kid 도입 이전에 발급된 토큰 ({"alg":"HSxxx"})
+                byEncodedHeader.put(encodedHeader(key, false), key);
+            }
+        }
+
+        this.snapshot = new Snapshot(Map.copyOf(byKeyId), Map.copyOf(byEncodedHeader), Map.copyOf(macPools),
+                new Signer(signingKey, signingHeader.getBytes(StandardCharsets.US_ASCII)),
+                buildJsonWebKeySet(byKeyId.values()));
+        log.info("JWT 키링을 불러왔습니다: keys={}, signingKeyId={}", byKeyId.keySet(), signingKeyId);
+    }
+
+    private void readKeys(Properties properties, Map<String, KeyMaterial> materials) {
+        Map<String, String> edPrivateKeys = new HashMap<>();
+        Map<String, String> edPublicKeys = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            String value = properties.getProperty(name).trim();
+            if (name.startsWith(KEY_PROPERTY_PREFIX)) {
+                String keyId = name.substring(KEY_PROPERTY_PREFIX.length());
+                materials.put(keyId, new KeyMaterial(JwtSigningKey.hmacKey(value), null, null));
+            } else if (name.startsWith(EDDSA_PROPERTY_PREFIX) && name.endsWith(EDDSA_PRIVATE_SUFFIX)) {
+                edPrivateKeys.put(name.substring(EDDSA_PROPERTY_PREFIX.length(),
+                        name.length() - EDDSA_PRIVATE_SUFFIX.length()), value);
+            } else if (name.startsWith(EDDSA_PROPERTY_PREFIX) && name.endsWith(EDDSA_PUBLIC_SUFFIX)) {
+                edPublicKeys.put(name.substring(EDDSA_PROPERTY_PREFIX.length(),
+                        name.length() - EDDSA_PUBLIC_SUFFIX.length()), value);
+            }
+        }
+
+        for (Map.Entry<String, String> entry : edPublicKeys.entrySet()) {
+            String keyId = entry.getKey();
+            String privateKey = edPrivateKeys.remove(keyId);
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance(EDDSA_JCA_ALGORITHM);
+                PublicKey publicKey = keyFactory.generatePublic(
+                        new X509EncodedKeySpec(Base64.getDecoder().decode(entry.getValue())));
+                PrivateKey signing = privateKey == null ? null : keyFactory.generatePrivate(
+                        new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privateKey)));
+                materials.put(keyId, new KeyMaterial(null, signing, publicKey));
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                throw new IllegalArgumentException("Ed25519 키를 읽을 수 없습니다: " + keyId, e);
+            }
+        }
+        if (!edPrivateKeys.isEmpty()) {
+            throw new IllegalArgumentException("공개키가 없는 Ed25519 키가 있습니다: " + edPrivateKeys.keySet());
+        }
+    }
+
+    private JwtSigningKey reuseOrCreate(Snapshot previous, String keyId, KeyMaterial material) {
+        JwtSigningKey existing = previous != null ? previous.byKeyId().get(keyId) : null;
+        if (existing != null && material.matches(existing)) {
+            return existing;
+        }
+        if (material.secretKey() == null) {
+            return new JwtSigningKey.EdDsa(keyId, material.privateKey(), material.publicKey());
+        }
+        MacAlgorithm standard = PooledHmacAlgorithm.standardFor(material.secretKey());
+        return new JwtSigningKey.Hmac(keyId, material.secretKey(), algorithms.get(standard.getId()), MAX_IDLE_MACS);
+    }
+
+    /**
+     * jjwt가 실제로 생성하는 헤더 세그먼트
+     *
+     * 헤더 JSON의 필드 순서를 가정하지 않도록 jjwt로 토큰을 한 번 만들어 첫 세그먼트를 사용합니다.
+     * 헤더는 키 재료와 무관하므로 검증 전용 키는 같은 kid의 임시 키로 대신 서명합니다.
+     */
+    private String encodedHeader(JwtSigningKey key, boolean withKeyId) {
+        JwtSigningKey signer = key;
+        if (!key.canSign()) {
+            KeyPair probeKeyPair = JwtSigningKey.EdDsa.generateKeyPair();
+            signer = new JwtSigningKey.EdDsa(key.keyId(), probeKeyPair.getPrivate(), probeKeyPair.getPublic());
+        }
+        var builder = Jwts.builder();
+        if (withKeyId) {
+            builder.header().keyId(key.keyId());
+        }
+        String probe = signer.signWith(builder.subject("probe")).compact();
+        return probe.substring(0, probe.indexOf('.'));
+    }
+
+    /**
+     * Ed25519 공개키를 JWK(OKP, RFC 8037)로 변환
+     */
+    private static JsonWebKeySet buildJsonWebKeySet(Collection<JwtSigningKey> keys) {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        MessageDigest digest = sha256();
+        keys.stream()
+                .filter(key -> key.publicKey() != null)
+                .sorted(Comparator.comparing(JwtSigningKey::keyId))
+                .forEach(key -> {
+                    byte[] encoded = key.publicKey().getEncoded();
+                    byte[] raw = Arrays.copyOfRange(encoded, ED25519_X509_PREFIX_LENGTH, encoded.length);
+                    Map<String, Object> jwk = new LinkedHashMap<>();
+                    jwk.put("kty", "OKP");
+                    jwk.put("crv", EDDSA_JCA_ALGORITHM);
+                    jwk.put("x", Base64.getUrlEncoder().withoutPadding().encodeToString(raw));
+                    jwk.put("kid", key.keyId());
+                    jwk.put("alg", key.algorithmId());
+                    jwk.put("use", "sig");
+                    jwks.add(Collections.unmodifiableMap(jwk));
+                    digest.update(key.keyId().getBytes(StandardCharsets.UTF_8));
+                    digest.update(encoded);
+                });
+        String etag = "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        return new JsonWebKeySet(List.copyOf(jwks), etag);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MacPool macPoolFor(SecretKey secretKey) {
+        Snapshot current = this.snapshot;
+        return current != null ? current.macPools().get(secretKey) : null;
+    }
+
+    /**
+     * 서명 키 + jjwt가 만드는 것과 같은 헤더 세그먼트 (Base64URL, ASCII 바이트)
+     */
+    record Signer(JwtSigningKey key, byte[] encodedHeader) {
+    }
+
+    private record Snapshot(
+            Map<String, JwtSigningKey> byKeyId,
+            Map<String, JwtSigningKey> byEncodedHeader,
+            Map<SecretKey, MacPool> macPools,
+            Signer signer,
+            JsonWebKeySet jsonWebKeySet
+    ) {
+    }
+
+    /**
+     * 파일/설정에서 읽은 키 재료 (HMAC이면 secretKey, Ed25519이면 privateKey/publicKey)
+     */
+    private record KeyMaterial(SecretKey secretKey, PrivateKey privateKey, PublicKey publicKey) {
+
+        boolean matches(JwtSigningKey key) {
+            return switch (key) {
+                case JwtSigningKey.Hmac hmac -> hmac.secretKey().equals(secretKey);
+                case JwtSigningKey.EdDsa edDsa -> edDsa.publicKey().equals(publicKey)
+                        && Objects.equals(edDsa.privateKey(), privateKey);
+            };
+        }
+    }
+}
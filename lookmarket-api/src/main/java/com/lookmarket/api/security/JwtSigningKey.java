@@ -0,0 +1,231 @@
+package com.lookmarket.api.security;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.EdECKey;
+
+/**
+ * 키링에 등록된 서명/검증 키 하나
+ *
+ * - Hmac: 공유 비밀키 (HS256/HS384/HS512), 키에 묶인 MacPool로 서명/검증
+ * - EdDsa: Ed25519 키 쌍, 공개키는 JWKS로 공개되어 다른 서비스가 직접 검증 가능
+ *   (개인키가 없는 항목은 검증 전용)
+ */
+abstract sealed class JwtSigningKey permits JwtSigningKey.Hmac, JwtSigningKey.EdDsa {
+
+    private final String keyId;
+    private final String algorithmId;
+
+    private JwtSigningKey(String keyId, String algorithmId) {
+        this.keyId = keyId;
+        this.algorithmId = algorithmId;
+    }
+
+    /**
+     * 설정 문자열(jwt.secret 형식)에서 HMAC 키 생성
+     *
+     * 키 길이에 따라 HS256/HS384/HS512가 결정됩니다.
+     */
+    static SecretKey hmacKey(String secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(
+                java.util.Base64.getEncoder().encodeToString(secret.getBytes())
+        ));
+    }
+
+    String keyId() {
+        return keyId;
+    }
+
+    String algorithmId() {
+        return algorithmId;
+    }
+
+    /**
+     * 서명 가능 여부 (검증 전용 키는 false)
+     */
+    abstract boolean canSign();
+
+    /**
+     * JwtBuilder에 이 키의 서명 설정 적용
+     */
+    abstract JwtBuilder signWith(JwtBuilder builder);
+
+    /**
+     * jjwt 파서 검증용 키
+     */
+    abstract Key verificationKey();
+
+    /**
+     * JWKS로 공개할 공개키 (HMAC은 null)
+     */
+    abstract PublicKey publicKey();
+
+    /**
+     * header.payload 영역 서명 (검증 전용 키는 IllegalStateException)
+     */
+    abstract byte[] sign(byte[] data, int offset, int length);
+
+    /**
+     * header.payload 영역의 서명 검증
+     */
+    abstract boolean verify(byte[] data, int offset, int length, byte[] signature);
+
+    static final class Hmac extends JwtSigningKey {
+
+        private final SecretKey secretKey;
+        private final PooledHmacAlgorithm algorithm;
+        private final MacPool macPool;
+
+        Hmac(String keyId, SecretKey secretKey, PooledHmacAlgorithm algorithm, int maxIdleMacs) {
+            super(keyId, algorithm.getId());
+            this.secretKey = secretKey;
+            this.algorithm = algorithm;
+            this.macPool = new MacPool(secretKey, maxIdleMacs);
+        }
+
+        SecretKey secretKey() {
+            return secretKey;
+        }
+
+        MacPool macPool() {
+            return macPool;
+        }
+
+        @Override
+        boolean canSign() {
+            return true;
+        }
+
+        @Override
+        JwtBuilder signWith(JwtBuilder builder) {
+            return builder.signWith(secretKey, algorithm);
+        }
+
+        @Override
+        Key verificationKey() {
+            return secretKey;
+        }
+
+        @Override
+        PublicKey publicKey() {
+            return null;
+        }
+
+        @Override
+        byte[] sign(byte[] data, int offset, int length) {
+            return macPool.sign(data, offset, length);
+        }
+
+        /**
+         * 상수 시간 비교
+         */
+        @Override
+        boolean verify(byte[] data, int offset, int length, byte[] signature) {
+            return MessageDigest.isEqual(macPool.sign(data, offset, length), signature);
+        }
+    }
+
+    static final class EdDsa extends JwtSigningKey {
+
+        private static final String JCA_ALGORITHM = "Ed25519";
+        private static final int SIGNATURE_LENGTH = 64;
+
+        private final PrivateKey privateKey;
+        private final PublicKey publicKey;
+
+        /**
+         * @param privateKey 개인키, 검증 전용이면 null
+         */
+        EdDsa(String keyId, PrivateKey privateKey, PublicKey publicKey) {
+            super(keyId, Jwts.SIG.EdDSA.getId());
+            if (!(publicKey instanceof EdECKey edKey) || !JCA_ALGORITHM.equals(edKey.getParams().getName())) {
+                throw new IllegalArgumentException("Ed25519 공개키가 아닙니다: " + keyId);
+            }
+            this.privateKey = privateKey;
+            this.publicKey = publicKey;
+        }
+
+        /**
+         * 새 Ed25519 키 쌍 생성
+         */
+        static KeyPair generateKeyPair() {
+            try {
+                return KeyPairGenerator.getInstance(JCA_ALGORITHM).generateKeyPair();
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Ed25519 키 쌍을 생성할 수 없습니다.", e);
+            }
+        }
+
+        PrivateKey privateKey() {
+            return privateKey;
+        }
+
+        @Override
+        boolean canSign() {
+            return privateKey != null;
+        }
+
+        @Override
+        JwtBuilder signWith(JwtBuilder builder) {
+            if (privateKey == null) {
+                throw new IllegalStateException("검증 전용 키로는 서명할 수 없습니다: " + keyId());
+            }
+            return builder.signWith(privateKey, Jwts.SIG.EdDSA);
+        }
+
+        @Override
+        Key verificationKey() {
+            return publicKey;
+        }
+
+        @Override
+        PublicKey publicKey() {
+            return publicKey;
+        }
+
+        @Override
+        byte[] sign(byte[] data, int offset, int length) {
+            if (privateKey == null) {
+                throw new IllegalStateException("검증 전용 키로는 서명할 수 없습니다: " + keyId());
+            }
+            try {
+                Signature signer = Signature.getInstance(JCA_ALGORITHM);
+                signer.initSign(privateKey);
+                signer.update(data, offset, length);
+                return signer.sign();
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Ed25519 서명에 실패했습니다: " + keyId(), e);
+            }
+        }
+
+        /**
+         * Signature는 thread-safe 하지 않지만 생성 비용이 Ed25519 검증에 비해 작아 풀링하지 않습니다.
+         */
+        @Override
+        boolean verify(byte[] data, int offset, int length, byte[] signature) {
+            if (signature.length != SIGNATURE_LENGTH) {
+                return false;
+            }
+            try {
+                Signature verifier = Signature.getInstance(JCA_ALGORITHM);
+                verifier.initVerify(publicKey);
+                verifier.update(data, offset, length);
+                return verifier.verify(signature);
+            } catch (GeneralSecurityException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -1,48 +1,118 @@
 package com.lookmarket.api.security;
 
-import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.util.Collections;
-import java.util.Date;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * JWT 토큰 생성 및 검증을 담당하는 Provider
  *
  * 책임:
- * - Access Token / Refresh Token 생성
- * - 토큰 유효성 검증
+ * - Access Token / Refresh Token 생성 (JwtClaimsWriter로 직접 직렬화, jjwt 빌더와 같은 결과)
+ * - 토큰 유효성 검증 (예외 없이 결과 코드 반환, kid 헤더로 검증 키 선택)
  * - 토큰에서 사용자 정보 추출
+ *
+ * 발급 Claim 형식은 jwt.claims.format(STANDARD/COMPACT)으로 고르며,
+ * 검증은 형식과 관계없이 두 형식을 모두 받아들입니다 (전환 중 기존 토큰 유지).
  */
 @Component
-public class JwtTokenProvider {
+public class JwtTokenProvider implements MeterBinder {
 
     private static final Logger log = LoggerFactory.getLogger(JwtTokenProvider.class);
 
-    private final SecretKey secretKey;
+    /**
+     * 구조 검사에서 허용하는 최대 토큰 길이 (그 이상은 암호 연산 없이 거부)
+     */
+    private static final int MAX_TOKEN_LENGTH = 8192;
+
+    /**
+     * 같은 종류의 검증 실패 로그 출력 간격
+     */
+    private static final long FAILURE_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private static final Base64.Decoder BASE64_URL = Base64.getUrlDecoder();
+
+    private final JwtKeyRing keyRing;
+    private final JwtParser jwtParser;
+    private final Map<TokenValidationResult.Status, LongAdder> validationCounts =
+            new EnumMap<>(TokenValidationResult.Status.class);
+    private final Map<TokenValidationResult.Status, SampledLogger> failureLoggers =
+            new EnumMap<>(TokenValidationResult.Status.class);
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
+    private final ClaimsFormat claimsFormat;
+
+    /**
+     * 발급 토큰의 Claim 형식 (검증은 형식과 무관하게 둘 다 허용)
+     */
+    public enum ClaimsFormat {
+        /**
+         * email, role, type 등 읽기 쉬운 Claim 이름
+         */
+        STANDARD,
+
+        /**
+         * 짧은 키와 숫자 코드 (CompactClaims 참고)
+         */
+        COMPACT
+    }
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
             @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration
     ) {
-        this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(
-                java.util.Base64.getEncoder().encodeToString(secret.getBytes())
-        ));
+        this(JwtKeyRing.of(secret), accessTokenExpiration, refreshTokenExpiration);
+    }
+
+    public JwtTokenProvider(JwtKeyRing keyRing, long accessTokenExpiration, long refreshTokenExpiration) {
+        this(keyRing, accessTokenExpiration, refreshTokenExpiration, ClaimsFormat.STANDARD);
+    }
+
+    @Autowired
+    public JwtTokenProvider(
+            JwtKeyRing keyRing,
+            @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+            @Value("${jwt.claims.format:STANDARD}") ClaimsFormat claimsFormat
+    ) {
+        this.keyRing = keyRing;
+        this.claimsFormat = claimsFormat;
+
+        // JwtParser는 불변이며 thread-safe 하므로 한 번만 생성하여 재사용
+        // (키는 요청마다 keyLocator가 현재 키링에서 kid로 찾음)
+        var parserBuilder = Jwts.parser();
+        keyRing.algorithms().forEach(algorithm -> parserBuilder.sig().add(algorithm));
+        this.jwtParser = parserBuilder
+                .keyLocator(keyRing.keyLocator())
+                .build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+
+        for (TokenValidationResult.Status status : TokenValidationResult.Status.values()) {
+            validationCounts.put(status, new LongAdder());
+            failureLoggers.put(status, new SampledLogger(log, FAILURE_LOG_INTERVAL_NANOS));
+        }
     }
 
     /**
@@ -54,37 +124,67 @@ public class JwtTokenProvider {
      * @return Access Token
      */
     public String createAccessToken(Long userId, String email, String role) {
-        Date now = new Date();
-        Date expiry = new Date(now.getTime() + accessTokenExpiration);
+        long now = System.currentTimeMillis();
 
-        return Jwts.builder()
-                .subject(String.valueOf(userId))
+        if (claimsFormat == ClaimsFormat.COMPACT) {
+            JwtClaimsWriter writer = new JwtClaimsWriter()
+                    .claim(CompactClaims.CLAIM_VERSION, CompactClaims.VERSION)
+                    .claim("sub", String.valueOf(userId))
+                    .claim(CompactClaims.CLAIM_EMAIL, email);
+            int roleCode = CompactClaims.roleCode(role);
+            if (roleCode >= 0) {
+                writer.claim(CompactClaims.CLAIM_ROLE, roleCode);
+            } else {
+                writer.claim(CompactClaims.CLAIM_ROLE, role);
+            }
+            return writer
+                    .claim(CompactClaims.CLAIM_TYPE, CompactClaims.TYPE_ACCESS)
+                    .claim("iat", now / 1000)
+                    .claim("exp", (now + accessTokenExpiration) / 1000)
+                    .sign(keyRing.signer());
+        }
+
+        return new JwtClaimsWriter()
+                .claim("sub", String.valueOf(userId))
                 .claim("email", email)
                 .claim("role", role)
-                .claim("type", "access")
-                .issuedAt(now)
-                .expiration(expiry)
-                .signWith(secretKey)
-                .compact();
+                .claim("type", VerifiedToken.TYPE_ACCESS)
+                .claim("iat", now / 1000)
+                .claim("exp", (now + accessTokenExpiration) / 1000)
+                .sign(keyRing.signer());
     }
 
     /**
      * Refresh Token 생성
      *
      * @param userId 사용자 ID
+     * @param familyId 패밀리 ID (fid)
+     * @param tokenId 토큰 ID (jti)
      * @return Refresh Token
      */
-    public String createRefreshToken(Long userId) {
-        Date now = new Date();
-        Date expiry = new Date(now.getTime() + refreshTokenExpiration);
+    public String createRefreshToken(Long userId, String familyId, String tokenId) {
+        long now = System.currentTimeMillis();
 
-        return Jwts.builder()
-                .subject(String.valueOf(userId))
-                .claim("type", "refresh")
-                .issuedAt(now)
-                .expiration(expiry)
-                .signWith(secretKey)
-                .compact();
+        if (claimsFormat == ClaimsFormat.COMPACT) {
+            return new JwtClaimsWriter()
+                    .claim(CompactClaims.CLAIM_VERSION, CompactClaims.VERSION)
+                    .claim("sub", String.valueOf(userId))
+                    .claim("jti", tokenId)
+                    .claim(CompactClaims.CLAIM_TYPE, CompactClaims.TYPE_REFRESH)
+                    .claim(VerifiedToken.CLAIM_FAMILY_ID, familyId)
+                    .claim("iat", now / 1000)
+                    .claim("exp", (now + refreshTokenExpiration) / 1000)
+                    .sign(keyRing.signer());
+        }
+
+        return new JwtClaimsWriter()
+                .claim("sub", String.valueOf(userId))
+                .claim("jti", tokenId)
+                .claim("type", VerifiedToken.TYPE_REFRESH)
+                .claim(VerifiedToken.CLAIM_FAMILY_ID, familyId)
+                .claim("iat", now / 1000)
+                .claim("exp", (now + refreshTokenExpiration) / 1000)
+                .sign(keyRing.signer());
     }
 
     /**
@@ -94,24 +194,125 @@ public class JwtTokenProvider {
      * @return 유효 여부
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (ExpiredJwtException e) {
-            log.warn("만료된 JWT 토큰입니다: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            log.warn("지원하지 않는 JWT 토큰입니다: {}", e.getMessage());
-        } catch (MalformedJwtException e) {
-            log.warn("잘못된 형식의 JWT 토큰입니다: {}", e.getMessage());
-        } catch (SignatureException e) {
-            log.warn("JWT 서명 검증에 실패했습니다: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.warn("JWT 토큰이 비어있습니다: {}", e.getMessage());
+        return validate(token).isValid();
+    }
+
+    /**
+     * 토큰을 한 번만 파싱하여 검증된 토큰 정보 반환
+     *
+     * 서명 검증과 Claim 추출을 한 번에 수행합니다.
+     * validateToken → getTokenType → getAuthentication 순서로 호출하면
+     * 같은 토큰을 세 번 파싱하게 되므로, 요청 처리 경로에서는 이 메서드를 사용합니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보, 유효하지 않으면 empty
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        return validate(token).verifiedToken();
+    }
+
+    /**
+     * 예외 없이 토큰을 검증하고 결과 코드 반환
+     *
+     * 비용이 낮은 순서로 검사하여 잘못된 토큰은 암호 연산 전에 걸러냅니다.
+     * 1. 빈 값 → EMPTY
+     * 2. 길이/점 개수/Base64URL 문자 구조 검사 → MALFORMED
+     * 3. 헤더 세그먼트로 키링에서 검증 키 조회, 풀링된 Mac으로 서명 비교 → INVALID_SIGNATURE
+     * 4. Payload 스트리밍 파싱 → MALFORMED
+     * 5. exp 확인 → EXPIRED
+     *
+     * 결과별 건수는 Micrometer 카운터(jwt.validation)로 집계되고,
+     * 실패 로그는 종류별로 일정 간격에 한 번만 출력됩니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증 결과
+     */
+    public TokenValidationResult validate(String token) {
+        TokenValidationResult result = doValidate(token);
+        validationCounts.get(result.status()).increment();
+        if (!result.isValid()) {
+            failureLoggers.get(result.status()).warn(result.status().getDescription());
+        }
+        return result;
+    }
+
+    private TokenValidationResult doValidate(String token) {
+        if (token == null || token.isBlank()) {
+            return TokenValidationResult.failure(TokenValidationResult.Status.EMPTY);
+        }
+
+        // 1단계: 구조 검사 (암호 연산 없음)
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (!hasValidStructure(token, headerEnd, payloadEnd)) {
+            return TokenValidationResult.failure(TokenValidationResult.Status.MALFORMED);
+        }
+
+        // 2단계: 서명 검증 (상수 시간 비교)
+        // 키링에 없는 헤더(알 수 없는/폐기된 kid, 다른 alg)는 서명 불일치로 처리
+        JwtSigningKey key = keyRing.findByEncodedHeader(token, headerEnd);
+        if (key == null) {
+            return TokenValidationResult.failure(TokenValidationResult.Status.INVALID_SIGNATURE);
+        }
+        byte[] bytes = token.getBytes(StandardCharsets.US_ASCII);
+        byte[] signature = toArray(decode(bytes, payloadEnd + 1, bytes.length - payloadEnd - 1));
+        if (!key.verify(bytes, 0, payloadEnd, signature)) {
+            return TokenValidationResult.failure(TokenValidationResult.Status.INVALID_SIGNATURE);
+        }
+
+        // 3단계: Claim 추출
+        ByteBuffer payload = decode(bytes, headerEnd + 1, payloadEnd - headerEnd - 1);
+        VerifiedToken verifiedToken = JwtClaimsReader.read(payload.array(), payload.remaining());
+        if (verifiedToken == null) {
+            return TokenValidationResult.failure(TokenValidationResult.Status.MALFORMED);
+        }
+
+        // 4단계: 만료 확인
+        if (Instant.now().isAfter(verifiedToken.expiresAt())) {
+            return TokenValidationResult.failure(TokenValidationResult.Status.EXPIRED);
+        }
+
+        return TokenValidationResult.valid(verifiedToken);
+    }
+
+    /**
+     * header.payload.signature 구조와 Base64URL 문자 집합 검사
+     */
+    private static boolean hasValidStructure(String token, int headerEnd, int payloadEnd) {
+        int length = token.length();
+        if (length > MAX_TOKEN_LENGTH || headerEnd <= 0 || payloadEnd <= headerEnd + 1 || payloadEnd >= length - 1) {
+            return false;
+        }
+        if (!isValidSegmentLength(headerEnd)
+                || !isValidSegmentLength(payloadEnd - headerEnd - 1)
+                || !isValidSegmentLength(length - payloadEnd - 1)) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            boolean base64Url = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_';
+            if (!base64Url && !(c == '.' && (i == headerEnd || i == payloadEnd))) {
+                return false;
+            }
         }
-        return false;
+        return true;
+    }
+
+    /**
+     * 패딩 없는 Base64URL에서 길이 % 4 == 1 은 나올 수 없음
+     */
+    private static boolean isValidSegmentLength(int length) {
+        return length % 4 != 1;
+    }
+
+    private static ByteBuffer decode(byte[] source, int offset, int length) {
+        return BASE64_URL.decode(ByteBuffer.wrap(source, offset, length));
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] array = buffer.array();
+        return array.length == buffer.remaining() ? array : Arrays.copyOf(array, buffer.remaining());
     }
 
     /**
@@ -121,9 +322,7 @@ public class JwtTokenProvider {
      * @return Claims
      */
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -145,7 +344,7 @@ public class JwtTokenProvider {
      * @return 이메일
      */
     public String getEmail(String token) {
-        return getClaims(token).get("email", String.class);
+        return VerifiedToken.from(getClaims(token)).email();
     }
 
     /**
@@ -155,7 +354,7 @@ public class JwtTokenProvider {
      * @return 역할
      */
     public String getRole(String token) {
-        return getClaims(token).get("role", String.class);
+        return VerifiedToken.from(getClaims(token)).role();
     }
 
     /**
@@ -165,7 +364,7 @@ public class JwtTokenProvider {
      * @return 토큰 타입
      */
     public String getTokenType(String token) {
-        return getClaims(token).get("type", String.class);
+        return VerifiedToken.from(getClaims(token)).type();
     }
 
     /**
@@ -175,19 +374,21 @@ public class JwtTokenProvider {
      * @return Authentication 객체
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
-        Long userId = Long.parseLong(claims.getSubject());
-        String email = claims.get("email", String.class);
-        String role = claims.get("role", String.class);
-
-        // CustomUserDetails 또는 간단한 Principal 사용
-        JwtUserDetails userDetails = new JwtUserDetails(userId, email, role);
-
-        return new UsernamePasswordAuthenticationToken(
-                userDetails,
-                null,
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
-        );
+        return getAuthentication(VerifiedToken.from(getClaims(token)));
+    }
+
+    /**
+     * 검증된 토큰 정보에서 Authentication 객체 생성 (재파싱 없음, 역할별 공유 권한 목록 사용)
+     *
+     * @param verifiedToken 검증된 토큰 정보
+     * @return Authentication 객체
+     */
+    public Authentication getAuthentication(VerifiedToken verifiedToken) {
+        return new JwtAuthentication(new JwtUserDetails(
+                verifiedToken.userId(),
+                verifiedToken.email(),
+                verifiedToken.role()
+        ));
     }
 
     /**
@@ -203,4 +404,17 @@ public class JwtTokenProvider {
     public long getRefreshTokenExpiration() {
         return refreshTokenExpiration;
     }
+
+    /**
+     * 검증 결과별 카운터 등록 (jwt.validation{result=...})
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        validationCounts.forEach((status, count) ->
+                FunctionCounter.builder("jwt.validation", count, LongAdder::sum)
+                        .tag("result", status.name().toLowerCase())
+                        .description("JWT 토큰 검증 결과별 건수")
+                        .register(registry)
+        );
+    }
 }
@@ -1,11 +1,10 @@
 package com.lookmarket.api.security;
 
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 
 /**
  * JWT 토큰에서 추출한 사용자 정보를 담는 UserDetails 구현체
@@ -18,11 +17,13 @@ public class JwtUserDetails implements UserDetails {
     private final Long userId;
     private final String email;
     private final String role;
+    private final List<GrantedAuthority> authorities;
 
     public JwtUserDetails(Long userId, String email, String role) {
         this.userId = userId;
         this.email = email;
         this.role = role;
+        this.authorities = RoleAuthorities.of(role);
     }
 
     public Long getUserId() {
@@ -37,9 +38,12 @@ public class JwtUserDetails implements UserDetails {
         return role;
     }
 
+    /**
+     * 역할별 공유 권한 목록 (호출마다 새로 만들지 않음)
+     */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
+        return authorities;
     }
 
     @Override
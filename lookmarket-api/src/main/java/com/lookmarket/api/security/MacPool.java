@@ -0,0 +1,85 @@
+package com.lookmarket.api.security;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 하나의 SecretKey에 묶인 javax.crypto.Mac 인스턴스 풀
+ *
+ * Mac.getInstance() + init()은 Provider 조회와 키 스케줄링 때문에
+ * 토큰 하나를 서명/검증하는 비용보다 할당이 더 큽니다.
+ * 초기화된 Mac을 재사용하여 요청마다 새로 만들지 않습니다.
+ *
+ * Virtual Thread 환경을 고려하여 ThreadLocal(스레드마다 인스턴스 생성)이나
+ * synchronized(캐리어 스레드 pinning)를 사용하지 않고 lock-free 큐로 관리합니다.
+ * Mac 자체는 thread-safe 하지 않으므로 빌린 스레드만 사용한 뒤 반납해야 합니다.
+ */
+final class MacPool {
+
+    private final SecretKey key;
+    private final int maxIdle;
+    private final ConcurrentLinkedQueue<Mac> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    MacPool(SecretKey key, int maxIdle) {
+        this.key = key;
+        this.maxIdle = maxIdle;
+        // 키/알고리즘 오류는 기동 시점에 드러나도록 한 번 생성해 둔다
+        release(create());
+    }
+
+    SecretKey getKey() {
+        return key;
+    }
+
+    /**
+     * 데이터의 MAC 계산
+     */
+    byte[] sign(byte[] data, int offset, int length) {
+        Mac mac = borrow();
+        try {
+            mac.update(data, offset, length);
+            return mac.doFinal();
+        } finally {
+            release(mac);
+        }
+    }
+
+    Mac borrow() {
+        Mac mac = idle.poll();
+        if (mac != null) {
+            idleCount.decrementAndGet();
+            return mac;
+        }
+        return create();
+    }
+
+    void release(Mac mac) {
+        mac.reset();
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offer(mac);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+
+    private Mac create() {
+        return newMac(key);
+    }
+
+    /**
+     * 풀을 거치지 않는 Mac 생성
+     */
+    static Mac newMac(SecretKey key) {
+        try {
+            Mac mac = Mac.getInstance(key.getAlgorithm());
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Mac 인스턴스를 생성할 수 없습니다: " + key.getAlgorithm(), e);
+        }
+    }
+}
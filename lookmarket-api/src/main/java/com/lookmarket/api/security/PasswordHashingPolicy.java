@@ -0,0 +1,180 @@
+package com.lookmarket.api.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * 비밀번호 해시 알고리즘과 비용(cost) 정책
+ *
+ * 새 해시는 {id} 접두어가 붙은 형식({bcrypt}$2a$..., {pbkdf2}..., {argon2}...)으로 만들고,
+ * 저장된 해시는 접두어에 맞는 인코더로 검증합니다. 접두어가 없는 기존 해시는 BCrypt로 검증합니다.
+ *
+ * 비용은 고정값을 쓰거나, 기동 시 현재 CPU에서 한 번 해시하는 데 걸리는 시간이
+ * 목표 지연(target latency)을 넘지 않는 가장 큰 값으로 보정(calibrate)합니다.
+ * - bcrypt: log rounds (10 ~ 16, 1 증가 시 시간 2배)
+ * - pbkdf2: 반복 횟수 (PBKDF2-HMAC-SHA256, 최소 310,000)
+ * - argon2: 반복 횟수 (메모리 16MB, 병렬도 1, 최소 2) - BouncyCastle이 클래스패스에 있을 때만 사용 가능
+ *
+ * 알고리즘 또는 비용이 현재 정책보다 낮은 해시는 {@link PasswordEncoder#upgradeEncoding(String)}이 true를 반환하며,
+ * 로그인 성공 시 재해시 대상이 됩니다. 단, pbkdf2 해시에는 반복 횟수가 기록되지 않아 반복 횟수 변경만으로는 감지되지 않습니다.
+ */
+public final class PasswordHashingPolicy implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingPolicy.class);
+
+    private static final String ARGON2_ENGINE = "org.bouncycastle.crypto.generators.Argon2BytesGenerator";
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    /**
+     * 지원 알고리즘과 비용 범위
+     */
+    public enum Algorithm {
+        BCRYPT("bcrypt", 10, 16),
+        PBKDF2("pbkdf2", 310_000, 10_000_000),
+        ARGON2("argon2", 2, 64);
+
+        private final String id;
+        private final int minCost;
+        private final int maxCost;
+
+        Algorithm(String id, int minCost, int maxCost) {
+            this.id = id;
+            this.minCost = minCost;
+            this.maxCost = maxCost;
+        }
+
+        public String id() {
+            return id;
+        }
+
+        private PasswordEncoder encoder(int cost) {
+            return switch (this) {
+                case BCRYPT -> new BCryptPasswordEncoder(cost);
+                case PBKDF2 -> new Pbkdf2PasswordEncoder("", 16, cost,
+                        Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+                case ARGON2 -> new Argon2PasswordEncoder(16, 32, 1, 1 << 14, cost);
+            };
+        }
+
+        private boolean available() {
+            return this != ARGON2 || ClassUtils.isPresent(ARGON2_ENGINE, PasswordHashingPolicy.class.getClassLoader());
+        }
+
+        /**
+         * bcrypt는 비용이 지수(log2)이고 나머지는 선형
+         */
+        private int scale(int measuredCost, double ratio) {
+            if (this == BCRYPT) {
+                return measuredCost + (int) Math.floor(Math.log(ratio) / Math.log(2));
+            }
+            return (int) Math.min(Integer.MAX_VALUE, (long) (measuredCost * ratio));
+        }
+    }
+
+    private final Algorithm algorithm;
+    private final int cost;
+    private final PasswordEncoder encoder;
+
+    private PasswordHashingPolicy(Algorithm algorithm, int cost) {
+        if (!algorithm.available()) {
+            throw new IllegalStateException(algorithm.id() + " 해시에는 BouncyCastle(org.bouncycastle:bcprov-jdk18on)이 필요합니다.");
+        }
+        this.algorithm = algorithm;
+        this.cost = cost;
+        this.encoder = createDelegatingEncoder(algorithm, cost);
+    }
+
+    /**
+     * 고정 비용 정책
+     *
+     * @param algorithm 새 해시에 사용할 알고리즘
+     * @param cost 알고리즘별 비용 (범위를 벗어나면 최소/최대값으로 보정)
+     */
+    public static PasswordHashingPolicy of(Algorithm algorithm, int cost) {
+        return new PasswordHashingPolicy(algorithm, clamp(algorithm, cost));
+    }
+
+    /**
+     * 목표 지연에 맞춰 비용을 보정한 정책
+     *
+     * 최소 비용으로 한 번 예열한 뒤 다시 측정하고, 측정값과 목표의 비율로 비용을 환산합니다.
+     *
+     * @param algorithm 새 해시에 사용할 알고리즘
+     * @param targetLatency 해시 1회 목표 지연
+     */
+    public static PasswordHashingPolicy calibrate(Algorithm algorithm, Duration targetLatency) {
+        return new PasswordHashingPolicy(algorithm, calibrateCost(algorithm, targetLatency, cost -> {
+            PasswordEncoder encoder = algorithm.encoder(cost);
+            encoder.encode(CALIBRATION_PASSWORD);
+            long startedAt = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            return System.nanoTime() - startedAt;
+        }));
+    }
+
+    static int calibrateCost(Algorithm algorithm, Duration targetLatency, IntFunction<Long> measureNanos) {
+        if (!algorithm.available()) {
+            return algorithm.minCost;
+        }
+        long elapsedNanos = Math.max(1, measureNanos.apply(algorithm.minCost));
+        double ratio = (double) targetLatency.toNanos() / elapsedNanos;
+        int cost = ratio <= 1 ? algorithm.minCost : clamp(algorithm, algorithm.scale(algorithm.minCost, ratio));
+        log.info("비밀번호 해시 비용 보정: algorithm={}, cost={}, target={}ms, measured(cost={})={}ms",
+                algorithm.id(), cost, targetLatency.toMillis(), algorithm.minCost, elapsedNanos / 1_000_000);
+        return cost;
+    }
+
+    private static int clamp(Algorithm algorithm, int cost) {
+        return Math.max(algorithm.minCost, Math.min(algorithm.maxCost, cost));
+    }
+
+    private static PasswordEncoder createDelegatingEncoder(Algorithm current, int cost) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        for (Algorithm algorithm : Algorithm.values()) {
+            if (algorithm.available()) {
+                encoders.put(algorithm.id(), algorithm == current ? algorithm.encoder(cost) : algorithm.encoder(algorithm.minCost));
+            }
+        }
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(current.id(), encoders);
+        // 접두어 없는 기존 BCrypt 해시 검증 (다음 로그인 시 접두어 형식으로 재해시됨)
+        delegating.setDefaultPasswordEncoderForMatches(encoders.get(Algorithm.BCRYPT.id()));
+        return delegating;
+    }
+
+    public Algorithm algorithm() {
+        return algorithm;
+    }
+
+    public int cost() {
+        return cost;
+    }
+
+    /**
+     * 새 해시 생성, 기존 해시 검증, 재해시 필요 여부 판단을 담당하는 인코더
+     */
+    public PasswordEncoder encoder() {
+        return encoder;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("password.hashing.cost", this, PasswordHashingPolicy::cost)
+                .description("새 비밀번호 해시에 사용하는 비용")
+                .tag("algorithm", algorithm.id())
+                .register(registry);
+    }
+}
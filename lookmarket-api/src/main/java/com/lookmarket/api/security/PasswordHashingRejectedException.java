@@ -0,0 +1,23 @@
+package com.lookmarket.api.security;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해시 작업 대기열이 가득 차서 거부되었을 때 발생하는 예외 (503 Service Unavailable)
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PasswordHashingRejectedException(Duration retryAfter) {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * 다시 시도할 수 있을 때까지의 시간 (Retry-After 헤더)
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,96 @@
+package com.lookmarket.api.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.MacAlgorithm;
+import io.jsonwebtoken.security.SecretKeyBuilder;
+import io.jsonwebtoken.security.SecureRequest;
+import io.jsonwebtoken.security.SecurityException;
+import io.jsonwebtoken.security.VerifySecureDigestRequest;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.function.Function;
+
+/**
+ * MacPool을 사용하는 HMAC-SHA 구현 (jjwt MacAlgorithm 확장)
+ *
+ * jjwt 기본 HS256/HS384/HS512는 서명/검증마다 Mac을 새로 생성합니다.
+ * 이 구현을 JwtBuilder.signWith()와 JwtParserBuilder.sig()에 등록하면
+ * 키에 묶인 풀에서 초기화된 Mac을 재사용합니다.
+ *
+ * 알고리즘은 키 길이에 따라 결정되며(Keys.hmacShaKeyFor 규칙),
+ * 헤더의 alg 값은 signWith(key)를 사용할 때와 동일합니다.
+ * 풀이 없는 키(키링에서 막 제거된 키 등)는 Mac을 새로 만들어 처리합니다.
+ */
+final class PooledHmacAlgorithm implements MacAlgorithm {
+
+    private static final int BUFFER_SIZE = 512;
+
+    private final MacAlgorithm standard;
+    private final Function<SecretKey, MacPool> poolResolver;
+
+    PooledHmacAlgorithm(MacAlgorithm standard, Function<SecretKey, MacPool> poolResolver) {
+        this.standard = standard;
+        this.poolResolver = poolResolver;
+    }
+
+    /**
+     * 키의 JCA 알고리즘명에 대응하는 jjwt 표준 MacAlgorithm
+     */
+    static MacAlgorithm standardFor(SecretKey key) {
+        return switch (key.getAlgorithm()) {
+            case "HmacSHA256" -> Jwts.SIG.HS256;
+            case "HmacSHA384" -> Jwts.SIG.HS384;
+            case "HmacSHA512" -> Jwts.SIG.HS512;
+            default -> throw new IllegalArgumentException("지원하지 않는 HMAC 알고리즘입니다: " + key.getAlgorithm());
+        };
+    }
+
+    @Override
+    public String getId() {
+        return standard.getId();
+    }
+
+    @Override
+    public int getKeyBitLength() {
+        return standard.getKeyBitLength();
+    }
+
+    @Override
+    public SecretKeyBuilder key() {
+        return standard.key();
+    }
+
+    @Override
+    public byte[] digest(SecureRequest<InputStream, SecretKey> request) throws SecurityException {
+        return compute(request.getPayload(), request.getKey());
+    }
+
+    @Override
+    public boolean verify(VerifySecureDigestRequest<SecretKey> request) throws SecurityException {
+        byte[] computed = compute(request.getPayload(), request.getKey());
+        return MessageDigest.isEqual(computed, request.getDigest());
+    }
+
+    private byte[] compute(InputStream payload, SecretKey key) {
+        MacPool macPool = poolResolver.apply(key);
+        Mac mac = macPool != null ? macPool.borrow() : MacPool.newMac(key);
+        try {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = payload.read(buffer)) != -1) {
+                mac.update(buffer, 0, read);
+            }
+            return mac.doFinal();
+        } catch (IOException e) {
+            throw new SecurityException("JWT 서명 입력을 읽을 수 없습니다.", e);
+        } finally {
+            if (macPool != null) {
+                macPool.release(mac);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.lookmarket.api.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+/**
+ * 인증 없이 접근할 수 있는 경로 (permitAll)
+ *
+ * SecurityConfig의 인가 규칙과 JwtAuthenticationFilter의 건너뛰기 판단이 같은 목록을 사용하므로
+ * 두 곳이 어긋나지 않습니다. 패턴은 클래스 로딩 시 한 번만 PathPattern으로 컴파일합니다.
+ */
+public final class PublicEndpoints implements RequestMatcher {
+
+    public static final PublicEndpoints INSTANCE = new PublicEndpoints(List.of(
+            // 인증 관련 API
+            Route.any("/api/v1/auth/**"),
+            // 회원가입 (POST /api/v1/users)
+            Route.of(HttpMethod.POST, "/api/v1/users"),
+            // Swagger UI 및 API 문서
+            Route.any("/swagger-ui/**"),
+            Route.any("/swagger-ui.html"),
+            Route.any("/v3/api-docs/**"),
+            Route.any("/swagger-resources/**"),
+            // JWT 공개 검증 키 (JWKS)
+            Route.any("/.well-known/jwks.json"),
+            // Actuator 헬스체크
+            Route.any("/actuator/health")
+    ));
+
+    private final List<Route> routes;
+
+    private PublicEndpoints(List<Route> routes) {
+        this.routes = routes;
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        String method = request.getMethod();
+        for (Route route : routes) {
+            if (route.matches(method, pathContainer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * HTTP 메서드(null이면 모든 메서드)와 컴파일된 경로 패턴
+     */
+    private record Route(HttpMethod method, PathPattern pattern) {
+
+        static Route any(String pattern) {
+            return of(null, pattern);
+        }
+
+        static Route of(HttpMethod method, String pattern) {
+            return new Route(method, PathPatternParser.defaultInstance.parse(pattern));
+        }
+
+        boolean matches(String requestMethod, PathContainer path) {
+            return (method == null || method.matches(requestMethod)) && pattern.matches(path);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.lookmarket.api.security;
+
+import com.lookmarket.domain.user.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 역할별 권한 목록 (ROLE_xxx)
+ *
+ * UserRole 값은 몇 개뿐이므로 권한 목록을 미리 만들어 모든 인증 객체가 공유합니다.
+ * 요청마다 "ROLE_" 문자열 결합과 SimpleGrantedAuthority/리스트 생성을 하지 않습니다.
+ *
+ * UserRole에 없는 역할 문자열은 공유 목록이 없으므로 호출 시 새로 만듭니다.
+ */
+public final class RoleAuthorities {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private static final Map<String, List<GrantedAuthority>> BY_ROLE = Arrays.stream(UserRole.values())
+            .map(UserRole::name)
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), RoleAuthorities::create));
+
+    private RoleAuthorities() {
+    }
+
+    /**
+     * 역할의 권한 목록 (불변)
+     *
+     * @param role 역할 이름 (예: CUSTOMER)
+     * @return 권한 목록, role이 null이면 빈 목록
+     */
+    public static List<GrantedAuthority> of(String role) {
+        if (role == null) {
+            return List.of();
+        }
+        List<GrantedAuthority> authorities = BY_ROLE.get(role);
+        return authorities != null ? authorities : create(role);
+    }
+
+    private static List<GrantedAuthority> create(String role) {
+        return List.of(new SimpleGrantedAuthority(ROLE_PREFIX + role));
+    }
+}
@@ -0,0 +1,45 @@
+package com.lookmarket.api.security;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 일정 간격당 한 번만 출력하는 WARN 로거
+ *
+ * 봇이 만료/위조 토큰을 반복 전송하면 건별 로그가 동기 콘솔 출력으로 처리량을 떨어뜨립니다.
+ * 간격 안에 들어온 나머지 로그는 건수만 세고, 다음 출력 시 생략된 건수를 함께 남깁니다.
+ * 잠금 없이 CAS로 출력 권한을 얻으므로 Virtual Thread에서도 안전합니다.
+ */
+final class SampledLogger {
+
+    private final Logger logger;
+    private final long intervalNanos;
+    private final AtomicLong nextLogAt;
+    private final LongAdder suppressed = new LongAdder();
+
+    SampledLogger(Logger logger, long intervalNanos) {
+        this.logger = logger;
+        this.intervalNanos = intervalNanos;
+        this.nextLogAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * 간격이 지났으면 출력, 아니면 생략 건수만 증가
+     */
+    void warn(String message) {
+        long now = System.nanoTime();
+        long next = nextLogAt.get();
+        if (now - next >= 0 && nextLogAt.compareAndSet(next, now + intervalNanos)) {
+            long skipped = suppressed.sumThenReset();
+            if (skipped > 0) {
+                logger.warn("{} (직전 출력 이후 {}건 생략)", message, skipped);
+            } else {
+                logger.warn(message);
+            }
+        } else {
+            suppressed.increment();
+        }
+    }
+}
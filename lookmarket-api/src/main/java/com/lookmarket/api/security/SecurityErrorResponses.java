@@ -0,0 +1,53 @@
+package com.lookmarket.api.security;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.access.AccessDeniedHandler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 인증 실패(401)/인가 실패(403) 응답
+ *
+ * 응답 본문은 고정이므로 UTF-8 바이트 배열로 미리 만들어 두고 OutputStream에 바로 씁니다.
+ * 토큰 없이 들어오는 대량 요청도 JSON 직렬화나 Writer 인코딩 없이 처리됩니다.
+ * (GlobalExceptionHandler.ErrorResponse와 같은 code/message 필드를 사용합니다.)
+ */
+public final class SecurityErrorResponses {
+
+    private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+
+    private static final byte[] UNAUTHORIZED_BODY =
+            "{\"code\":\"AUTHENTICATION_REQUIRED\",\"message\":\"인증이 필요합니다.\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FORBIDDEN_BODY =
+            "{\"code\":\"ACCESS_DENIED\",\"message\":\"접근 권한이 없습니다.\"}".getBytes(StandardCharsets.UTF_8);
+
+    private SecurityErrorResponses() {
+    }
+
+    /**
+     * 인증되지 않은 요청에 401 반환 (Spring Security 기본값은 403)
+     */
+    public static AuthenticationEntryPoint authenticationEntryPoint() {
+        return (request, response, authException) ->
+                write(response, HttpStatus.UNAUTHORIZED, UNAUTHORIZED_BODY);
+    }
+
+    /**
+     * 권한이 부족한 요청에 403 반환
+     */
+    public static AccessDeniedHandler accessDeniedHandler() {
+        return (request, response, accessDeniedException) ->
+                write(response, HttpStatus.FORBIDDEN, FORBIDDEN_BODY);
+    }
+
+    private static void write(HttpServletResponse response, HttpStatus status, byte[] body) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,99 @@
+package com.lookmarket.api.security;
+
+import com.lookmarket.common.bloom.RotatingBloomFilter;
+import com.lookmarket.domain.auth.TokenRevocation;
+import com.lookmarket.domain.auth.TokenRevocationStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Access Token 폐기 여부 확인기
+ *
+ * 폐기된 사용자 ID를 인메모리 Bloom Filter에 보관하여, 대부분의 요청(폐기되지 않은 사용자)은
+ * I/O 없이 mightContain() 한 번으로 통과시킵니다.
+ * "있을 수도 있음"인 경우에만 TokenRevocationStore에서 정확한 폐기 시각을 조회합니다.
+ *
+ * - 기동 시: 변경 피드를 먼저 구독한 뒤 현재 폐기 목록으로 필터를 채웁니다 (그 사이 누락 방지).
+ * - 폐기 정보는 Access Token 유효 시간이 지나면 의미가 없으므로,
+ *   같은 주기로 필터 세대를 교체하여 오래된 항목을 버립니다.
+ */
+@Component
+public class TokenRevocationChecker implements MeterBinder {
+
+    private static final String METRIC_NAME = "jwt.revocation";
+
+    private final TokenRevocationStore tokenRevocationStore;
+    private final RotatingBloomFilter revokedUserIds;
+
+    private final LongAdder exactLookups = new LongAdder();
+    private final LongAdder revokedTokens = new LongAdder();
+
+    public TokenRevocationChecker(
+            TokenRevocationStore tokenRevocationStore,
+            @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.revocation.false-positive-probability:0.001}") double falsePositiveProbability
+    ) {
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.revokedUserIds = new RotatingBloomFilter(expectedInsertions, falsePositiveProbability);
+
+        tokenRevocationStore.subscribe(this::onRevoked);
+        tokenRevocationStore.findRevokedUserIds().forEach(revokedUserIds::put);
+    }
+
+    /**
+     * 토큰 폐기 여부 확인
+     *
+     * @param verifiedToken 서명 검증이 끝난 토큰
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(VerifiedToken verifiedToken) {
+        Long userId = verifiedToken.userId();
+        if (userId == null || !revokedUserIds.mightContain(userId)) {
+            return false;
+        }
+
+        exactLookups.increment();
+        boolean revoked = tokenRevocationStore.findByUserId(userId)
+                .map(revocation -> revocation.revokes(verifiedToken.issuedAt()))
+                .orElse(false);
+        if (revoked) {
+            revokedTokens.increment();
+        }
+        return revoked;
+    }
+
+    /**
+     * 필터 세대 교체 (Access Token 유효 시간 주기)
+     */
+    @Scheduled(
+            fixedDelayString = "${jwt.access-token-expiration}",
+            initialDelayString = "${jwt.access-token-expiration}"
+    )
+    public void rotate() {
+        revokedUserIds.rotate();
+    }
+
+    private void onRevoked(TokenRevocation revocation) {
+        revokedUserIds.put(revocation.userId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_NAME + ".lookups", exactLookups, LongAdder::sum)
+                .description("Bloom Filter 적중으로 저장소를 조회한 횟수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_NAME + ".revoked", revokedTokens, LongAdder::sum)
+                .description("폐기되어 거부된 토큰 수")
+                .register(registry);
+        Gauge.builder(METRIC_NAME + ".filter.size", revokedUserIds, RotatingBloomFilter::approximateSize)
+                .description("폐기 Bloom Filter 항목 수 (근사치)")
+                .register(registry);
+    }
+}
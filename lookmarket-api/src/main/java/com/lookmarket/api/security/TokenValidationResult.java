@@ -0,0 +1,68 @@
+package com.lookmarket.api.security;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 토큰 검증 결과
+ *
+ * 예외 대신 결과 코드로 검증 실패 원인을 전달합니다.
+ * 실패 결과는 상태별로 미리 만들어 둔 인스턴스를 재사용하므로
+ * 잘못된 토큰이 몰려와도 결과 객체를 할당하지 않습니다.
+ *
+ * @param status 검증 상태
+ * @param token 검증된 토큰 정보 (VALID인 경우에만 존재)
+ */
+public record TokenValidationResult(Status status, VerifiedToken token) {
+
+    /**
+     * 검증 상태
+     */
+    public enum Status {
+        VALID("유효한 JWT 토큰입니다"),
+        EXPIRED("만료된 JWT 토큰입니다"),
+        MALFORMED("잘못된 형식의 JWT 토큰입니다"),
+        INVALID_SIGNATURE("JWT 서명 검증에 실패했습니다"),
+        EMPTY("JWT 토큰이 비어있습니다");
+
+        private final String description;
+
+        Status(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private static final Map<Status, TokenValidationResult> FAILURES = new EnumMap<>(Status.class);
+
+    static {
+        for (Status status : Status.values()) {
+            if (status != Status.VALID) {
+                FAILURES.put(status, new TokenValidationResult(status, null));
+            }
+        }
+    }
+
+    static TokenValidationResult valid(VerifiedToken token) {
+        return new TokenValidationResult(Status.VALID, token);
+    }
+
+    static TokenValidationResult failure(Status status) {
+        return FAILURES.get(status);
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    /**
+     * 검증된 토큰 정보 (실패 시 empty)
+     */
+    public Optional<VerifiedToken> verifiedToken() {
+        return Optional.ofNullable(token);
+    }
+}
@@ -0,0 +1,79 @@
+package com.lookmarket.api.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT 토큰 정보
+ *
+ * 토큰을 한 번만 파싱한 뒤 필요한 Claim을 미리 추출해 둡니다.
+ * 필터/컨트롤러는 이 객체를 사용하여 토큰 타입 확인과 Authentication 생성을 수행하므로
+ * 동일한 토큰에 대해 서명 검증과 디코딩을 반복하지 않습니다.
+ *
+ * @param userId 사용자 ID (sub)
+ * @param email 이메일 (Refresh Token에는 없음)
+ * @param role 역할 (Refresh Token에는 없음)
+ * @param type 토큰 타입 (access/refresh)
+ * @param tokenId 토큰 ID (jti, Refresh Token에만 있음)
+ * @param familyId Refresh Token 패밀리 ID (fid, Refresh Token에만 있음)
+ * @param issuedAt 발급 시각
+ * @param expiresAt 만료 시각
+ */
+public record VerifiedToken(
+        Long userId,
+        String email,
+        String role,
+        String type,
+        String tokenId,
+        String familyId,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    public static final String TYPE_ACCESS = "access";
+    public static final String TYPE_REFRESH = "refresh";
+    public static final String CLAIM_FAMILY_ID = "fid";
+
+    /**
+     * 검증된 Claims에서 VerifiedToken 생성 (표준/압축 형식 모두 지원)
+     *
+     * @param claims 서명 검증이 끝난 Claims
+     * @return VerifiedToken
+     */
+    static VerifiedToken from(Claims claims) {
+        boolean compact = claims.containsKey(CompactClaims.CLAIM_VERSION);
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get(compact ? CompactClaims.CLAIM_EMAIL : "email", String.class),
+                compact ? compactRole(claims.get(CompactClaims.CLAIM_ROLE)) : claims.get("role", String.class),
+                compact ? compactType(claims.get(CompactClaims.CLAIM_TYPE)) : claims.get("type", String.class),
+                claims.getId(),
+                claims.get(CLAIM_FAMILY_ID, String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+
+    private static String compactRole(Object role) {
+        return role instanceof Number code ? CompactClaims.roleName(code.intValue()) : (String) role;
+    }
+
+    private static String compactType(Object type) {
+        return type instanceof Number code ? CompactClaims.typeName(code.intValue()) : null;
+    }
+
+    /**
+     * Access Token 여부
+     */
+    public boolean isAccessToken() {
+        return TYPE_ACCESS.equals(type);
+    }
+
+    /**
+     * Refresh Token 여부
+     */
+    public boolean isRefreshToken() {
+        return TYPE_REFRESH.equals(type);
+    }
+}
@@ -0,0 +1,154 @@
+package com.lookmarket.api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 검증이 끝난 Access Token의 Authentication 캐시
+ *
+ * 클라이언트는 같은 Access Token을 만료(기본 1시간) 전까지 반복해서 보내므로,
+ * 토큰 다이제스트(SHA-256)를 키로 이미 만들어 둔 Authentication을 재사용합니다.
+ * 캐시 적중 시 서명 검증과 Claim 디코딩을 모두 건너뜁니다.
+ *
+ * - 각 항목은 토큰 자체의 exp 시각에 만료됩니다.
+ * - 최대 크기를 넘으면 Caffeine의 W-TinyLFU 정책으로 제거되어 메모리가 제한됩니다.
+ * - 히트율과 크기는 MeterBinder로 Actuator(Prometheus)에 노출됩니다.
+ *
+ * jwt.cache.enabled=false 이면 모든 조회가 미스로 처리됩니다.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private static final String METRIC_NAME = "jwt.verified-token";
+
+    private final Cache<TokenDigest, Entry> cache;
+
+    public VerifiedTokenCache(
+            @Value("${jwt.cache.enabled:true}") boolean enabled,
+            @Value("${jwt.cache.maximum-size:10000}") long maximumSize
+    ) {
+        this.cache = enabled ? Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build() : null;
+    }
+
+    /**
+     * 캐시된 검증 결과 조회
+     *
+     * @param token JWT 토큰
+     * @return 캐시된 항목, 없거나 만료되었으면 null
+     */
+    public Entry get(String token) {
+        if (cache == null) {
+            return null;
+        }
+        return cache.getIfPresent(TokenDigest.of(token));
+    }
+
+    /**
+     * 검증 결과 저장 (토큰 만료 시각까지 유지)
+     *
+     * @param token JWT 토큰
+     * @param verifiedToken 검증된 토큰 정보
+     * @param authentication 생성된 Authentication
+     */
+    public void put(String token, VerifiedToken verifiedToken, Authentication authentication) {
+        if (cache == null || verifiedToken.expiresAt() == null) {
+            return;
+        }
+        cache.put(TokenDigest.of(token), new Entry(verifiedToken, authentication));
+    }
+
+    /**
+     * 캐시 항목 수 (근사치)
+     */
+    public long size() {
+        return cache == null ? 0 : cache.estimatedSize();
+    }
+
+    /**
+     * 만료/용량 초과 항목 정리 (테스트 및 진단용)
+     */
+    void cleanUp() {
+        if (cache != null) {
+            cache.cleanUp();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (cache == null) {
+            return;
+        }
+        CaffeineCacheMetrics.monitor(registry, cache, METRIC_NAME);
+        Gauge.builder(METRIC_NAME + ".hit.ratio", cache, c -> c.stats().hitRate())
+                .tags(Tags.of("cache", METRIC_NAME))
+                .description("검증된 토큰 캐시 히트율")
+                .register(registry);
+    }
+
+    /**
+     * 캐시 항목 (검증된 토큰 정보 + Authentication)
+     */
+    public record Entry(VerifiedToken verifiedToken, Authentication authentication) {
+    }
+
+    /**
+     * 토큰 원문 대신 보관하는 SHA-256 다이제스트 키
+     */
+    private record TokenDigest(long h0, long h1, long h2, long h3) {
+
+        static TokenDigest of(String token) {
+            ByteBuffer digest = ByteBuffer.wrap(sha256(token.getBytes(StandardCharsets.UTF_8)));
+            return new TokenDigest(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+
+        private static byte[] sha256(byte[] input) {
+            try {
+                return MessageDigest.getInstance("SHA-256").digest(input);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+            }
+        }
+    }
+
+    /**
+     * 항목별 만료 시각 = 토큰의 exp
+     */
+    private static final class TokenExpiry implements Expiry<TokenDigest, Entry> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, Entry value, long currentTime) {
+            long remaining = Duration.between(Instant.now(), value.verifiedToken().expiresAt()).toNanos();
+            return Math.max(remaining, 0L);
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, Entry value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.lookmarket.api.config;
+
+import com.lookmarket.api.security.ScopedSecurityContextFilter;
+import com.lookmarket.api.security.ScopedValueSecurityContextHolderStrategy;
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ScopedValue 기반 SecurityContext 설정 (auth.security-context.strategy=scoped-value)
+ *
+ * SecurityContextHolderStrategy 빈을 등록하면 Spring Security 필터 체인과
+ * 컨트롤러 인자 해석(@AuthenticationPrincipal)이 이 전략을 사용합니다.
+ * 전역 SecurityContextHolder는 바꾸지 않으므로 바인딩 밖 코드는 기존 ThreadLocal을 그대로 사용합니다.
+ *
+ * ScopedValue가 Java 21에서 Preview API이므로 JVM을 --enable-preview로 실행해야 합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "auth.security-context.strategy", havingValue = "scoped-value")
+public class ScopedSecurityContextConfig {
+
+    @Bean
+    public ScopedValueSecurityContextHolderStrategy securityContextHolderStrategy() {
+        return new ScopedValueSecurityContextHolderStrategy();
+    }
+
+    /**
+     * Spring Security 필터 체인(FilterChainProxy) 바로 앞에서 Scope 바인딩
+     */
+    @Bean
+    public FilterRegistrationBean<ScopedSecurityContextFilter> scopedSecurityContextFilter(
+            ScopedValueSecurityContextHolderStrategy securityContextHolderStrategy
+    ) {
+        FilterRegistrationBean<ScopedSecurityContextFilter> registration =
+                new FilterRegistrationBean<>(new ScopedSecurityContextFilter(securityContextHolderStrategy));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC, DispatcherType.ERROR);
+        return registration;
+    }
+}
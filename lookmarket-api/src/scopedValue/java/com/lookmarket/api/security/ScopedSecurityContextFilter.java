@@ -0,0 +1,53 @@
+package com.lookmarket.api.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 SecurityContext Scope를 바인딩하는 필터
+ *
+ * Spring Security 필터 체인(SecurityContextHolderFilter)이 전략을 사용하기 전에
+ * 바인딩되어야 하므로 FilterChainProxy보다 앞에 등록합니다.
+ * 에러 디스패치는 원래 요청의 Scope가 끝난 뒤 실행되므로 별도로 바인딩합니다.
+ */
+public class ScopedSecurityContextFilter extends OncePerRequestFilter {
+
+    private final ScopedValueSecurityContextHolderStrategy strategy;
+
+    public ScopedSecurityContextFilter(ScopedValueSecurityContextHolderStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (strategy.isBound()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            strategy.callInScope(() -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (IOException | ServletException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.lookmarket.api.security;
+
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * ScopedValue 기반 SecurityContextHolderStrategy
+ *
+ * 요청마다 ThreadLocal에 SecurityContext를 넣고 지우는 대신,
+ * ScopedSecurityContextFilter가 요청 시작 시 한 번 바인딩한 Scope 안에 보관합니다.
+ * Scope가 끝나면 바인딩도 함께 사라지므로 clearContext 누락으로 인한 누수가 없습니다.
+ *
+ * ScopedValue는 다시 바인딩할 수 없으므로 요청별 가변 슬롯(Slot)을 바인딩하고,
+ * setContext/clearContext는 슬롯의 값만 바꿉니다.
+ * 바인딩되지 않은 스레드(스케줄러, 비동기 작업 등)에서는 기존 전략(ThreadLocal)에 위임합니다.
+ *
+ * ScopedValue는 Java 21에서 Preview API이므로 이 전략을 사용하려면 JVM을 --enable-preview로 실행해야 합니다.
+ */
+public final class ScopedValueSecurityContextHolderStrategy implements SecurityContextHolderStrategy {
+
+    private static final ScopedValue<Slot> SLOT = ScopedValue.newInstance();
+
+    private final SecurityContextHolderStrategy fallback;
+
+    /**
+     * 현재 SecurityContextHolder의 전략을 바인딩 밖 폴백으로 사용
+     */
+    public ScopedValueSecurityContextHolderStrategy() {
+        this(SecurityContextHolder.getContextHolderStrategy());
+    }
+
+    public ScopedValueSecurityContextHolderStrategy(SecurityContextHolderStrategy fallback) {
+        // 이미 교체된 전략을 넘겨받아도 자기 자신에게 위임하지 않도록 원래 폴백을 사용
+        this.fallback = fallback instanceof ScopedValueSecurityContextHolderStrategy scoped
+                ? scoped.fallback
+                : fallback;
+    }
+
+    /**
+     * 새 Scope를 바인딩하고 그 안에서 작업 실행
+     *
+     * @param task Scope 안에서 실행할 작업 (요청 처리)
+     * @return 작업 결과
+     */
+    public <R> R callInScope(Callable<R> task) throws Exception {
+        return ScopedValue.where(SLOT, new Slot()).call(task);
+    }
+
+    /**
+     * 현재 스레드에 Scope가 바인딩되어 있는지 확인
+     */
+    public boolean isBound() {
+        return SLOT.isBound();
+    }
+
+    @Override
+    public SecurityContext getContext() {
+        return SLOT.isBound() ? SLOT.get().context() : fallback.getContext();
+    }
+
+    @Override
+    public Supplier<SecurityContext> getDeferredContext() {
+        if (!SLOT.isBound()) {
+            return fallback.getDeferredContext();
+        }
+        return SLOT.get().deferred();
+    }
+
+    @Override
+    public void setContext(SecurityContext context) {
+        Assert.notNull(context, "Only non-null SecurityContext instances are permitted");
+        if (SLOT.isBound()) {
+            SLOT.get().set(context);
+        } else {
+            fallback.setContext(context);
+        }
+    }
+
+    @Override
+    public void setDeferredContext(Supplier<SecurityContext> deferredContext) {
+        Assert.notNull(deferredContext, "Only non-null Supplier instances are permitted");
+        if (SLOT.isBound()) {
+            SLOT.get().defer(deferredContext);
+        } else {
+            fallback.setDeferredContext(deferredContext);
+        }
+    }
+
+    @Override
+    public void clearContext() {
+        if (SLOT.isBound()) {
+            SLOT.get().clear();
+        } else {
+            fallback.clearContext();
+        }
+    }
+
+    @Override
+    public SecurityContext createEmptyContext() {
+        return new SecurityContextImpl();
+    }
+
+    /**
+     * 요청 하나의 SecurityContext 보관 슬롯
+     *
+     * 요청 스레드 하나에서만 접근하므로 동기화하지 않습니다.
+     * (Scope를 물려받은 하위 스레드에서는 읽기만 한다고 가정)
+     */
+    private static final class Slot {
+
+        private Supplier<SecurityContext> deferred;
+        private SecurityContext context;
+
+        SecurityContext context() {
+            if (context == null) {
+                SecurityContext resolved = deferred != null ? deferred.get() : null;
+                context = resolved != null ? resolved : new SecurityContextImpl();
+                deferred = null;
+            }
+            return context;
+        }
+
+        /**
+         * 현재 값을 감싼 Supplier (이후 setDeferredContext로 바뀌어도 이 Supplier는 이전 값을 가리킴)
+         */
+        Supplier<SecurityContext> deferred() {
+            if (context == null && deferred != null) {
+                return deferred;
+            }
+            SecurityContext current = context();
+            return () -> current;
+        }
+
+        void set(SecurityContext context) {
+            this.context = context;
+            this.deferred = null;
+        }
+
+        void defer(Supplier<SecurityContext> deferred) {
+            this.context = null;
+            this.deferred = deferred;
+        }
+
+        void clear() {
+            this.context = null;
+            this.deferred = null;
+        }
+    }
+}
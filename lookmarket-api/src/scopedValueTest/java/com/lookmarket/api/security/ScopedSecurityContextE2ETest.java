@@ -0,0 +1,91 @@
+package com.lookmarket.api.security;
+
+import com.lookmarket.api.config.GlobalExceptionHandler;
+import com.lookmarket.api.config.ScopedSecurityContextConfig;
+import com.lookmarket.api.config.SecurityConfig;
+import com.lookmarket.infrastructure.auth.InMemoryTokenRevocationStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ScopedValue 전략 E2E 테스트
+ *
+ * 필터 체인 → 인가 → 컨트롤러 인자 해석까지 Scope에 바인딩된 SecurityContext를 사용하는지 검증
+ */
+@DisplayName("ScopedValue SecurityContext E2E 테스트")
+@WebMvcTest(ScopedSecurityContextE2ETest.MeController.class)
+@Import({
+        ScopedSecurityContextE2ETest.MeController.class,
+        ScopedSecurityContextConfig.class,
+        JwtTokenProvider.class,
+        GlobalExceptionHandler.class,
+        SecurityConfig.class,
+        JwtAuthenticationFilter.class,
+        VerifiedTokenCache.class,
+        TokenRevocationChecker.class,
+        InMemoryTokenRevocationStore.class,
+        JwtKeyRing.class
+})
+@TestPropertySource(properties = {
+        "jwt.secret=test-secret-key-for-jwt-token-generation-must-be-long-enough-for-testing",
+        "jwt.access-token-expiration=3600000",
+        "jwt.refresh-token-expiration=604800000",
+        "auth.security-context.strategy=scoped-value"
+})
+class ScopedSecurityContextE2ETest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    @DisplayName("@AuthenticationPrincipal로 JwtUserDetails를 받고 ThreadLocal에는 저장하지 않는다")
+    void authenticationPrincipal_resolvedFromScope() throws Exception {
+        // given
+        String token = jwtTokenProvider.createAccessToken(7L, "scoped@example.com", "CUSTOMER");
+
+        // when & then
+        mockMvc.perform(get("/test/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(7))
+                .andExpect(jsonPath("$.threadLocalAuthenticated").value(false));
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 401을 반환한다")
+    void noToken_unauthorized() throws Exception {
+        // when & then
+        mockMvc.perform(get("/test/me"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @RestController
+    static class MeController {
+
+        @GetMapping("/test/me")
+        Map<String, Object> me(@AuthenticationPrincipal JwtUserDetails user) {
+            return Map.of(
+                    "userId", user.getUserId(),
+                    "threadLocalAuthenticated", SecurityContextHolder.getContext().getAuthentication() != null
+            );
+        }
+    }
+}
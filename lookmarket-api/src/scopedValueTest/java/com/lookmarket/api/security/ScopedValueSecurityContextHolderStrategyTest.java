@@ -0,0 +1,140 @@
+package com.lookmarket.api.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ScopedValueSecurityContextHolderStrategy 단위 테스트")
+class ScopedValueSecurityContextHolderStrategyTest {
+
+    private final SecurityContextHolderStrategy fallback = SecurityContextHolder.getContextHolderStrategy();
+    private final ScopedValueSecurityContextHolderStrategy strategy = new ScopedValueSecurityContextHolderStrategy(fallback);
+
+    @AfterEach
+    void tearDown() {
+        fallback.clearContext();
+    }
+
+    @Test
+    @DisplayName("Scope 안에서 저장한 인증 정보는 Scope가 끝나면 사라지고 ThreadLocal에는 남지 않는다")
+    void scopedContext_notLeakedToThreadLocal() throws Exception {
+        // given
+        Authentication authentication = authentication(1L);
+
+        // when
+        Authentication inScope = strategy.callInScope(() -> {
+            strategy.setContext(new SecurityContextImpl(authentication));
+            assertThat(fallback.getContext().getAuthentication()).isNull();
+            return strategy.getContext().getAuthentication();
+        });
+
+        // then
+        assertThat(inScope).isSameAs(authentication);
+        assertThat(strategy.isBound()).isFalse();
+        assertThat(strategy.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("지연 Context는 처음 조회할 때 한 번만 만든다")
+    void deferredContext_resolvedOnce() throws Exception {
+        // given
+        int[] calls = new int[1];
+
+        // when
+        boolean same = strategy.callInScope(() -> {
+            strategy.setDeferredContext(() -> {
+                calls[0]++;
+                return new SecurityContextImpl();
+            });
+            SecurityContext first = strategy.getContext();
+            return first == strategy.getDeferredContext().get();
+        });
+
+        // then
+        assertThat(same).isTrue();
+        assertThat(calls[0]).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("clearContext 후에는 빈 Context를 반환한다")
+    void clearContext() throws Exception {
+        // when
+        Authentication cleared = strategy.callInScope(() -> {
+            strategy.setContext(new SecurityContextImpl(authentication(1L)));
+            strategy.clearContext();
+            return strategy.getContext().getAuthentication();
+        });
+
+        // then
+        assertThat(cleared).isNull();
+    }
+
+    @Test
+    @DisplayName("바인딩되지 않은 스레드에서는 기존 전략에 위임한다")
+    void unbound_delegatesToFallback() {
+        // given
+        Authentication authentication = authentication(1L);
+
+        // when
+        strategy.setContext(new SecurityContextImpl(authentication));
+
+        // then
+        assertThat(fallback.getContext().getAuthentication()).isSameAs(authentication);
+    }
+
+    @Test
+    @DisplayName("이미 교체된 전략을 폴백으로 넘겨도 원래 전략에 위임한다")
+    void nestedFallback_unwrapped() {
+        // given
+        ScopedValueSecurityContextHolderStrategy wrapped = new ScopedValueSecurityContextHolderStrategy(strategy);
+        Authentication authentication = authentication(1L);
+
+        // when
+        wrapped.setContext(new SecurityContextImpl(authentication));
+
+        // then
+        assertThat(fallback.getContext().getAuthentication()).isSameAs(authentication);
+    }
+
+    @Test
+    @DisplayName("동시에 실행되는 가상 스레드 요청은 서로의 인증 정보를 보지 않는다")
+    void concurrentVirtualThreads_isolated() throws Exception {
+        // given
+        int requests = 1_000;
+        List<Future<Long>> results = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long userId = 0; userId < requests; userId++) {
+                long id = userId;
+                results.add(executor.submit(() -> strategy.callInScope(() -> {
+                    strategy.setContext(new SecurityContextImpl(authentication(id)));
+                    Thread.yield();
+                    return ((JwtUserDetails) strategy.getContext().getAuthentication().getPrincipal()).getUserId();
+                })));
+            }
+        }
+
+        // then
+        for (int i = 0; i < requests; i++) {
+            assertThat(results.get(i).get()).isEqualTo(i);
+        }
+    }
+
+    private static Authentication authentication(long userId) {
+        return new JwtAuthentication(new JwtUserDetails(userId, "user" + userId + "@example.com", "CUSTOMER"));
+    }
+}
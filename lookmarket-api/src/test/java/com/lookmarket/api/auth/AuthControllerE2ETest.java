@@ -2,9 +2,11 @@ package com.lookmarket.api.auth;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lookmarket.api.security.JwtTokenProvider;
+import com.lookmarket.api.security.PasswordHashingRejectedException;
 import com.lookmarket.application.auth.AuthService;
 import com.lookmarket.application.auth.AuthenticationException;
-import com.lookmarket.domain.user.User;
+import com.lookmarket.application.auth.RefreshTokenGrant;
+import com.lookmarket.domain.user.UserCredentials;
 import com.lookmarket.domain.user.UserRole;
 import com.lookmarket.domain.user.UserStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,13 +21,18 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -40,12 +47,20 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         JwtTokenProvider.class,
         com.lookmarket.api.config.GlobalExceptionHandler.class,
         com.lookmarket.api.config.SecurityConfig.class,
-        com.lookmarket.api.security.JwtAuthenticationFilter.class
+        com.lookmarket.api.security.JwtAuthenticationFilter.class,
+        com.lookmarket.api.security.VerifiedTokenCache.class,
+        com.lookmarket.api.security.TokenRevocationChecker.class,
+        com.lookmarket.infrastructure.auth.InMemoryTokenRevocationStore.class,
+        com.lookmarket.api.security.JwtKeyRing.class,
+        LoginThrottle.class,
+        com.lookmarket.infrastructure.auth.InMemoryLoginAttemptLimiter.class
 })
 @TestPropertySource(properties = {
         "jwt.secret=test-secret-key-for-jwt-token-generation-must-be-long-enough-for-testing",
         "jwt.access-token-expiration=3600000",
-        "jwt.refresh-token-expiration=604800000"
+        "jwt.refresh-token-expiration=604800000",
+        "auth.login-throttle.ip.capacity=1000",
+        "auth.login-throttle.email.capacity=3"
 })
 class AuthControllerE2ETest {
 
@@ -61,21 +76,16 @@ class AuthControllerE2ETest {
     @MockBean
     private AuthService authService;
 
-    private User testUser;
+    private UserCredentials testUser;
 
     @BeforeEach
     void setUp() {
-        LocalDateTime now = LocalDateTime.now();
-        testUser = User.reconstitute(
+        testUser = new UserCredentials(
                 1L,
                 "test@example.com",
                 "encodedPassword",
-                "Test User",
-                "010-1234-5678",
                 UserRole.CUSTOMER,
-                UserStatus.ACTIVE,
-                now,
-                now
+                UserStatus.ACTIVE
         );
     }
 
@@ -90,6 +100,8 @@ class AuthControllerE2ETest {
             LoginRequest request = new LoginRequest("test@example.com", "password123");
 
             given(authService.authenticate(anyString(), anyString())).willReturn(testUser);
+            given(authService.startRefreshTokenFamily(any(), any()))
+                    .willReturn(new RefreshTokenGrant(testUser, "family-1", "token-1"));
 
             // when & then
             mockMvc.perform(post("/api/v1/auth/login")
@@ -166,6 +178,53 @@ class AuthControllerE2ETest {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.code").value("VALIDATION_FAILED"));
         }
+
+        @Test
+        @DisplayName("같은 이메일로 시도 제한을 넘으면 인증 없이 429를 반환한다")
+        void tooManyAttempts_returns429() throws Exception {
+            // given
+            LoginRequest request = new LoginRequest("throttled@example.com", "wrongPassword");
+
+            given(authService.authenticate(eq("throttled@example.com"), anyString()))
+                    .willThrow(new AuthenticationException("이메일 또는 비밀번호가 올바르지 않습니다."));
+
+            for (int i = 0; i < 3; i++) {
+                mockMvc.perform(post("/api/v1/auth/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                        .andExpect(status().isUnauthorized());
+            }
+
+            // when & then
+            mockMvc.perform(post("/api/v1/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "60"))
+                    .andExpect(jsonPath("$.code").value("TOO_MANY_REQUESTS"));
+
+            verify(authService, times(3)).authenticate(eq("throttled@example.com"), anyString());
+        }
+
+        @Test
+        @DisplayName("비밀번호 해시 대기열이 가득 차면 503과 Retry-After를 반환한다")
+        void hashingSaturated_returns503() throws Exception {
+            // given
+            LoginRequest request = new LoginRequest("busy@example.com", "password123");
+
+            given(authService.authenticate(eq("busy@example.com"), anyString()))
+                    .willThrow(new PasswordHashingRejectedException(Duration.ofSeconds(2)));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "2"))
+                    .andExpect(jsonPath("$.code").value("SERVICE_BUSY"));
+        }
     }
 
     @Nested
@@ -176,10 +235,11 @@ class AuthControllerE2ETest {
         @DisplayName("유효한 Refresh Token으로 새 토큰을 발급받는다")
         void success() throws Exception {
             // given
-            String refreshToken = jwtTokenProvider.createRefreshToken(1L);
+            String refreshToken = jwtTokenProvider.createRefreshToken(1L, "family-1", "token-1");
             TokenRefreshRequest request = new TokenRefreshRequest(refreshToken);
 
-            given(authService.validateUserForRefresh(anyLong())).willReturn(testUser);
+            given(authService.rotateRefreshToken(anyLong(), eq("family-1"), eq("token-1"), any()))
+                    .willReturn(new RefreshTokenGrant(testUser, "family-1", "token-2"));
 
             // when & then
             mockMvc.perform(post("/api/v1/auth/refresh")
@@ -243,10 +303,10 @@ class AuthControllerE2ETest {
         @DisplayName("비활성 사용자의 Refresh Token이면 401을 반환한다")
         void inactiveUser_returns401() throws Exception {
             // given
-            String refreshToken = jwtTokenProvider.createRefreshToken(1L);
+            String refreshToken = jwtTokenProvider.createRefreshToken(1L, "family-1", "token-1");
             TokenRefreshRequest request = new TokenRefreshRequest(refreshToken);
 
-            given(authService.validateUserForRefresh(anyLong()))
+            given(authService.rotateRefreshToken(anyLong(), anyString(), anyString(), any()))
                     .willThrow(new AuthenticationException("비활성 상태의 계정입니다."));
 
             // when & then
@@ -258,5 +318,24 @@ class AuthControllerE2ETest {
                     .andExpect(jsonPath("$.code").value("AUTHENTICATION_FAILED"))
                     .andExpect(jsonPath("$.message").value("비활성 상태의 계정입니다."));
         }
+
+        @Test
+        @DisplayName("이미 사용된 Refresh Token이면 401을 반환한다")
+        void reusedToken_returns401() throws Exception {
+            // given
+            String refreshToken = jwtTokenProvider.createRefreshToken(1L, "family-1", "token-1");
+            TokenRefreshRequest request = new TokenRefreshRequest(refreshToken);
+
+            given(authService.rotateRefreshToken(anyLong(), anyString(), anyString(), any()))
+                    .willThrow(new AuthenticationException("이미 사용된 Refresh Token입니다. 다시 로그인해 주세요."));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/auth/refresh")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.code").value("AUTHENTICATION_FAILED"));
+        }
     }
 }
@@ -0,0 +1,75 @@
+package com.lookmarket.api.auth;
+
+import com.lookmarket.api.security.JwtTokenProvider;
+import com.lookmarket.application.auth.AuthService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * JwksController E2E 테스트 (EdDSA 모드)
+ */
+@DisplayName("JwksController E2E 테스트")
+@WebMvcTest(JwksController.class)
+@Import({
+        JwtTokenProvider.class,
+        com.lookmarket.api.config.GlobalExceptionHandler.class,
+        com.lookmarket.api.config.SecurityConfig.class,
+        com.lookmarket.api.security.JwtAuthenticationFilter.class,
+        com.lookmarket.api.security.VerifiedTokenCache.class,
+        com.lookmarket.api.security.TokenRevocationChecker.class,
+        com.lookmarket.infrastructure.auth.InMemoryTokenRevocationStore.class,
+        com.lookmarket.api.security.JwtKeyRing.class
+})
+@TestPropertySource(properties = {
+        "jwt.secret=test-secret-key-for-jwt-token-generation-must-be-long-enough-for-testing",
+        "jwt.access-token-expiration=3600000",
+        "jwt.refresh-token-expiration=604800000",
+        "jwt.signing-algorithm=EdDSA"
+})
+class JwksControllerE2ETest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AuthService authService;
+
+    @Test
+    @DisplayName("인증 없이 Ed25519 공개키 목록과 캐시 헤더를 반환한다")
+    void jwks_returnsPublicKeys() throws Exception {
+        mockMvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=300")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("public")))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.keys.length()").value(1))
+                .andExpect(jsonPath("$.keys[0].kty").value("OKP"))
+                .andExpect(jsonPath("$.keys[0].crv").value("Ed25519"))
+                .andExpect(jsonPath("$.keys[0].alg").value("EdDSA"))
+                .andExpect(jsonPath("$.keys[0].x").isNotEmpty())
+                .andExpect(jsonPath("$.keys[0].k").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("ETag가 같으면 304를 반환한다")
+    void jwks_ifNoneMatch_returns304() throws Exception {
+        String etag = mockMvc.perform(get("/.well-known/jwks.json"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/.well-known/jwks.json").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+}
@@ -0,0 +1,140 @@
+package com.lookmarket.api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BulkheadPasswordEncoder 단위 테스트")
+class BulkheadPasswordEncoderTest {
+
+    private BulkheadPasswordEncoder encoder;
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("해시 전용 스레드에서 encode/matches를 실행한다")
+    void runsOnHashingThread() {
+        // given
+        AtomicReference<String> hashingThread = new AtomicReference<>();
+        encoder = new BulkheadPasswordEncoder(new RecordingEncoder(hashingThread), 1, 1, Duration.ofSeconds(1));
+
+        // when
+        String encoded = encoder.encode("password");
+
+        // then
+        assertThat(encoded).isEqualTo("{encoded}password");
+        assertThat(encoder.matches("password", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+        assertThat(hashingThread.get()).startsWith("password-hashing-");
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 거부한다")
+    void queueFull_rejected() throws Exception {
+        // given (스레드 1개, 대기열 1개를 모두 점유)
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BulkheadPasswordEncoder(new BlockingEncoder(started, release), 1, 1, Duration.ofSeconds(2));
+        callers.submit(() -> encoder.encode("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        callers.submit(() -> encoder.encode("queued"));
+        awaitQueueSize(1);
+
+        // when & then
+        assertThatThrownBy(() -> encoder.encode("rejected"))
+                .isInstanceOf(PasswordHashingRejectedException.class)
+                .extracting(e -> ((PasswordHashingRejectedException) e).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(2));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("대기열 길이, 대기/해시 시간, 거부 건수를 노출한다")
+    void metrics() {
+        // given
+        encoder = new BulkheadPasswordEncoder(new RecordingEncoder(new AtomicReference<>()), 1, 1, Duration.ofSeconds(1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        encoder.bindTo(registry);
+
+        // when
+        encoder.encode("password");
+        encoder.matches("password", "{encoded}password");
+
+        // then
+        assertThat(registry.get("password.hashing.queue.size").gauge().value()).isZero();
+        assertThat(registry.get("password.hashing.wait").functionTimer().count()).isEqualTo(2);
+        assertThat(registry.get("password.hashing.duration").functionTimer().count()).isEqualTo(2);
+        assertThat(registry.get("password.hashing.rejected").functionCounter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("기본 스레드 수는 CPU 코어 수의 절반이고 최소 1이다")
+    void defaultThreads_halfOfCores() {
+        // when & then
+        assertThat(BulkheadPasswordEncoder.defaultThreads(8)).isEqualTo(4);
+        assertThat(BulkheadPasswordEncoder.defaultThreads(3)).isEqualTo(1);
+        assertThat(BulkheadPasswordEncoder.defaultThreads(1)).isEqualTo(1);
+    }
+
+    private void awaitQueueSize(int expected) throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        encoder.bindTo(registry);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("password.hashing.queue.size").gauge().value() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private record RecordingEncoder(AtomicReference<String> thread) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            thread.set(Thread.currentThread().getName());
+            return "{encoded}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+
+    private record BlockingEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+    }
+}
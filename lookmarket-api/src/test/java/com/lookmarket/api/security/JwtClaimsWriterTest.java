@@ -0,0 +1,115 @@
+package com.lookmarket.api.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtClaimsWriter 단위 테스트")
+class JwtClaimsWriterTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-must-be-long-enough";
+    private static final long ISSUED_AT = 1_767_225_600L;
+    private static final long EXPIRES_AT = ISSUED_AT + 3600;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("HMAC 키로 jjwt 빌더와 바이트 단위로 같은 토큰을 만든다")
+    void hmac_sameAsJjwtBuilder() {
+        // given
+        JwtKeyRing keyRing = JwtKeyRing.of(SECRET);
+
+        // when
+        String written = writeAccessToken(keyRing.signer(), "test@example.com");
+
+        // then
+        assertThat(written).isEqualTo(buildAccessToken(keyRing.signingKey(), "test@example.com"));
+    }
+
+    @Test
+    @DisplayName("Ed25519 키로 jjwt 빌더와 바이트 단위로 같은 토큰을 만든다")
+    void eddsa_sameAsJjwtBuilder() throws Exception {
+        // given
+        KeyPair keyPair = JwtSigningKey.EdDsa.generateKeyPair();
+        Path keysFile = tempDir.resolve("jwt-keys.properties");
+        Files.writeString(keysFile, "signing-key-id=ed-1\n"
+                + "eddsa.ed-1.private=" + Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()) + "\n"
+                + "eddsa.ed-1.public=" + Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()) + "\n");
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, JwtKeyRing.DEFAULT_KEY_ID, keysFile.toString(),
+                JwtKeyRing.SigningAlgorithm.EdDSA);
+
+        // when
+        String written = writeAccessToken(keyRing.signer(), "test@example.com");
+
+        // then (Ed25519 서명은 결정적이므로 전체가 같아야 함)
+        assertThat(written).isEqualTo(buildAccessToken(keyRing.signingKey(), "test@example.com"));
+    }
+
+    @Test
+    @DisplayName("이스케이프가 필요한 문자와 비 ASCII 문자도 jjwt와 같게 직렬화된다")
+    void escapedAndUnicodeValues_sameAsJjwtBuilder() {
+        // given
+        JwtKeyRing keyRing = JwtKeyRing.of(SECRET);
+        String email = "\"quoted\\\"\n\u0001홍길동😀@example.com";
+
+        // when
+        String written = writeAccessToken(keyRing.signer(), email);
+
+        // then
+        assertThat(written).isEqualTo(buildAccessToken(keyRing.signingKey(), email));
+        Claims claims = new JwtTokenProvider(keyRing, 3600000L, 604800000L).getClaims(
+                writeAccessToken(keyRing.signer(), email, System.currentTimeMillis() / 1000));
+        assertThat(claims.get("email", String.class)).isEqualTo(email);
+    }
+
+    @Test
+    @DisplayName("null 값 Claim은 생략된다")
+    void nullClaim_omitted() {
+        // given
+        JwtKeyRing keyRing = JwtKeyRing.of(SECRET);
+
+        // when
+        String written = writeAccessToken(keyRing.signer(), null);
+
+        // then
+        assertThat(written).isEqualTo(buildAccessToken(keyRing.signingKey(), null));
+    }
+
+    private static String writeAccessToken(JwtKeyRing.Signer signer, String email) {
+        return writeAccessToken(signer, email, ISSUED_AT);
+    }
+
+    private static String writeAccessToken(JwtKeyRing.Signer signer, String email, long issuedAt) {
+        return new JwtClaimsWriter()
+                .claim("sub", "1")
+                .claim("email", email)
+                .claim("role", "CUSTOMER")
+                .claim("type", "access")
+                .claim("iat", issuedAt)
+                .claim("exp", issuedAt + 3600)
+                .sign(signer);
+    }
+
+    private static String buildAccessToken(JwtSigningKey signingKey, String email) {
+        return signingKey.signWith(Jwts.builder())
+                .header().keyId(signingKey.keyId()).and()
+                .subject("1")
+                .claim("email", email)
+                .claim("role", "CUSTOMER")
+                .claim("type", "access")
+                .issuedAt(new Date(ISSUED_AT * 1000))
+                .expiration(new Date(EXPIRES_AT * 1000))
+                .compact();
+    }
+}
@@ -0,0 +1,292 @@
+package com.lookmarket.api.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtKeyRing 단위 테스트")
+class JwtKeyRingTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-must-be-long-enough";
+    private static final String NEW_SECRET = "rotated-secret-key-for-jwt-token-generation-must-be-long-enough";
+    private static final long ACCESS_TOKEN_EXPIRATION = 3600000L;
+    private static final long REFRESH_TOKEN_EXPIRATION = 604800000L;
+
+    @TempDir
+    Path tempDir;
+
+    private Path keysFile;
+
+    @BeforeEach
+    void setUp() {
+        keysFile = tempDir.resolve("jwt-keys.properties");
+    }
+
+    @Nested
+    @DisplayName("kid 헤더")
+    class KeyIdHeader {
+
+        @Test
+        @DisplayName("발급한 토큰 헤더에 서명 키의 kid가 포함된다")
+        void createToken_containsKeyId() {
+            // given
+            JwtTokenProvider provider = new JwtTokenProvider(SECRET, ACCESS_TOKEN_EXPIRATION, REFRESH_TOKEN_EXPIRATION);
+
+            // when
+            String token = provider.createAccessToken(1L, "test@example.com", "USER");
+
+            // then
+            String header = new String(Base64.getUrlDecoder().decode(token.split("\\.")[0]), StandardCharsets.UTF_8);
+            assertThat(header).contains("\"kid\":\"" + JwtKeyRing.DEFAULT_KEY_ID + "\"");
+        }
+
+        @Test
+        @DisplayName("kid 도입 이전에 발급된 토큰도 기본 키로 검증된다")
+        void legacyTokenWithoutKeyId_isValid() {
+            // given: kid 없이 jjwt 기본 방식으로 서명한 토큰
+            JwtTokenProvider provider = new JwtTokenProvider(SECRET, ACCESS_TOKEN_EXPIRATION, REFRESH_TOKEN_EXPIRATION);
+            String legacyToken = Jwts.builder()
+                    .subject("1")
+                    .claim("email", "test@example.com")
+                    .claim("role", "USER")
+                    .claim("type", "access")
+                    .issuedAt(new Date())
+                    .expiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRATION))
+                    .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                    .compact();
+
+            // when & then
+            assertThat(provider.validate(legacyToken).isValid()).isTrue();
+            assertThat(provider.getUserId(legacyToken)).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("키링에 없는 kid의 토큰은 INVALID_SIGNATURE를 반환한다")
+        void unknownKeyId_invalidSignature() throws IOException {
+            // given
+            writeKeys("rotated", "keys.rotated=" + NEW_SECRET);
+            JwtTokenProvider issuer = newProvider(new JwtKeyRing(SECRET, JwtKeyRing.DEFAULT_KEY_ID, keysFile.toString()));
+            String token = issuer.createAccessToken(1L, "test@example.com", "USER");
+            JwtTokenProvider verifier = new JwtTokenProvider(SECRET, ACCESS_TOKEN_EXPIRATION, REFRESH_TOKEN_EXPIRATION);
+
+            // when & then
+            assertThat(verifier.validate(token).status()).isEqualTo(TokenValidationResult.Status.INVALID_SIGNATURE);
+        }
+    }
+
+    @Nested
+    @DisplayName("키 교체")
+    class Rotation {
+
+        @Test
+        @DisplayName("서명 키를 바꾸면 새 토큰은 새 키로, 기존 토큰은 이전 키로 검증된다")
+        void rotateSigningKey_bothTokensValid() throws IOException {
+            // given
+            JwtKeyRing keyRing = new JwtKeyRing(SECRET, JwtKeyRing.DEFAULT_KEY_ID, "");
+            JwtKeyRing fileKeyRing = newKeyRingWithFile(JwtKeyRing.DEFAULT_KEY_ID);
+            JwtTokenProvider provider = newProvider(fileKeyRing);
+            String oldToken = provider.createAccessToken(1L, "test@example.com", "USER");
+
+            // when
+            writeKeys("rotated", "keys.rotated=" + NEW_SECRET);
+            fileKeyRing.reloadIfModified();
+            String newToken = provider.createAccessToken(2L, "new@example.com", "USER");
+
+            // then
+            assertThat(fileKeyRing.signingKeyId()).isEqualTo("rotated");
+            assertThat(provider.validate(oldToken).isValid()).isTrue();
+            assertThat(provider.validate(newToken).isValid()).isTrue();
+            assertThat(provider.getUserId(newToken)).isEqualTo(2L);
+            // 새 키를 모르는 인스턴스는 새 토큰을 거부
+            assertThat(newProvider(keyRing).validate(newToken).isValid()).isFalse();
+        }
+
+        @Test
+        @DisplayName("키 파일에서 제거된 키의 토큰은 더 이상 검증되지 않는다")
+        void retireKey_tokenRejected() throws IOException {
+            // given
+            writeKeys("rotated", "keys.rotated=" + NEW_SECRET, "keys.old=" + NEW_SECRET + "-old");
+            JwtKeyRing keyRing = new JwtKeyRing(SECRET, JwtKeyRing.DEFAULT_KEY_ID, keysFile.toString());
+            writeKeys("old", "keys.rotated=" + NEW_SECRET, "keys.old=" + NEW_SECRET + "-old");
+            keyRing.reloadIfModified();
+            JwtTokenProvider provider = newProvider(keyRing);
+            String tokenByOldKey = provider.createAccessToken(1L, "test@example.com", "USER");
+
+            // when
+            writeKeys("rotated", "keys.rotated=" + NEW_SECRET);
+            keyRing.reloadIfModified();
+
+            // then
+            assertThat(keyRing.keyIds()).containsExactlyInAnyOrder(JwtKeyRing.DEFAULT_KEY_ID, "rotated");
+            assertThat(provider.validate(tokenByOldKey).status())
+                    .isEqualTo(TokenValidationResult.Status.INVALID_SIGNATURE);
+        }
+
+        @Test
+        @DisplayName("잘못된 키 파일로 바뀌면 기존 키링을 유지한다")
+        void invalidKeysFile_keepsPreviousKeys() throws IOException {
+            // given
+            JwtKeyRing keyRing = newKeyRingWithFile("rotated", "keys.rotated=" + NEW_SECRET);
+            JwtTokenProvider provider = newProvider(keyRing);
+            String token = provider.createAccessToken(1L, "test@example.com", "USER");
+
+            // when: 존재하지 않는 서명 키 지정
+            writeKeys("missing", "keys.rotated=" + NEW_SECRET);
+            keyRing.reloadIfModified();
+
+            // then
+            assertThat(keyRing.signingKeyId()).isEqualTo("rotated");
+            assertThat(provider.validate(token).isValid()).isTrue();
+        }
+
+        @Test
+        @DisplayName("기동 시 키 파일이 잘못되었으면 즉시 실패한다")
+        void invalidKeysFileOnStartup_fails() throws IOException {
+            writeKeys("missing");
+
+            assertThatThrownBy(() -> new JwtKeyRing(SECRET, JwtKeyRing.DEFAULT_KEY_ID, keysFile.toString()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("EdDSA 모드")
+    class EdDsaMode {
+
+        @Test
+        @DisplayName("Ed25519로 서명한 토큰을 검증하고 alg 헤더는 EdDSA이다")
+        void ephemeralKey_signAndVerify() {
+            // given
+            JwtKeyRing keyRing = new JwtKeyRing(SECRET, JwtKeyRing.DEFAULT_KEY_ID, "", JwtKeyRing.SigningAlgorithm.EdDSA);
+            JwtTokenProvider provider = newProvider(keyRing);
+
+            // when
+            String token = provider.createAccessToken(1L, "test@example.com", "USER");
+
+            // then
+            String header = new String(Base64.getUrlDecoder().decode(token.split("\\.")[0]), StandardCharsets.UTF_8);
+            assertThat(header).contains("\"alg\":\"EdDSA\"");
+            assertThat(provider.validate(token).isValid()).isTrue();
+            assertThat(provider.getUserId(token)).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("JWKS의 공개키만으로 다른 서비스가 토큰을 검증할 수 있다")
+        void jwks_publicKeyVerifiesToken() throws Exception {
+            // given
+            JwtKeyRing keyRing = new JwtKeyRing(SECRET, JwtKeyRing.DEFAULT_KEY_ID, "", JwtKeyRing.SigningAlgorithm.EdDSA);
+            String token = newProvider(keyRing).createAccessToken(1L, "test@example.com", "USER");
+
+            // when: JWK(x)로 공개키 복원
+            Map<String, Object> jwk = keyRing.jsonWebKeySet().keys().get(0);
+            byte[] raw = Base64.getUrlDecoder().decode((String) jwk.get("x"));
+            byte[] x509 = new byte[12 + raw.length];
+            System.arraycopy(HexFormat.of().parseHex("302a300506032b6570032100"), 0, x509, 0, 12);
+            System.arraycopy(raw, 0, x509, 12, raw.length);
+            PublicKey publicKey = KeyFactory.getInstance("Ed25519").generatePublic(new X509EncodedKeySpec(x509));
+
+            // then
+            String subject = Jwts.parser().verifyWith(publicKey).build()
+                    .parseSignedClaims(token).getPayload().getSubject();
+            assertThat(subject).isEqualTo("1");
+            assertThat(jwk.get("kid")).isEqualTo(keyRing.signingKeyId());
+        }
+
+        @Test
+        @DisplayName("공개키만 남긴 이전 키로 서명된 토큰은 계속 검증되고 JWKS에도 포함된다")
+        void verificationOnlyKey_stillVerifies() throws IOException {
+            // given
+            KeyPair oldKey = JwtSigningKey.EdDsa.generateKeyPair();
+            KeyPair newKey = JwtSigningKey.EdDsa.generateKeyPair();
+            writeKeys("ed-old", edKey("ed-old", oldKey, true));
+            JwtKeyRing keyRing = new JwtKeyRing(SECRET, JwtKeyRing.DEFAULT_KEY_ID, keysFile.toString(),
+                    JwtKeyRing.SigningAlgorithm.EdDSA);
+            JwtTokenProvider provider = newProvider(keyRing);
+            String oldToken = provider.createAccessToken(1L, "test@example.com", "USER");
+
+            // when: 새 키로 전환하고 이전 키는 공개키만 유지
+            writeKeys("ed-new", edKey("ed-new", newKey, true), edKey("ed-old", oldKey, false));
+            keyRing.reloadIfModified();
+            String newToken = provider.createAccessToken(2L, "new@example.com", "USER");
+
+            // then
+            assertThat(keyRing.signingKeyId()).isEqualTo("ed-new");
+            assertThat(provider.validate(oldToken).isValid()).isTrue();
+            assertThat(provider.validate(newToken).isValid()).isTrue();
+            assertThat(keyRing.jsonWebKeySet().keys()).extracting(jwk -> jwk.get("kid"))
+                    .containsExactly("ed-new", "ed-old");
+        }
+
+        @Test
+        @DisplayName("EdDSA 모드에서 HMAC 키나 검증 전용 키를 서명 키로 지정하면 실패한다")
+        void invalidSigningKey_fails() throws IOException {
+            writeKeys(JwtKeyRing.DEFAULT_KEY_ID);
+            assertThatThrownBy(() -> new JwtKeyRing(SECRET, JwtKeyRing.DEFAULT_KEY_ID, keysFile.toString(),
+                    JwtKeyRing.SigningAlgorithm.EdDSA))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            writeKeys("ed-old", edKey("ed-old", JwtSigningKey.EdDsa.generateKeyPair(), false));
+            assertThatThrownBy(() -> new JwtKeyRing(SECRET, JwtKeyRing.DEFAULT_KEY_ID, keysFile.toString(),
+                    JwtKeyRing.SigningAlgorithm.EdDSA))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("HS 모드에서는 JWKS로 어떤 키도 공개하지 않는다")
+        void hsMode_jwksEmpty() {
+            JwtKeyRing keyRing = JwtKeyRing.of(SECRET);
+
+            assertThat(keyRing.jsonWebKeySet().keys()).isEmpty();
+        }
+
+        private String edKey(String keyId, KeyPair keyPair, boolean withPrivateKey) {
+            String publicKey = "eddsa." + keyId + ".public=" + Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+            if (!withPrivateKey) {
+                return publicKey;
+            }
+            return publicKey + "\neddsa." + keyId + ".private="
+                    + Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded());
+        }
+    }
+
+    private JwtKeyRing newKeyRingWithFile(String signingKeyId, String... keys) throws IOException {
+        writeKeys(signingKeyId, keys);
+        return new JwtKeyRing(SECRET, JwtKeyRing.DEFAULT_KEY_ID, keysFile.toString());
+    }
+
+    private JwtTokenProvider newProvider(JwtKeyRing keyRing) {
+        return new JwtTokenProvider(keyRing, ACCESS_TOKEN_EXPIRATION, REFRESH_TOKEN_EXPIRATION);
+    }
+
+    /**
+     * 키 파일 작성 (같은 밀리초 안의 재작성도 변경으로 감지되도록 수정 시각을 앞으로 이동)
+     */
+    private void writeKeys(String signingKeyId, String... keys) throws IOException {
+        FileTime previous = Files.exists(keysFile) ? Files.getLastModifiedTime(keysFile) : null;
+        Files.writeString(keysFile, "signing-key-id=" + signingKeyId + "\n" + String.join("\n", keys) + "\n");
+        if (previous != null) {
+            Files.setLastModifiedTime(keysFile, FileTime.fromMillis(previous.toMillis() + 1000));
+        }
+    }
+}
@@ -1,13 +1,26 @@
 package com.lookmarket.api.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.core.Authentication;
 
+import javax.crypto.SecretKey;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @DisplayName("JwtTokenProvider 단위 테스트")
 class JwtTokenProviderTest {
@@ -18,6 +31,10 @@ class JwtTokenProviderTest {
     private static final String SECRET = "test-secret-key-for-jwt-token-generation-must-be-long-enough";
     private static final long ACCESS_TOKEN_EXPIRATION = 3600000L;  // 1시간
     private static final long REFRESH_TOKEN_EXPIRATION = 604800000L;  // 7일
+    private static final String FAMILY_ID = "family-1";
+    private static final String TOKEN_ID = "token-1";
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
 
     @BeforeEach
     void setUp() {
@@ -75,7 +92,7 @@ class JwtTokenProviderTest {
             Long userId = 1L;
 
             // when
-            String token = jwtTokenProvider.createRefreshToken(userId);
+            String token = jwtTokenProvider.createRefreshToken(userId, FAMILY_ID, TOKEN_ID);
 
             // then
             assertThat(token).isNotNull();
@@ -89,13 +106,15 @@ class JwtTokenProviderTest {
             Long userId = 1L;
 
             // when
-            String token = jwtTokenProvider.createRefreshToken(userId);
+            String token = jwtTokenProvider.createRefreshToken(userId, FAMILY_ID, TOKEN_ID);
             Claims claims = jwtTokenProvider.getClaims(token);
 
             // then
             assertThat(claims.getSubject()).isEqualTo(String.valueOf(userId));
             assertThat(claims.get("type", String.class)).isEqualTo("refresh");
             assertThat(claims.get("email")).isNull();  // Refresh Token에는 email 없음
+            assertThat(claims.getId()).isEqualTo(TOKEN_ID);
+            assertThat(claims.get("fid", String.class)).isEqualTo(FAMILY_ID);
         }
     }
 
@@ -224,7 +243,7 @@ class JwtTokenProviderTest {
         @DisplayName("Refresh Token의 타입은 'refresh'이다")
         void getTokenType_refreshToken() {
             // given
-            String token = jwtTokenProvider.createRefreshToken(1L);
+            String token = jwtTokenProvider.createRefreshToken(1L, FAMILY_ID, TOKEN_ID);
 
             // when
             String tokenType = jwtTokenProvider.getTokenType(token);
@@ -275,6 +294,255 @@ class JwtTokenProviderTest {
                     .extracting("authority")
                     .containsExactly("ROLE_ADMIN");
         }
+
+        @Test
+        @DisplayName("같은 역할의 Authentication은 권한 목록을 공유한다")
+        void getAuthentication_sharesAuthoritiesPerRole() {
+            // given
+            VerifiedToken first = accessToken(1L, "CUSTOMER");
+            VerifiedToken second = accessToken(2L, "CUSTOMER");
+
+            // when
+            Authentication a = jwtTokenProvider.getAuthentication(first);
+            Authentication b = jwtTokenProvider.getAuthentication(second);
+
+            // then
+            assertThat(a.getAuthorities()).isSameAs(b.getAuthorities());
+            assertThat(a.getAuthorities()).isSameAs(a.getAuthorities());
+            assertThat(a.getAuthorities()).extracting("authority").containsExactly("ROLE_CUSTOMER");
+        }
+
+        @Test
+        @DisplayName("Authentication 생성 시 할당량은 인증 객체 두 개 수준이다")
+        void getAuthentication_allocatesAlmostNothing() {
+            // given
+            assumeTrue(THREAD_MX_BEAN.isThreadAllocatedMemorySupported());
+            THREAD_MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+            VerifiedToken verifiedToken = accessToken(1L, "CUSTOMER");
+            int iterations = 100_000;
+            for (int i = 0; i < iterations; i++) {
+                jwtTokenProvider.getAuthentication(verifiedToken).getAuthorities();
+            }
+
+            // when
+            long threadId = Thread.currentThread().threadId();
+            long before = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < iterations; i++) {
+                jwtTokenProvider.getAuthentication(verifiedToken).getAuthorities();
+            }
+            long bytesPerCall = (THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - before) / iterations;
+
+            // then (JwtUserDetails + JwtAuthentication, 문자열/권한/리스트 할당 없음)
+            assertThat(bytesPerCall).isLessThanOrEqualTo(64);
+        }
+
+        private VerifiedToken accessToken(Long userId, String role) {
+            return jwtTokenProvider.verify(jwtTokenProvider.createAccessToken(userId, "test@example.com", role))
+                    .orElseThrow();
+        }
+    }
+
+    @Nested
+    @DisplayName("한 번의 파싱으로 토큰 검증 (verify)")
+    class Verify {
+
+        @Test
+        @DisplayName("유효한 Access Token에서 모든 Claim을 추출한다")
+        void verify_accessToken_extractsClaims() {
+            // given
+            String token = jwtTokenProvider.createAccessToken(7L, "test@example.com", "ADMIN");
+
+            // when
+            Optional<VerifiedToken> verified = jwtTokenProvider.verify(token);
+
+            // then
+            assertThat(verified).isPresent();
+            assertThat(verified.get().userId()).isEqualTo(7L);
+            assertThat(verified.get().email()).isEqualTo("test@example.com");
+            assertThat(verified.get().role()).isEqualTo("ADMIN");
+            assertThat(verified.get().isAccessToken()).isTrue();
+            assertThat(verified.get().expiresAt()).isAfter(verified.get().issuedAt());
+        }
+
+        @Test
+        @DisplayName("Refresh Token은 refresh 타입으로 검증된다")
+        void verify_refreshToken_isRefreshType() {
+            // given
+            String token = jwtTokenProvider.createRefreshToken(7L, FAMILY_ID, TOKEN_ID);
+
+            // when
+            Optional<VerifiedToken> verified = jwtTokenProvider.verify(token);
+
+            // then
+            assertThat(verified).isPresent();
+            assertThat(verified.get().isRefreshToken()).isTrue();
+            assertThat(verified.get().isAccessToken()).isFalse();
+            assertThat(verified.get().familyId()).isEqualTo(FAMILY_ID);
+            assertThat(verified.get().tokenId()).isEqualTo(TOKEN_ID);
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 토큰은 empty를 반환한다")
+        void verify_invalidToken_returnsEmpty() {
+            assertThat(jwtTokenProvider.verify("invalid.token.format")).isEmpty();
+            assertThat(jwtTokenProvider.verify("")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("검증된 토큰으로 재파싱 없이 Authentication을 생성한다")
+        void getAuthentication_fromVerifiedToken() {
+            // given
+            String token = jwtTokenProvider.createAccessToken(1L, "test@example.com", "ADMIN");
+            VerifiedToken verified = jwtTokenProvider.verify(token).orElseThrow();
+
+            // when
+            Authentication authentication = jwtTokenProvider.getAuthentication(verified);
+
+            // then
+            JwtUserDetails userDetails = (JwtUserDetails) authentication.getPrincipal();
+            assertThat(userDetails.getUserId()).isEqualTo(1L);
+            assertThat(authentication.getAuthorities())
+                    .extracting("authority")
+                    .containsExactly("ROLE_ADMIN");
+        }
+    }
+
+    @Nested
+    @DisplayName("결과 코드 검증 (validate)")
+    class Validate {
+
+        @Test
+        @DisplayName("유효한 토큰은 VALID와 검증된 토큰 정보를 반환한다")
+        void validate_validToken() {
+            String token = jwtTokenProvider.createAccessToken(1L, "test@example.com", "USER");
+
+            TokenValidationResult result = jwtTokenProvider.validate(token);
+
+            assertThat(result.status()).isEqualTo(TokenValidationResult.Status.VALID);
+            assertThat(result.verifiedToken()).isPresent();
+        }
+
+        @Test
+        @DisplayName("만료된 토큰은 EXPIRED를 반환한다")
+        void validate_expiredToken() {
+            JwtTokenProvider expiringProvider = new JwtTokenProvider(SECRET, -60_000L, -60_000L);
+            String token = expiringProvider.createAccessToken(1L, "test@example.com", "USER");
+
+            assertThat(jwtTokenProvider.validate(token).status())
+                    .isEqualTo(TokenValidationResult.Status.EXPIRED);
+        }
+
+        @Test
+        @DisplayName("구조가 잘못된 토큰은 MALFORMED를 반환한다")
+        void validate_malformedToken() {
+            assertThat(jwtTokenProvider.validate("invalid.token.format").status())
+                    .isEqualTo(TokenValidationResult.Status.MALFORMED);
+            assertThat(jwtTokenProvider.validate("no-dots-at-all").status())
+                    .isEqualTo(TokenValidationResult.Status.MALFORMED);
+            assertThat(jwtTokenProvider.validate("a.b.c.d").status())
+                    .isEqualTo(TokenValidationResult.Status.MALFORMED);
+            assertThat(jwtTokenProvider.validate("eyJ!.eyJ$.sig").status())
+                    .isEqualTo(TokenValidationResult.Status.MALFORMED);
+        }
+
+        @Test
+        @DisplayName("다른 키로 서명되거나 변조된 토큰은 INVALID_SIGNATURE를 반환한다")
+        void validate_invalidSignature() {
+            JwtTokenProvider otherProvider = new JwtTokenProvider(
+                    "different-secret-key-that-is-also-long-enough-for-testing",
+                    ACCESS_TOKEN_EXPIRATION,
+                    REFRESH_TOKEN_EXPIRATION
+            );
+            String foreignToken = otherProvider.createAccessToken(1L, "test@example.com", "USER");
+
+            String[] parts = jwtTokenProvider.createAccessToken(1L, "test@example.com", "USER").split("\\.");
+            String adminPayload = java.util.Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    "{\"sub\":\"1\",\"role\":\"ADMIN\",\"type\":\"access\",\"exp\":9999999999}".getBytes());
+            String tamperedToken = parts[0] + "." + adminPayload + "." + parts[2];
+
+            assertThat(jwtTokenProvider.validate(foreignToken).status())
+                    .isEqualTo(TokenValidationResult.Status.INVALID_SIGNATURE);
+            assertThat(jwtTokenProvider.validate(tamperedToken).status())
+                    .isEqualTo(TokenValidationResult.Status.INVALID_SIGNATURE);
+        }
+
+        @Test
+        @DisplayName("빈 토큰은 EMPTY를 반환한다")
+        void validate_emptyToken() {
+            assertThat(jwtTokenProvider.validate("").status()).isEqualTo(TokenValidationResult.Status.EMPTY);
+            assertThat(jwtTokenProvider.validate(null).status()).isEqualTo(TokenValidationResult.Status.EMPTY);
+        }
+
+        @Test
+        @DisplayName("결과별 건수가 jwt.validation 카운터로 집계된다")
+        void validate_countsPerResult() {
+            // given
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            jwtTokenProvider.bindTo(registry);
+            String token = jwtTokenProvider.createAccessToken(1L, "test@example.com", "USER");
+
+            // when
+            jwtTokenProvider.validate(token);
+            jwtTokenProvider.validate(token);
+            for (int i = 0; i < 100; i++) {
+                jwtTokenProvider.validate("invalid.token.format");
+            }
+
+            // then
+            assertThat(registry.get("jwt.validation").tag("result", "valid").functionCounter().count())
+                    .isEqualTo(2.0);
+            assertThat(registry.get("jwt.validation").tag("result", "malformed").functionCounter().count())
+                    .isEqualTo(100.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Mac 재사용 서명 경로")
+    class PooledSignature {
+
+        @Test
+        @DisplayName("풀링된 Mac으로 서명한 토큰은 jjwt 기본 파서로도 검증된다")
+        void pooledSignature_compatibleWithDefaultParser() {
+            // given
+            String token = jwtTokenProvider.createAccessToken(1L, "test@example.com", "USER");
+            SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+
+            // when
+            Claims claims = Jwts.parser()
+                    .verifyWith(key)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+
+            // then
+            assertThat(claims.getSubject()).isEqualTo("1");
+        }
+
+        @Test
+        @DisplayName("Virtual Thread에서 동시에 서명/검증해도 모두 성공한다")
+        void pooledSignature_concurrentVirtualThreads() throws Exception {
+            // given
+            int taskCount = 1_000;
+            List<Future<Boolean>> results = new ArrayList<>();
+
+            // when
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < taskCount; i++) {
+                    long userId = i;
+                    results.add(executor.submit(() -> {
+                        String token = jwtTokenProvider.createAccessToken(userId, "test@example.com", "USER");
+                        return jwtTokenProvider.verify(token)
+                                .map(verified -> verified.userId() == userId)
+                                .orElse(false);
+                    }));
+                }
+            }
+
+            // then
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        }
     }
 
     @Nested
@@ -301,4 +569,112 @@ class JwtTokenProviderTest {
             assertThat(expiration).isEqualTo(REFRESH_TOKEN_EXPIRATION);
         }
     }
+
+    @Nested
+    @DisplayName("압축 Claim 형식 (jwt.claims.format=COMPACT)")
+    class CompactFormat {
+
+        private JwtKeyRing keyRing;
+        private JwtTokenProvider compactProvider;
+        private JwtTokenProvider standardProvider;
+
+        @BeforeEach
+        void setUp() {
+            keyRing = JwtKeyRing.of(SECRET);
+            compactProvider = new JwtTokenProvider(keyRing, ACCESS_TOKEN_EXPIRATION, REFRESH_TOKEN_EXPIRATION,
+                    JwtTokenProvider.ClaimsFormat.COMPACT);
+            standardProvider = new JwtTokenProvider(keyRing, ACCESS_TOKEN_EXPIRATION, REFRESH_TOKEN_EXPIRATION);
+        }
+
+        @Test
+        @DisplayName("압축 Access Token을 두 형식의 Provider 모두 같은 값으로 검증한다")
+        void compactAccessToken_verifiedByBothFormats() {
+            // given
+            String token = compactProvider.createAccessToken(1L, "test@example.com", "SELLER");
+
+            // when
+            VerifiedToken fromCompact = compactProvider.verify(token).orElseThrow();
+            VerifiedToken fromStandard = standardProvider.verify(token).orElseThrow();
+
+            // then
+            assertThat(fromCompact).isEqualTo(fromStandard);
+            assertThat(fromCompact.userId()).isEqualTo(1L);
+            assertThat(fromCompact.email()).isEqualTo("test@example.com");
+            assertThat(fromCompact.role()).isEqualTo("SELLER");
+            assertThat(fromCompact.isAccessToken()).isTrue();
+        }
+
+        @Test
+        @DisplayName("압축 형식 Provider도 기존 표준 형식 토큰을 검증한다")
+        void standardToken_verifiedByCompactProvider() {
+            // given
+            String token = standardProvider.createAccessToken(1L, "test@example.com", "ADMIN");
+
+            // when
+            Optional<VerifiedToken> verified = compactProvider.verify(token);
+
+            // then
+            assertThat(verified).isPresent();
+            assertThat(verified.get().role()).isEqualTo("ADMIN");
+        }
+
+        @Test
+        @DisplayName("압축 Refresh Token의 jti/fid/타입이 보존된다")
+        void compactRefreshToken_preservesClaims() {
+            // given
+            String token = compactProvider.createRefreshToken(1L, FAMILY_ID, TOKEN_ID);
+
+            // when
+            VerifiedToken verified = standardProvider.verify(token).orElseThrow();
+
+            // then
+            assertThat(verified.isRefreshToken()).isTrue();
+            assertThat(verified.tokenId()).isEqualTo(TOKEN_ID);
+            assertThat(verified.familyId()).isEqualTo(FAMILY_ID);
+            assertThat(compactProvider.getTokenType(token)).isEqualTo("refresh");
+        }
+
+        @Test
+        @DisplayName("코드가 없는 역할은 문자열로 기록되고 jjwt 파서로도 읽힌다")
+        void unknownRole_writtenAsString() {
+            // given
+            String token = compactProvider.createAccessToken(1L, "test@example.com", "USER");
+
+            // when & then
+            assertThat(compactProvider.verify(token).orElseThrow().role()).isEqualTo("USER");
+            assertThat(compactProvider.getRole(token)).isEqualTo("USER");
+            assertThat(compactProvider.getEmail(token)).isEqualTo("test@example.com");
+        }
+
+        @Test
+        @DisplayName("압축 토큰은 표준 토큰보다 짧다")
+        void compactToken_isShorter() {
+            // when
+            String compact = compactProvider.createAccessToken(1L, "test@example.com", "CUSTOMER");
+            String standard = standardProvider.createAccessToken(1L, "test@example.com", "CUSTOMER");
+
+            // then
+            assertThat(compact.length()).isLessThan(standard.length() - 20);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 형식 버전은 MALFORMED로 거부된다")
+        void unsupportedVersion_malformed() {
+            // given
+            long now = System.currentTimeMillis() / 1000;
+            String token = new JwtClaimsWriter()
+                    .claim(CompactClaims.CLAIM_VERSION, CompactClaims.VERSION + 1)
+                    .claim("sub", "1")
+                    .claim(CompactClaims.CLAIM_TYPE, CompactClaims.TYPE_ACCESS)
+                    .claim("iat", now)
+                    .claim("exp", now + 3600)
+                    .sign(keyRing.signer());
+
+            // when
+            TokenValidationResult result = compactProvider.validate(token);
+
+            // then
+            assertThat(result.status()).isEqualTo(TokenValidationResult.Status.MALFORMED);
+        }
+    }
 }
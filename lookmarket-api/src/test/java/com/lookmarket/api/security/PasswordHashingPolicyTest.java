@@ -0,0 +1,138 @@
+package com.lookmarket.api.security;
+
+import com.lookmarket.api.security.PasswordHashingPolicy.Algorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PasswordHashingPolicy 단위 테스트")
+class PasswordHashingPolicyTest {
+
+    @Nested
+    @DisplayName("비용 보정")
+    class Calibration {
+
+        @Test
+        @DisplayName("bcrypt는 측정값 대비 목표 비율의 log2만큼 비용을 올린다")
+        void bcrypt_logScale() {
+            // given (cost 10에 60ms -> 250ms 목표면 2배까지 2단계 가능)
+            Duration target = Duration.ofMillis(250);
+
+            // when
+            int cost = PasswordHashingPolicy.calibrateCost(Algorithm.BCRYPT, target, c -> 60_000_000L);
+
+            // then
+            assertThat(cost).isEqualTo(12);
+        }
+
+        @Test
+        @DisplayName("pbkdf2는 측정값 대비 목표 비율만큼 반복 횟수를 늘린다")
+        void pbkdf2_linearScale() {
+            // when
+            int cost = PasswordHashingPolicy.calibrateCost(Algorithm.PBKDF2, Duration.ofMillis(200), c -> 100_000_000L);
+
+            // then
+            assertThat(cost).isEqualTo(620_000);
+        }
+
+        @Test
+        @DisplayName("최소 비용으로도 목표를 넘으면 최소 비용을 유지한다")
+        void slowMachine_keepsMinimum() {
+            // when
+            int cost = PasswordHashingPolicy.calibrateCost(Algorithm.BCRYPT, Duration.ofMillis(50), c -> 100_000_000L);
+
+            // then
+            assertThat(cost).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("고정 비용은 알고리즘 범위로 제한된다")
+        void fixedCost_clamped() {
+            assertThat(PasswordHashingPolicy.of(Algorithm.BCRYPT, 4).cost()).isEqualTo(10);
+            assertThat(PasswordHashingPolicy.of(Algorithm.BCRYPT, 31).cost()).isEqualTo(16);
+        }
+    }
+
+    @Nested
+    @DisplayName("해시 형식과 재해시 판단")
+    class Encoding {
+
+        private final PasswordEncoder encoder = PasswordHashingPolicy.of(Algorithm.BCRYPT, 10).encoder();
+
+        @Test
+        @DisplayName("새 해시는 {bcrypt} 접두어를 붙이고 재해시 대상이 아니다")
+        void newHash_prefixed() {
+            // when
+            String encoded = encoder.encode("password123");
+
+            // then
+            assertThat(encoded).startsWith("{bcrypt}$2a$10$");
+            assertThat(encoder.matches("password123", encoded)).isTrue();
+            assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+        }
+
+        @Test
+        @DisplayName("접두어 없는 기존 BCrypt 해시도 검증되며 재해시 대상이다")
+        void legacyHash_matchesAndUpgrades() {
+            // given
+            String legacy = new BCryptPasswordEncoder().encode("password123");
+
+            // when & then
+            assertThat(encoder.matches("password123", legacy)).isTrue();
+            assertThat(encoder.matches("wrong", legacy)).isFalse();
+            assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+        }
+
+        @Test
+        @DisplayName("현재 정책보다 낮은 비용의 해시는 재해시 대상이다")
+        void lowerCost_upgrades() {
+            // given
+            String encoded = encoder.encode("password123");
+
+            // when & then
+            assertThat(PasswordHashingPolicy.of(Algorithm.BCRYPT, 11).encoder().upgradeEncoding(encoded)).isTrue();
+        }
+
+        @Test
+        @DisplayName("알고리즘을 바꾸면 기존 bcrypt 해시를 검증하고 재해시 대상으로 판단한다")
+        void algorithmMigration() {
+            // given
+            String bcrypt = encoder.encode("password123");
+            PasswordEncoder pbkdf2 = PasswordHashingPolicy.of(Algorithm.PBKDF2, 310_000).encoder();
+
+            // when & then
+            assertThat(pbkdf2.matches("password123", bcrypt)).isTrue();
+            assertThat(pbkdf2.upgradeEncoding(bcrypt)).isTrue();
+            assertThat(pbkdf2.encode("password123")).startsWith("{pbkdf2}");
+        }
+    }
+
+    @Test
+    @DisplayName("BouncyCastle이 없으면 argon2 정책은 기동 시 실패한다")
+    void argon2_requiresBouncyCastle() {
+        assertThatThrownBy(() -> PasswordHashingPolicy.of(Algorithm.ARGON2, 2))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("BouncyCastle");
+    }
+
+    @Test
+    @DisplayName("현재 비용을 알고리즘 태그와 함께 노출한다")
+    void metrics() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // when
+        PasswordHashingPolicy.of(Algorithm.BCRYPT, 12).bindTo(registry);
+
+        // then
+        assertThat(registry.get("password.hashing.cost").tag("algorithm", "bcrypt").gauge().value()).isEqualTo(12);
+    }
+}
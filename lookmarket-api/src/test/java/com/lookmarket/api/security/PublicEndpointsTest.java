@@ -0,0 +1,76 @@
+package com.lookmarket.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("PublicEndpoints 단위 테스트")
+class PublicEndpointsTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "POST, /api/v1/auth/login",
+            "POST, /api/v1/auth/refresh",
+            "POST, /api/v1/users",
+            "GET, /swagger-ui/index.html",
+            "GET, /v3/api-docs/swagger-config",
+            "GET, /.well-known/jwks.json",
+            "GET, /actuator/health"
+    })
+    @DisplayName("인증 없이 허용되는 경로와 일치한다")
+    void publicRoutes(String method, String path) {
+        assertThat(PublicEndpoints.INSTANCE.matches(new MockHttpServletRequest(method, path))).isTrue();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "GET, /api/v1/users",
+            "GET, /api/v1/users/1",
+            "POST, /api/v1/users/1/suspend",
+            "GET, /api/v1/admin/users",
+            "GET, /actuator/prometheus",
+            "GET, /api/v1/authz"
+    })
+    @DisplayName("인증이 필요한 경로와는 일치하지 않는다")
+    void protectedRoutes(String method, String path) {
+        assertThat(PublicEndpoints.INSTANCE.matches(new MockHttpServletRequest(method, path))).isFalse();
+    }
+
+    @Test
+    @DisplayName("컨텍스트 경로를 제외하고 비교한다")
+    void contextPath() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/shop/actuator/health");
+        request.setContextPath("/shop");
+
+        // when & then
+        assertThat(PublicEndpoints.INSTANCE.matches(request)).isTrue();
+    }
+
+    @Test
+    @DisplayName("JWT 필터는 공개 경로에서 토큰을 확인하지 않는다")
+    void filterSkipsPublicRoutes() throws Exception {
+        // given
+        JwtTokenProvider provider = mock(JwtTokenProvider.class);
+        VerifiedTokenCache cache = mock(VerifiedTokenCache.class);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider, cache, mock(TokenRevocationChecker.class));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+        request.addHeader("Authorization", "Bearer some.jwt.token");
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isSameAs(request);
+        verifyNoInteractions(provider, cache);
+    }
+}
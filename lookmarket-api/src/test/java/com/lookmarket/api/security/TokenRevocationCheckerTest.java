@@ -0,0 +1,82 @@
+package com.lookmarket.api.security;
+
+import com.lookmarket.domain.auth.TokenRevocation;
+import com.lookmarket.domain.auth.TokenRevocationStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("TokenRevocationChecker 단위 테스트")
+class TokenRevocationCheckerTest {
+
+    private static final Instant REVOKED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    private TokenRevocationStore store;
+    private TokenRevocationChecker checker;
+    private Consumer<TokenRevocation> feed;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        store = mock(TokenRevocationStore.class);
+        given(store.findRevokedUserIds()).willReturn(Set.of(1L));
+        checker = new TokenRevocationChecker(store, 1000, 0.001);
+
+        ArgumentCaptor<Consumer<TokenRevocation>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(store).subscribe(captor.capture());
+        feed = captor.getValue();
+    }
+
+    @Test
+    @DisplayName("폐기 목록에 없는 사용자는 저장소를 조회하지 않고 통과한다")
+    void notRevokedUser_skipsStoreLookup() {
+        // when
+        boolean revoked = checker.isRevoked(accessToken(2L, REVOKED_AT.minusSeconds(10)));
+
+        // then
+        assertThat(revoked).isFalse();
+        verify(store, never()).findByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("기동 시 불러온 폐기 목록의 사용자는 폐기 시각 이전 토큰이 거부된다")
+    void bootstrappedUser_tokenIssuedBeforeRevocation_revoked() {
+        // given
+        given(store.findByUserId(1L)).willReturn(Optional.of(new TokenRevocation(1L, REVOKED_AT)));
+
+        // when & then
+        assertThat(checker.isRevoked(accessToken(1L, REVOKED_AT.minusSeconds(10)))).isTrue();
+        assertThat(checker.isRevoked(accessToken(1L, REVOKED_AT.plusSeconds(10)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("변경 피드로 받은 폐기가 즉시 반영된다")
+    void revocationFromFeed_applied() {
+        // given
+        given(store.findByUserId(3L)).willReturn(Optional.of(new TokenRevocation(3L, REVOKED_AT)));
+
+        // when
+        feed.accept(new TokenRevocation(3L, REVOKED_AT));
+
+        // then
+        assertThat(checker.isRevoked(accessToken(3L, REVOKED_AT.minusSeconds(10)))).isTrue();
+    }
+
+    private static VerifiedToken accessToken(Long userId, Instant issuedAt) {
+        return new VerifiedToken(userId, "test@example.com", "CUSTOMER", VerifiedToken.TYPE_ACCESS,
+                null, null, issuedAt, issuedAt.plusSeconds(3600));
+    }
+}
@@ -0,0 +1,132 @@
+package com.lookmarket.api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VerifiedTokenCache 단위 테스트")
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-must-be-long-enough";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3600000L, 604800000L);
+        cache = new VerifiedTokenCache(true, 100);
+    }
+
+    @Nested
+    @DisplayName("조회/저장")
+    class GetAndPut {
+
+        @Test
+        @DisplayName("저장한 토큰은 같은 Authentication을 반환한다")
+        void put_thenGet_returnsSameAuthentication() {
+            // given
+            String token = jwtTokenProvider.createAccessToken(1L, "test@example.com", "CUSTOMER");
+            VerifiedToken verified = jwtTokenProvider.verify(token).orElseThrow();
+            Authentication authentication = jwtTokenProvider.getAuthentication(verified);
+
+            // when
+            cache.put(token, verified, authentication);
+
+            // then
+            VerifiedTokenCache.Entry entry = cache.get(token);
+            assertThat(entry).isNotNull();
+            assertThat(entry.authentication()).isSameAs(authentication);
+            assertThat(entry.verifiedToken().userId()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("저장하지 않은 토큰은 null을 반환한다")
+        void get_unknownToken_returnsNull() {
+            String token = jwtTokenProvider.createAccessToken(1L, "test@example.com", "CUSTOMER");
+
+            assertThat(cache.get(token)).isNull();
+        }
+
+        @Test
+        @DisplayName("이미 만료된 토큰은 캐시에서 조회되지 않는다")
+        void put_expiredToken_notReturned() {
+            // given
+            VerifiedToken expired = new VerifiedToken(
+                    1L, "test@example.com", "CUSTOMER", VerifiedToken.TYPE_ACCESS, null, null,
+                    Instant.now().minusSeconds(7200), Instant.now().minusSeconds(3600)
+            );
+
+            // when
+            cache.put("expired.token.value", expired, jwtTokenProvider.getAuthentication(expired));
+
+            // then
+            assertThat(cache.get("expired.token.value")).isNull();
+        }
+
+        @Test
+        @DisplayName("비활성화된 캐시는 항상 미스를 반환한다")
+        void disabledCache_alwaysMisses() {
+            // given
+            VerifiedTokenCache disabled = new VerifiedTokenCache(false, 100);
+            String token = jwtTokenProvider.createAccessToken(1L, "test@example.com", "CUSTOMER");
+            VerifiedToken verified = jwtTokenProvider.verify(token).orElseThrow();
+
+            // when
+            disabled.put(token, verified, jwtTokenProvider.getAuthentication(verified));
+
+            // then
+            assertThat(disabled.get(token)).isNull();
+            assertThat(disabled.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("용량 제한과 메트릭")
+    class BoundsAndMetrics {
+
+        @Test
+        @DisplayName("최대 크기를 넘으면 항목이 제거된다")
+        void exceedingMaximumSize_evicts() {
+            // given
+            for (long userId = 0; userId < 500; userId++) {
+                String token = jwtTokenProvider.createAccessToken(userId, "test@example.com", "CUSTOMER");
+                VerifiedToken verified = jwtTokenProvider.verify(token).orElseThrow();
+                cache.put(token, verified, jwtTokenProvider.getAuthentication(verified));
+            }
+
+            // when
+            cache.cleanUp();
+
+            // then
+            assertThat(cache.size()).isLessThanOrEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("히트율과 크기가 메트릭으로 노출된다")
+        void bindTo_exposesHitRatioAndSize() {
+            // given
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            cache.bindTo(registry);
+
+            String token = jwtTokenProvider.createAccessToken(1L, "test@example.com", "CUSTOMER");
+            VerifiedToken verified = jwtTokenProvider.verify(token).orElseThrow();
+            cache.put(token, verified, jwtTokenProvider.getAuthentication(verified));
+
+            // when
+            cache.get(token);        // hit
+            cache.get("other.token"); // miss
+
+            // then
+            assertThat(registry.get("jwt.verified-token.hit.ratio").gauge().value()).isEqualTo(0.5);
+            assertThat(registry.get("cache.size").tag("cache", "jwt.verified-token").gauge().value()).isEqualTo(1.0);
+        }
+    }
+}
@@ -14,10 +14,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -25,6 +27,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -39,7 +42,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         JwtTokenProvider.class,
         com.lookmarket.api.config.GlobalExceptionHandler.class,
         com.lookmarket.api.config.SecurityConfig.class,
-        com.lookmarket.api.security.JwtAuthenticationFilter.class
+        com.lookmarket.api.security.JwtAuthenticationFilter.class,
+        com.lookmarket.api.security.VerifiedTokenCache.class,
+        com.lookmarket.api.security.TokenRevocationChecker.class,
+        com.lookmarket.infrastructure.auth.InMemoryTokenRevocationStore.class,
+        com.lookmarket.api.security.JwtKeyRing.class
 })
 @TestPropertySource(properties = {
         "jwt.secret=test-secret-key-for-jwt-token-generation-must-be-long-enough-for-testing",
@@ -158,6 +165,32 @@ class UserControllerE2ETest {
                     .andExpect(jsonPath("$.message").value("Email already exists: existing@example.com"));
         }
 
+        @Test
+        @DisplayName("중복 확인 뒤 다른 요청이 같은 이메일을 먼저 저장하면 409를 반환한다")
+        void concurrentDuplicate_returns409() throws Exception {
+            // given
+            UserRequest request = new UserRequest(
+                    "racing@example.com",
+                    "password123",
+                    "Test User",
+                    "010-1234-5678",
+                    UserRole.CUSTOMER
+            );
+
+            given(userService.register(
+                    anyString(), anyString(), anyString(), anyString(), any(UserRole.class)
+            )).willThrow(new DataIntegrityViolationException("could not execute statement",
+                    new SQLException("Duplicate entry 'racing@example.com' for key 'users.email'", "23000", 1062)));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/users")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.code").value("CONFLICT"));
+        }
+
         @Test
         @DisplayName("이메일 형식이 잘못되면 400을 반환한다")
         void invalidEmailFormat_returns400() throws Exception {
@@ -289,7 +322,10 @@ class UserControllerE2ETest {
             // when & then
             mockMvc.perform(get("/api/v1/users/1"))
                     .andDo(print())
-                    .andExpect(status().isUnauthorized());
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(content().contentType("application/json;charset=UTF-8"))
+                    .andExpect(jsonPath("$.code").value("AUTHENTICATION_REQUIRED"))
+                    .andExpect(jsonPath("$.message").value("인증이 필요합니다."));
         }
     }
 
@@ -603,4 +639,21 @@ class UserControllerE2ETest {
                     .andExpect(status().isUnauthorized());
         }
     }
+
+    @Nested
+    @DisplayName("인가 실패")
+    class AccessDenied {
+
+        @Test
+        @DisplayName("관리자 API를 일반 사용자 토큰으로 호출하면 403을 반환한다")
+        void customerOnAdminApi_returns403() throws Exception {
+            // when & then
+            mockMvc.perform(get("/api/v1/admin/users")
+                            .header("Authorization", "Bearer " + validAccessToken))
+                    .andDo(print())
+                    .andExpect(status().isForbidden())
+                    .andExpect(content().contentType("application/json;charset=UTF-8"))
+                    .andExpect(jsonPath("$.code").value("ACCESS_DENIED"));
+        }
+    }
 }
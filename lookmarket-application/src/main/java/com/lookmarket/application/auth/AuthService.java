@@ -1,11 +1,24 @@
 package com.lookmarket.application.auth;
 
+import com.lookmarket.domain.auth.LoginEvent;
+import com.lookmarket.domain.auth.LoginHistoryRecorder;
+import com.lookmarket.domain.auth.RefreshTokenRotation;
+import com.lookmarket.domain.auth.RefreshTokenStore;
 import com.lookmarket.domain.user.User;
+import com.lookmarket.domain.user.UserCredentials;
 import com.lookmarket.domain.user.UserRepository;
 import com.lookmarket.domain.user.UserStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * 인증 관련 Application Service
@@ -13,51 +26,94 @@ import org.springframework.transaction.annotation.Transactional;
  * 책임:
  * - 로그인 시 사용자 검증 (이메일/비밀번호 확인)
  * - 토큰 갱신 시 사용자 유효성 검증
+ * - Refresh Token 패밀리 관리 (발급/교체/재사용 감지)
+ * - 로그인 성공 시 오래된 비밀번호 해시 재해시 요청
+ * - 로그인 이력 기록 요청 (비동기)
  *
  * 토큰 생성/검증은 API 레이어의 JwtTokenProvider가 담당합니다.
  * 이 서비스는 순수 비즈니스 로직(사용자 인증)만 처리합니다.
+ *
+ * 비밀번호 검증(수백 ms, 해시 전용 스레드 대기 포함) 동안 DB 커넥션을 점유하지 않도록
+ * 클래스 단위 트랜잭션을 두지 않고, 조회만 짧은 읽기 전용 트랜잭션(TransactionTemplate)으로 처리합니다.
  */
 @Service
-@Transactional(readOnly = true)
 public class AuthService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenStore refreshTokenStore;
+    private final PasswordRehasher passwordRehasher;
+    private final LoginHistoryRecorder loginHistoryRecorder;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AuthService(
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            RefreshTokenStore refreshTokenStore,
+            PasswordRehasher passwordRehasher,
+            LoginHistoryRecorder loginHistoryRecorder,
+            PlatformTransactionManager transactionManager
+    ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.refreshTokenStore = refreshTokenStore;
+        this.passwordRehasher = passwordRehasher;
+        this.loginHistoryRecorder = loginHistoryRecorder;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
      * 로그인 인증
      *
+     * User 엔티티 대신 인증 정보 투영만 조회합니다 (영속성 컨텍스트/도메인 검증 생략).
+     * 조회만 짧은 읽기 전용 트랜잭션에서 수행하고, 비밀번호 검증과 재해시 요청은 트랜잭션 밖에서 수행합니다.
+     *
      * @param email 이메일
      * @param rawPassword 평문 비밀번호
-     * @return 인증된 사용자
+     * @return 인증된 사용자의 인증 정보
      * @throws AuthenticationException 인증 실패 시
      */
-    public User authenticate(String email, String rawPassword) {
-        User user = userRepository.findByEmail(email)
+    public UserCredentials authenticate(String email, String rawPassword) {
+        UserCredentials user = readOnlyTransaction.execute(status -> userRepository.findCredentialsByEmail(email))
                 .orElseThrow(() -> new AuthenticationException("이메일 또는 비밀번호가 올바르지 않습니다."));
 
         // 계정 상태 확인
-        if (user.getStatus() == UserStatus.INACTIVE) {
+        if (user.status() == UserStatus.INACTIVE) {
             throw new AuthenticationException("비활성화된 계정입니다.");
         }
 
-        if (user.getStatus() == UserStatus.SUSPENDED) {
+        if (user.status() == UserStatus.SUSPENDED) {
             throw new AuthenticationException("정지된 계정입니다.");
         }
 
-        // 비밀번호 검증
-        if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
+        // 비밀번호 검증 (트랜잭션 밖)
+        if (!passwordEncoder.matches(rawPassword, user.password())) {
             throw new AuthenticationException("이메일 또는 비밀번호가 올바르지 않습니다.");
         }
 
+        // 해시 알고리즘/비용이 현재 정책보다 낮으면 비동기 재해시
+        passwordRehasher.rehashIfNeeded(user.id(), rawPassword, user.password());
+
         return user;
     }
 
+    /**
+     * 로그인 이력 기록
+     *
+     * 저장은 백그라운드에서 배치로 처리되므로 로그인 응답을 기다리게 하지 않습니다.
+     * 메모리 큐에 넣기만 하므로 트랜잭션(커넥션) 없이 호출합니다.
+     *
+     * @param userId 로그인한 사용자 ID
+     * @param ipAddress 클라이언트 IP
+     * @param userAgent User-Agent 헤더 (없으면 null)
+     */
+    public void recordLogin(Long userId, String ipAddress, String userAgent) {
+        loginHistoryRecorder.record(new LoginEvent(userId, ipAddress, userAgent, LocalDateTime.now()));
+    }
+
     /**
      * 토큰 갱신을 위한 사용자 검증
      *
@@ -65,6 +121,7 @@ public class AuthService {
      * @return 검증된 사용자
      * @throws AuthenticationException 사용자를 찾을 수 없거나 비활성 상태인 경우
      */
+    @Transactional(readOnly = true)
     public User validateUserForRefresh(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new AuthenticationException("사용자를 찾을 수 없습니다."));
@@ -75,4 +132,66 @@ public class AuthService {
 
         return user;
     }
+
+    /**
+     * 로그인 시 새 Refresh Token 패밀리 시작
+     *
+     * DB를 사용하지 않으므로 트랜잭션(커넥션) 없이 저장소에만 기록합니다.
+     *
+     * @param user 인증된 사용자
+     * @param expiresAt Refresh Token 만료 시각
+     * @return 첫 Refresh Token 발급 정보
+     */
+    public RefreshTokenGrant startRefreshTokenFamily(UserCredentials user, Instant expiresAt) {
+        String familyId = newId();
+        String tokenId = newId();
+        refreshTokenStore.create(familyId, tokenId, expiresAt);
+        return new RefreshTokenGrant(user, familyId, tokenId);
+    }
+
+    /**
+     * Refresh Token 교체 (토큰 갱신)
+     *
+     * DB 조회 전에 저장소에서 먼저 토큰을 소비하므로,
+     * 재사용/폐기된 토큰은 사용자 조회 없이 거부됩니다.
+     * 이미 소비된 토큰이 다시 제출되면 패밀리 전체가 폐기되어
+     * 정상 사용자와 공격자 모두 다시 로그인해야 합니다.
+     * 트랜잭션(커넥션)은 저장소가 토큰을 받아들인 뒤 사용자 조회에서만 짧게 엽니다.
+     *
+     * @param userId 토큰의 사용자 ID (sub)
+     * @param familyId 토큰의 패밀리 ID (fid)
+     * @param tokenId 토큰 ID (jti)
+     * @param expiresAt 새 Refresh Token 만료 시각
+     * @return 새 Refresh Token 발급 정보
+     * @throws AuthenticationException 재사용/폐기된 토큰이거나 사용자가 유효하지 않은 경우
+     */
+    public RefreshTokenGrant rotateRefreshToken(Long userId, String familyId, String tokenId, Instant expiresAt) {
+        if (familyId == null || tokenId == null) {
+            // 패밀리 도입 이전에 발급된 토큰
+            throw new AuthenticationException("다시 로그인해 주세요.");
+        }
+
+        String nextTokenId = newId();
+        RefreshTokenRotation rotation = refreshTokenStore.rotate(familyId, tokenId, nextTokenId, expiresAt);
+        if (rotation == RefreshTokenRotation.REUSED) {
+            log.warn("Refresh Token 재사용 감지, 패밀리 폐기: userId={}, familyId={}", userId, familyId);
+            throw new AuthenticationException("이미 사용된 Refresh Token입니다. 다시 로그인해 주세요.");
+        }
+        if (rotation == RefreshTokenRotation.NOT_FOUND) {
+            throw new AuthenticationException("만료되었거나 폐기된 Refresh Token입니다.");
+        }
+
+        try {
+            User user = readOnlyTransaction.execute(status -> validateUserForRefresh(userId));
+            return new RefreshTokenGrant(user.toCredentials(), familyId, nextTokenId);
+        } catch (AuthenticationException e) {
+            // 비활성/정지 사용자의 패밀리는 더 이상 갱신할 수 없도록 폐기
+            refreshTokenStore.revoke(familyId);
+            throw e;
+        }
+    }
+
+    private static String newId() {
+        return UUID.randomUUID().toString();
+    }
 }
@@ -0,0 +1,104 @@
+package com.lookmarket.application.auth;
+
+import com.lookmarket.domain.user.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 성공 시 오래된 비밀번호 해시를 현재 정책으로 재해시하는 컴포넌트
+ *
+ * 재해시는 로그인 응답 경로 밖(가상 스레드)에서 실행되며, 실패해도 로그인 결과에 영향을 주지 않습니다.
+ * 해시 계산은 트랜잭션 밖에서 하고, 저장은 로그인 시 검증한 해시가 그대로일 때만 교체하는
+ * 조건부 UPDATE 한 번입니다 (UserRepository.replacePassword). 그 사이 비밀번호가 변경되었다면
+ * 예전 비밀번호의 재해시로 덮어쓰지 않습니다.
+ * 같은 사용자의 재해시가 이미 진행 중이면 중복 요청은 건너뜁니다.
+ */
+@Component
+public class PasswordRehasher implements MeterBinder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordRehasher.class);
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder rehashed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public PasswordRehasher(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    /**
+     * 저장된 해시가 현재 정책보다 낮으면 비동기로 재해시
+     *
+     * @param userId 사용자 ID
+     * @param rawPassword 검증을 통과한 평문 비밀번호
+     * @param encodedPassword 현재 저장된 해시
+     */
+    public void rehashIfNeeded(Long userId, String rawPassword, String encodedPassword) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword) || !inFlight.add(userId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    rehash(userId, rawPassword, encodedPassword);
+                } finally {
+                    inFlight.remove(userId);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(userId);
+            failed.increment();
+            log.warn("비밀번호 재해시 예약 실패: userId={}", userId, e);
+        }
+    }
+
+    void rehash(Long userId, String rawPassword, String encodedPassword) {
+        try {
+            String upgraded = passwordEncoder.encode(rawPassword);
+            boolean replaced = userRepository.replacePassword(userId, encodedPassword, upgraded, LocalDateTime.now());
+            (replaced ? rehashed : skipped).increment();
+        } catch (RuntimeException e) {
+            // 해시 대기열 포화 등: 다음 로그인에서 다시 시도
+            failed.increment();
+            log.warn("비밀번호 재해시 실패: userId={}", userId, e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        register(registry, "rehashed", rehashed);
+        register(registry, "skipped", skipped);
+        register(registry, "failed", failed);
+    }
+
+    private static void register(MeterRegistry registry, String result, LongAdder counter) {
+        FunctionCounter.builder("password.rehash", counter, LongAdder::sum)
+                .description("로그인 시 비밀번호 재해시 결과")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
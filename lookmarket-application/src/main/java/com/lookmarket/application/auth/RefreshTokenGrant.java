@@ -0,0 +1,15 @@
+package com.lookmarket.application.auth;
+
+import com.lookmarket.domain.user.UserCredentials;
+
+/**
+ * Refresh Token 발급 정보
+ *
+ * API 레이어는 이 값으로 fid/jti Claim을 가진 Refresh Token을 생성합니다.
+ *
+ * @param user 토큰을 발급받을 사용자
+ * @param familyId 패밀리 ID (fid)
+ * @param tokenId 새 Refresh Token ID (jti)
+ */
+public record RefreshTokenGrant(UserCredentials user, String familyId, String tokenId) {
+}
@@ -1,14 +1,21 @@
 package com.lookmarket.application.user;
 
+import com.lookmarket.domain.auth.TokenRevocation;
+import com.lookmarket.domain.auth.TokenRevocationStore;
 import com.lookmarket.domain.user.User;
 import com.lookmarket.domain.user.UserRepository;
 import com.lookmarket.domain.user.UserRole;
-import com.lookmarket.domain.user.UserStatus;
-import lombok.RequiredArgsConstructor;
+import com.lookmarket.domain.user.UserStatusTransition;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -18,18 +25,37 @@ import java.util.Optional;
  * - 유즈케이스 오케스트레이션
  * - 트랜잭션 경계 관리
  * - 도메인 이벤트 발행 (Spring Event 사용)
+ *
+ * 비밀번호 해시/검증(수백 ms)은 트랜잭션 밖에서 수행하고,
+ * 쓰기는 해시가 끝난 뒤 짧은 트랜잭션(TransactionTemplate)으로 처리합니다.
+ * 해시하는 동안 DB 커넥션을 점유하지 않도록 두 메서드(register, changePassword)에는
+ * 클래스 단위 트랜잭션을 두지 않습니다.
  */
 @Service
-@Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserService(
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            TokenRevocationStore tokenRevocationStore,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 회원가입
      *
+     * 중복 이메일은 해시 전에 한 번 걸러내고, 쓰기 트랜잭션 안에서 다시 확인합니다.
+     *
      * @param email 이메일
      * @param password 비밀번호 (평문)
      * @param name 이름
@@ -38,21 +64,21 @@ public class UserService {
      * @return 생성된 사용자
      * @throws IllegalArgumentException 이메일이 이미 존재하는 경우
      */
-    @Transactional
     public User register(String email, String password, String name, String phoneNumber, UserRole role) {
-        // 1. 이메일 중복 체크
-        if (userRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("Email already exists: " + email);
-        }
+        // 1. 이메일 중복 체크 (해시 비용을 쓰기 전에 빠르게 거절)
+        checkEmailAvailable(email);
 
-        // 2. 비밀번호 암호화
+        // 2. 비밀번호 암호화 (트랜잭션 밖)
         String encodedPassword = passwordEncoder.encode(password);
 
         // 3. 도메인 객체 생성 (비즈니스 로직은 도메인에서)
         User user = User.create(email, encodedPassword, name, phoneNumber, role);
 
-        // 4. 저장
-        User savedUser = userRepository.save(user);
+        // 4. 저장 (짧은 쓰기 트랜잭션, 그 사이 가입된 이메일인지 다시 확인)
+        User savedUser = transactionTemplate.execute(status -> {
+            checkEmailAvailable(email);
+            return userRepository.save(user);
+        });
 
         // TODO: Phase 4에서 Kafka로 전환
         // 현재는 Spring Event 사용하지 않음 (이벤트 처리 구현 시 추가)
@@ -67,6 +93,7 @@ public class UserService {
      * @param userId 사용자 ID
      * @return 사용자 (Optional)
      */
+    @Transactional(readOnly = true)
     public Optional<User> getUserById(Long userId) {
         return userRepository.findById(userId);
     }
@@ -77,6 +104,7 @@ public class UserService {
      * @param email 이메일
      * @return 사용자 (Optional)
      */
+    @Transactional(readOnly = true)
     public Optional<User> getUserByEmail(String email) {
         return userRepository.findByEmail(email);
     }
@@ -110,31 +138,41 @@ public class UserService {
     /**
      * 비밀번호 변경
      *
+     * 현재 비밀번호 검증과 새 비밀번호 해시는 트랜잭션 밖에서 수행합니다.
+     * 저장은 검증에 사용한 해시가 그대로일 때만 바꾸는 조건부 UPDATE 한 번이므로(UserRepository.replacePassword),
+     * 그 사이 다른 요청이 비밀번호를 바꿨다면 현재 비밀번호 불일치로 처리합니다.
+     * 동시에 두 요청이 같은 해시로 검증을 통과해도 하나만 반영됩니다.
+     *
      * @param userId 사용자 ID
      * @param currentPassword 현재 비밀번호 (평문)
      * @param newPassword 새 비밀번호 (평문)
      * @return 업데이트된 사용자
      * @throws IllegalArgumentException 사용자가 없거나 현재 비밀번호가 일치하지 않는 경우
      */
-    @Transactional
     public User changePassword(Long userId, String currentPassword, String newPassword) {
         // 1. 사용자 조회
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
+        String verifiedPassword = user.getPassword();
 
-        // 2. 현재 비밀번호 검증
-        if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+        // 2. 현재 비밀번호 검증 (트랜잭션 밖)
+        if (!passwordEncoder.matches(currentPassword, verifiedPassword)) {
             throw new IllegalArgumentException("Current password does not match");
         }
 
-        // 3. 새 비밀번호 암호화
+        // 3. 새 비밀번호 암호화 (트랜잭션 밖)
         String encodedNewPassword = passwordEncoder.encode(newPassword);
 
         // 4. 도메인 로직 실행
         user.changePassword(encodedNewPassword);
 
-        // 5. 저장
-        return userRepository.save(user);
+        // 5. 저장 (짧은 쓰기 트랜잭션, 검증한 해시가 그대로일 때만 교체)
+        Boolean replaced = transactionTemplate.execute(status -> userRepository.replacePassword(
+                userId, verifiedPassword, user.getPassword(), user.getUpdatedAt()));
+        if (!Boolean.TRUE.equals(replaced)) {
+            throw new IllegalArgumentException("Current password does not match");
+        }
+        return user;
     }
 
     /**
@@ -143,45 +181,89 @@ public class UserService {
      * @param userId 사용자 ID
      * @return 업데이트된 사용자
      * @throws IllegalArgumentException 사용자가 없는 경우
+     * @throws IllegalStateException 정지된 계정인 경우
      */
     @Transactional
     public User activateUser(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
-
-        user.activate();
-        return userRepository.save(user);
+        return transitionStatus(userId, UserStatusTransition.ACTIVATE);
     }
 
     /**
      * 계정 정지
      *
+     * 이미 발급된 Access Token도 사용할 수 없도록 커밋 후 폐기합니다.
+     *
      * @param userId 사용자 ID
      * @return 업데이트된 사용자
      * @throws IllegalArgumentException 사용자가 없는 경우
      */
     @Transactional
     public User suspendUser(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
+        User saved = transitionStatus(userId, UserStatusTransition.SUSPEND);
 
-        user.suspend();
-        return userRepository.save(user);
+        revokeTokensAfterCommit(userId);
+        return saved;
     }
 
     /**
      * 계정 비활성화
      *
+     * 이미 발급된 Access Token도 사용할 수 없도록 커밋 후 폐기합니다.
+     *
      * @param userId 사용자 ID
      * @return 업데이트된 사용자
      * @throws IllegalArgumentException 사용자가 없는 경우
      */
     @Transactional
     public User deactivateUser(Long userId) {
+        User saved = transitionStatus(userId, UserStatusTransition.DEACTIVATE);
+
+        revokeTokensAfterCommit(userId);
+        return saved;
+    }
+
+    /**
+     * 조건부 UPDATE 한 번으로 상태 전환
+     *
+     * 전환되지 않은 경우에만 사용자를 읽어 원인(사용자 없음/규칙 위반)을 구분합니다.
+     */
+    private User transitionStatus(Long userId, UserStatusTransition transition) {
+        Optional<User> transitioned = userRepository.transitionStatus(userId, transition, LocalDateTime.now());
+        if (transitioned.isPresent()) {
+            return transitioned.get();
+        }
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
+        transition.check(user.getStatus());
+        // 조건 확인과 재조회 사이에 다른 요청이 상태를 바꾼 경우
+        throw new IllegalStateException("계정 상태가 동시에 변경되었습니다. 다시 시도하세요.");
+    }
 
-        user.deactivate();
-        return userRepository.save(user);
+    /**
+     * 상태 변경이 커밋된 뒤 사용자의 Access Token 폐기
+     *
+     * 폐기는 Pub/Sub으로 다른 인스턴스에 전파되어 되돌릴 수 없으므로,
+     * 상태 UPDATE가 롤백되면 폐기하지 않도록 커밋 이후에 실행합니다.
+     * 폐기 시각도 커밋 시점으로 잡아 그 전에 발급된 토큰을 모두 포함합니다.
+     * 트랜잭션 밖에서 호출되면 바로 폐기합니다.
+     */
+    private void revokeTokensAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tokenRevocationStore.revoke(new TokenRevocation(userId, Instant.now()));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tokenRevocationStore.revoke(new TokenRevocation(userId, Instant.now()));
+            }
+        });
+    }
+
+    private void checkEmailAvailable(String email) {
+        if (userRepository.existsByEmail(email)) {
+            throw new IllegalArgumentException("Email already exists: " + email);
+        }
     }
 }
@@ -1,6 +1,11 @@
 package com.lookmarket.application.auth;
 
+import com.lookmarket.domain.auth.LoginEvent;
+import com.lookmarket.domain.auth.LoginHistoryRecorder;
+import com.lookmarket.domain.auth.RefreshTokenRotation;
+import com.lookmarket.domain.auth.RefreshTokenStore;
 import com.lookmarket.domain.user.User;
+import com.lookmarket.domain.user.UserCredentials;
 import com.lookmarket.domain.user.UserRepository;
 import com.lookmarket.domain.user.UserRole;
 import com.lookmarket.domain.user.UserStatus;
@@ -11,17 +16,25 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 @DisplayName("AuthService 단위 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +49,18 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private PasswordRehasher passwordRehasher;
+
+    @Mock
+    private LoginHistoryRecorder loginHistoryRecorder;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private User activeUser;
     private User inactiveUser;
     private User suspendedUser;
@@ -95,16 +120,18 @@ class AuthServiceTest {
             String email = "active@example.com";
             String rawPassword = "password123";
 
-            given(userRepository.findByEmail(email)).willReturn(Optional.of(activeUser));
+            given(userRepository.findCredentialsByEmail(email)).willReturn(Optional.of(activeUser.toCredentials()));
             given(passwordEncoder.matches(rawPassword, activeUser.getPassword())).willReturn(true);
 
             // when
-            User result = authService.authenticate(email, rawPassword);
+            UserCredentials result = authService.authenticate(email, rawPassword);
 
             // then
             assertThat(result).isNotNull();
-            assertThat(result.getId()).isEqualTo(1L);
-            assertThat(result.getEmail()).isEqualTo(email);
+            assertThat(result.id()).isEqualTo(1L);
+            assertThat(result.email()).isEqualTo(email);
+            then(userRepository).should(never()).findByEmail(anyString());
+            then(passwordRehasher).should().rehashIfNeeded(1L, rawPassword, "encodedPassword");
         }
 
         @Test
@@ -114,7 +141,7 @@ class AuthServiceTest {
             String email = "notfound@example.com";
             String rawPassword = "password123";
 
-            given(userRepository.findByEmail(email)).willReturn(Optional.empty());
+            given(userRepository.findCredentialsByEmail(email)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> authService.authenticate(email, rawPassword))
@@ -129,13 +156,14 @@ class AuthServiceTest {
             String email = "active@example.com";
             String wrongPassword = "wrongPassword";
 
-            given(userRepository.findByEmail(email)).willReturn(Optional.of(activeUser));
+            given(userRepository.findCredentialsByEmail(email)).willReturn(Optional.of(activeUser.toCredentials()));
             given(passwordEncoder.matches(wrongPassword, activeUser.getPassword())).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> authService.authenticate(email, wrongPassword))
                     .isInstanceOf(AuthenticationException.class)
                     .hasMessageContaining("이메일 또는 비밀번호가 올바르지 않습니다");
+            then(passwordRehasher).should(never()).rehashIfNeeded(anyLong(), anyString(), anyString());
         }
 
         @Test
@@ -145,7 +173,7 @@ class AuthServiceTest {
             String email = "inactive@example.com";
             String rawPassword = "password123";
 
-            given(userRepository.findByEmail(email)).willReturn(Optional.of(inactiveUser));
+            given(userRepository.findCredentialsByEmail(email)).willReturn(Optional.of(inactiveUser.toCredentials()));
 
             // when & then
             assertThatThrownBy(() -> authService.authenticate(email, rawPassword))
@@ -160,7 +188,7 @@ class AuthServiceTest {
             String email = "suspended@example.com";
             String rawPassword = "password123";
 
-            given(userRepository.findByEmail(email)).willReturn(Optional.of(suspendedUser));
+            given(userRepository.findCredentialsByEmail(email)).willReturn(Optional.of(suspendedUser.toCredentials()));
 
             // when & then
             assertThatThrownBy(() -> authService.authenticate(email, rawPassword))
@@ -169,6 +197,21 @@ class AuthServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("로그인 이력 기록을 요청한다")
+    void recordLogin() {
+        // when
+        authService.recordLogin(1L, "10.0.0.1", "Mozilla/5.0");
+
+        // then
+        ArgumentCaptor<LoginEvent> captor = ArgumentCaptor.forClass(LoginEvent.class);
+        then(loginHistoryRecorder).should().record(captor.capture());
+        assertThat(captor.getValue().userId()).isEqualTo(1L);
+        assertThat(captor.getValue().ipAddress()).isEqualTo("10.0.0.1");
+        assertThat(captor.getValue().userAgent()).isEqualTo("Mozilla/5.0");
+        assertThat(captor.getValue().loggedInAt()).isNotNull();
+    }
+
     @Nested
     @DisplayName("토큰 갱신 검증 (validateUserForRefresh)")
     class ValidateUserForRefresh {
@@ -228,4 +271,91 @@ class AuthServiceTest {
                     .hasMessageContaining("비활성 상태의 계정입니다");
         }
     }
+
+    @Nested
+    @DisplayName("Refresh Token 패밀리 (startRefreshTokenFamily / rotateRefreshToken)")
+    class RefreshTokenFamily {
+
+        private final Instant expiresAt = Instant.now().plusSeconds(3600);
+
+        @Test
+        @DisplayName("로그인 시 새 패밀리를 등록한다")
+        void start_createsFamily() {
+            // when
+            RefreshTokenGrant grant = authService.startRefreshTokenFamily(activeUser.toCredentials(), expiresAt);
+
+            // then
+            assertThat(grant.user()).isEqualTo(activeUser.toCredentials());
+            assertThat(grant.familyId()).isNotBlank();
+            assertThat(grant.tokenId()).isNotBlank();
+            then(refreshTokenStore).should().create(grant.familyId(), grant.tokenId(), expiresAt);
+        }
+
+        @Test
+        @DisplayName("현재 토큰이면 다음 토큰 ID를 발급한다")
+        void rotate_success() {
+            // given
+            given(refreshTokenStore.rotate(eq("family"), eq("token"), anyString(), eq(expiresAt)))
+                    .willReturn(RefreshTokenRotation.ROTATED);
+            given(userRepository.findById(1L)).willReturn(Optional.of(activeUser));
+
+            // when
+            RefreshTokenGrant grant = authService.rotateRefreshToken(1L, "family", "token", expiresAt);
+
+            // then
+            assertThat(grant.user()).isEqualTo(activeUser.toCredentials());
+            assertThat(grant.familyId()).isEqualTo("family");
+            assertThat(grant.tokenId()).isNotEqualTo("token");
+        }
+
+        @Test
+        @DisplayName("재사용된 토큰이면 사용자 조회 없이 거부한다")
+        void rotate_reused_rejectedBeforeDatabase() {
+            // given
+            given(refreshTokenStore.rotate(anyString(), anyString(), anyString(), any()))
+                    .willReturn(RefreshTokenRotation.REUSED);
+
+            // when & then
+            assertThatThrownBy(() -> authService.rotateRefreshToken(1L, "family", "old-token", expiresAt))
+                    .isInstanceOf(AuthenticationException.class)
+                    .hasMessageContaining("이미 사용된 Refresh Token");
+            then(userRepository).should(never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("폐기되거나 만료된 패밀리면 사용자 조회 없이 거부한다")
+        void rotate_notFound_rejectedBeforeDatabase() {
+            // given
+            given(refreshTokenStore.rotate(anyString(), anyString(), anyString(), any()))
+                    .willReturn(RefreshTokenRotation.NOT_FOUND);
+
+            // when & then
+            assertThatThrownBy(() -> authService.rotateRefreshToken(1L, "family", "token", expiresAt))
+                    .isInstanceOf(AuthenticationException.class);
+            then(userRepository).should(never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("패밀리 정보가 없는 이전 형식의 토큰은 거부한다")
+        void rotate_legacyToken_rejected() {
+            assertThatThrownBy(() -> authService.rotateRefreshToken(1L, null, null, expiresAt))
+                    .isInstanceOf(AuthenticationException.class)
+                    .hasMessageContaining("다시 로그인");
+            then(refreshTokenStore).should(never()).rotate(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("비활성 사용자면 패밀리를 폐기하고 거부한다")
+        void rotate_inactiveUser_revokesFamily() {
+            // given
+            given(refreshTokenStore.rotate(anyString(), anyString(), anyString(), any()))
+                    .willReturn(RefreshTokenRotation.ROTATED);
+            given(userRepository.findById(2L)).willReturn(Optional.of(inactiveUser));
+
+            // when & then
+            assertThatThrownBy(() -> authService.rotateRefreshToken(2L, "family", "token", expiresAt))
+                    .isInstanceOf(AuthenticationException.class);
+            then(refreshTokenStore).should().revoke("family");
+        }
+    }
 }
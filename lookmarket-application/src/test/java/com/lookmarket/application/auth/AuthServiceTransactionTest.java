@@ -0,0 +1,226 @@
+package com.lookmarket.application.auth;
+
+import com.lookmarket.domain.auth.LoginHistoryRecorder;
+import com.lookmarket.domain.auth.RefreshTokenRotation;
+import com.lookmarket.domain.auth.RefreshTokenStore;
+import com.lookmarket.domain.user.User;
+import com.lookmarket.domain.user.UserCredentials;
+import com.lookmarket.domain.user.UserRepository;
+import com.lookmarket.domain.user.UserRole;
+import com.lookmarket.domain.user.UserStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+
+/**
+ * AuthService 트랜잭션 경계 테스트
+ *
+ * 실제 트랜잭션 프록시(@EnableTransactionManagement)로 감싼 AuthService에서
+ * 각 협력 객체가 호출되는 시점에 트랜잭션(= 풀 커넥션)이 열려 있는지 기록해 검증합니다.
+ */
+@DisplayName("AuthService 트랜잭션 경계 테스트")
+@SpringJUnitConfig(AuthServiceTransactionTest.TestConfig.class)
+class AuthServiceTransactionTest {
+
+    private static final UserCredentials CREDENTIALS = new UserCredentials(
+            1L, "user@example.com", "{hash}password", UserRole.CUSTOMER, UserStatus.ACTIVE);
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PasswordRehasher passwordRehasher;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private LoginHistoryRecorder loginHistoryRecorder;
+
+    /**
+     * 호출 지점 → 호출 시 트랜잭션 활성 여부
+     */
+    private final Map<String, Boolean> inTransaction = new ConcurrentHashMap<>();
+
+    @AfterEach
+    void resetMocks() {
+        Mockito.reset(userRepository, passwordEncoder, passwordRehasher, refreshTokenStore, loginHistoryRecorder);
+    }
+
+    @Test
+    @DisplayName("로그인 시 조회만 트랜잭션에서 수행하고 비밀번호 검증과 재해시 요청은 트랜잭션 밖에서 수행한다")
+    void authenticate_matchesOutsideTransaction() {
+        // given
+        given(userRepository.findCredentialsByEmail(anyString())).willAnswer(invocation -> {
+            record("findCredentialsByEmail");
+            return Optional.of(CREDENTIALS);
+        });
+        given(passwordEncoder.matches(anyString(), anyString())).willAnswer(invocation -> {
+            record("matches");
+            return true;
+        });
+        willAnswer(invocation -> {
+            record("rehashIfNeeded");
+            return null;
+        }).given(passwordRehasher).rehashIfNeeded(anyLong(), anyString(), anyString());
+
+        // when
+        authService.authenticate("user@example.com", "password");
+
+        // then
+        assertThat(inTransaction)
+                .containsEntry("findCredentialsByEmail", true)
+                .containsEntry("matches", false)
+                .containsEntry("rehashIfNeeded", false);
+    }
+
+    @Test
+    @DisplayName("Refresh Token 패밀리 시작은 트랜잭션 없이 저장소에만 기록한다")
+    void startRefreshTokenFamily_withoutTransaction() {
+        // given
+        willAnswer(invocation -> {
+            record("create");
+            return null;
+        }).given(refreshTokenStore).create(anyString(), anyString(), any());
+
+        // when
+        authService.startRefreshTokenFamily(CREDENTIALS, Instant.now().plusSeconds(60));
+
+        // then
+        assertThat(inTransaction).containsEntry("create", false);
+    }
+
+    @Test
+    @DisplayName("Refresh Token 교체는 저장소를 트랜잭션 없이 먼저 확인하고, 사용자 조회만 트랜잭션에서 수행한다")
+    void rotateRefreshToken_storeBeforeTransaction() {
+        // given
+        given(refreshTokenStore.rotate(anyString(), anyString(), anyString(), any())).willAnswer(invocation -> {
+            record("rotate");
+            return RefreshTokenRotation.ROTATED;
+        });
+        given(userRepository.findById(1L)).willAnswer(invocation -> {
+            record("findById");
+            LocalDateTime now = LocalDateTime.now();
+            return Optional.of(User.reconstitute(1L, "user@example.com", "{hash}password", "이름", null,
+                    UserRole.CUSTOMER, UserStatus.ACTIVE, now, now));
+        });
+
+        // when
+        authService.rotateRefreshToken(1L, "family", "token", Instant.now().plusSeconds(60));
+
+        // then
+        assertThat(inTransaction)
+                .containsEntry("rotate", false)
+                .containsEntry("findById", true);
+    }
+
+    @Test
+    @DisplayName("재사용된 Refresh Token은 트랜잭션을 열기 전에 거부한다")
+    void rotateRefreshToken_reused_noDatabaseAccess() {
+        // given
+        given(refreshTokenStore.rotate(anyString(), anyString(), anyString(), any()))
+                .willReturn(RefreshTokenRotation.REUSED);
+
+        // when & then
+        assertThatThrownBy(() -> authService.rotateRefreshToken(1L, "family", "token", Instant.now()))
+                .isInstanceOf(AuthenticationException.class);
+        then(userRepository).should(never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("로그인 이력은 트랜잭션 없이 기록 큐에 넘긴다")
+    void recordLogin_withoutTransaction() {
+        // given
+        willAnswer(invocation -> {
+            record("record");
+            return null;
+        }).given(loginHistoryRecorder).record(any());
+
+        // when
+        authService.recordLogin(1L, "127.0.0.1", "JUnit");
+
+        // then
+        assertThat(inTransaction).containsEntry("record", false);
+    }
+
+    private void record(String call) {
+        inTransaction.put(call, TransactionSynchronizationManager.isActualTransactionActive());
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TestConfig {
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new DataSourceTransactionManager(new DriverManagerDataSource("jdbc:h2:mem:auth-transaction"));
+        }
+
+        @Bean
+        UserRepository userRepository() {
+            return Mockito.mock(UserRepository.class);
+        }
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return Mockito.mock(PasswordEncoder.class);
+        }
+
+        @Bean
+        RefreshTokenStore refreshTokenStore() {
+            return Mockito.mock(RefreshTokenStore.class);
+        }
+
+        @Bean
+        PasswordRehasher passwordRehasher() {
+            return Mockito.mock(PasswordRehasher.class);
+        }
+
+        @Bean
+        LoginHistoryRecorder loginHistoryRecorder() {
+            return Mockito.mock(LoginHistoryRecorder.class);
+        }
+
+        @Bean
+        AuthService authService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                                RefreshTokenStore refreshTokenStore, PasswordRehasher passwordRehasher,
+                                LoginHistoryRecorder loginHistoryRecorder,
+                                PlatformTransactionManager transactionManager) {
+            return new AuthService(userRepository, passwordEncoder, refreshTokenStore, passwordRehasher,
+                    loginHistoryRecorder, transactionManager);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.lookmarket.application.auth;
+
+import com.lookmarket.domain.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+
+@DisplayName("PasswordRehasher 단위 테스트")
+class PasswordRehasherTest {
+
+    private UserRepository userRepository;
+    private PasswordEncoder passwordEncoder;
+    private PasswordRehasher rehasher;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        passwordEncoder = mock(PasswordEncoder.class);
+        rehasher = new PasswordRehasher(userRepository, passwordEncoder);
+    }
+
+    @Test
+    @DisplayName("오래된 해시는 비동기로 재해시하여 검증한 해시와 바꾼다")
+    void staleHash_rehashedAsync() {
+        // given
+        given(passwordEncoder.upgradeEncoding("$2a$10$legacy")).willReturn(true);
+        given(passwordEncoder.encode("password123")).willReturn("{bcrypt}$2a$12$upgraded");
+
+        // when
+        rehasher.rehashIfNeeded(1L, "password123", "$2a$10$legacy");
+
+        // then
+        then(userRepository).should(timeout(5000))
+                .replacePassword(eq(1L), eq("$2a$10$legacy"), eq("{bcrypt}$2a$12$upgraded"), any());
+    }
+
+    @Test
+    @DisplayName("현재 정책의 해시는 재해시하지 않는다")
+    void currentHash_ignored() {
+        // given
+        given(passwordEncoder.upgradeEncoding("{bcrypt}$2a$12$current")).willReturn(false);
+
+        // when
+        rehasher.rehashIfNeeded(1L, "password123", "{bcrypt}$2a$12$current");
+
+        // then
+        then(passwordEncoder).should(never()).encode(anyString());
+    }
+
+    @Test
+    @DisplayName("해시 계산 중 비밀번호가 바뀌어 교체되지 않으면 건너뛴 것으로 센다")
+    void passwordChangedMeanwhile_skipped() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        rehasher.bindTo(registry);
+        given(passwordEncoder.encode("password123")).willReturn("{bcrypt}$2a$12$upgraded");
+        given(userRepository.replacePassword(anyLong(), anyString(), anyString(), any())).willReturn(false);
+
+        // when
+        rehasher.rehash(1L, "password123", "$2a$10$legacy");
+
+        // then
+        then(userRepository).should(never()).save(any());
+        assertThat(registry.get("password.rehash").tag("result", "skipped").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("password.rehash").tag("result", "rehashed").functionCounter().count()).isZero();
+    }
+}
@@ -0,0 +1,196 @@
+package com.lookmarket.application.user;
+
+import com.lookmarket.domain.auth.TokenRevocationStore;
+import com.lookmarket.domain.user.User;
+import com.lookmarket.domain.user.UserRepository;
+import com.lookmarket.domain.user.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * UserService 커넥션 점유 시간 테스트
+ *
+ * 트랜잭션 = 커넥션 점유로 보고, 커넥션 풀(2개)보다 많은 요청을 동시에 보냈을 때
+ * 트랜잭션 구간이 해시 시간이 아니라 SQL 시간만큼만 유지되는지 검증합니다.
+ */
+@DisplayName("UserService 커넥션 점유 시간 테스트")
+class UserServiceConnectionHoldTest {
+
+    private static final Duration HASH_TIME = Duration.ofMillis(100);
+    private static final Duration SQL_TIME = Duration.ofMillis(5);
+    /**
+     * 부하가 걸린 빌드에서 스레드 스케줄링으로 늘어나는 점유 시간 여유
+     */
+    private static final Duration SCHEDULER_TOLERANCE = Duration.ofMillis(15);
+    private static final int POOL_SIZE = 2;
+    private static final int REQUESTS = 20;
+
+    private UserRepository userRepository;
+    private PooledTransactionManager transactionManager;
+    private SlowPasswordEncoder passwordEncoder;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        transactionManager = new PooledTransactionManager(POOL_SIZE);
+        passwordEncoder = new SlowPasswordEncoder(transactionManager);
+        userService = new UserService(userRepository, passwordEncoder, mock(TokenRevocationStore.class), transactionManager);
+
+        given(userRepository.save(any(User.class))).willAnswer(invocation -> {
+            Thread.sleep(SQL_TIME);
+            return invocation.getArgument(0);
+        });
+    }
+
+    @Test
+    @DisplayName("동시 회원가입에서 커넥션은 해시 시간 동안 점유되지 않는다")
+    void register_holdsConnectionOnlyForSql() {
+        // given
+        given(userRepository.existsByEmail(anyString())).willReturn(false);
+
+        // when
+        runConcurrently(i -> userService.register(
+                "user" + i + "@example.com", "password", "이름", null, UserRole.CUSTOMER));
+
+        // then
+        assertHoldTimeIsSqlTime();
+    }
+
+    @Test
+    @DisplayName("동시 비밀번호 변경에서 커넥션은 검증/해시 시간 동안 점유되지 않는다")
+    void changePassword_holdsConnectionOnlyForSql() {
+        // given
+        given(userRepository.findById(anyLong())).willAnswer(invocation -> Optional.of(
+                User.create("user@example.com", "{slow}current", "이름", null, UserRole.CUSTOMER)));
+        given(userRepository.replacePassword(anyLong(), anyString(), anyString(), any())).willAnswer(invocation -> {
+            Thread.sleep(SQL_TIME);
+            return true;
+        });
+
+        // when
+        runConcurrently(i -> userService.changePassword((long) i, "current", "next"));
+
+        // then
+        assertHoldTimeIsSqlTime();
+    }
+
+    private void runConcurrently(IntConsumer request) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                executor.execute(() -> request.accept(index));
+            }
+        }
+    }
+
+    private void assertHoldTimeIsSqlTime() {
+        assertThat(transactionManager.holdTimes).hasSize(REQUESTS);
+        assertThat(passwordEncoder.hashedInTransaction.get()).isZero();
+        // 스케줄링 지연이 튄 일부 요청은 제외하고 90번째 백분위수가 SQL 시간 + 여유 안에 들어야 함
+        List<Duration> holds = transactionManager.holdTimes.stream().sorted().toList();
+        Duration p90 = holds.get((int) Math.ceil(holds.size() * 0.9) - 1);
+        assertThat(p90).isLessThan(SQL_TIME.plus(SCHEDULER_TOLERANCE));
+    }
+
+    /**
+     * 트랜잭션마다 커넥션 하나를 점유하는 것으로 보는 트랜잭션 매니저
+     */
+    private static final class PooledTransactionManager implements PlatformTransactionManager {
+
+        private final Semaphore connections;
+        private final ThreadLocal<Long> acquiredAt = new ThreadLocal<>();
+        private final Queue<Duration> holdTimes = new ConcurrentLinkedQueue<>();
+
+        PooledTransactionManager(int poolSize) {
+            this.connections = new Semaphore(poolSize);
+        }
+
+        boolean inTransaction() {
+            return acquiredAt.get() != null;
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            connections.acquireUninterruptibly();
+            acquiredAt.set(System.nanoTime());
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            release();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            release();
+        }
+
+        private void release() {
+            holdTimes.add(Duration.ofNanos(System.nanoTime() - acquiredAt.get()));
+            acquiredAt.remove();
+            connections.release();
+        }
+    }
+
+    /**
+     * 해시/검증에 HASH_TIME이 걸리는 PasswordEncoder (트랜잭션 안에서 호출되면 기록)
+     */
+    private static final class SlowPasswordEncoder implements PasswordEncoder {
+
+        private final PooledTransactionManager transactionManager;
+        private final AtomicInteger hashedInTransaction = new AtomicInteger();
+
+        SlowPasswordEncoder(PooledTransactionManager transactionManager) {
+            this.transactionManager = transactionManager;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            hash();
+            return "{slow}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            hash();
+            return encodedPassword.equals("{slow}" + rawPassword);
+        }
+
+        private void hash() {
+            if (transactionManager.inTransaction()) {
+                hashedInTransaction.incrementAndGet();
+            }
+            try {
+                Thread.sleep(HASH_TIME);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
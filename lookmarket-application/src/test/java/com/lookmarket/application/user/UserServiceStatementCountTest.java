@@ -0,0 +1,147 @@
+package com.lookmarket.application.user;
+
+import com.lookmarket.domain.auth.TokenRevocationStore;
+import com.lookmarket.domain.user.User;
+import com.lookmarket.domain.user.UserRole;
+import com.lookmarket.infrastructure.user.JdbcUserBulkInserter;
+import com.lookmarket.infrastructure.user.RegisteredEmailFilter;
+import com.lookmarket.infrastructure.user.UserAdapter;
+import com.lookmarket.infrastructure.user.UserEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * UserService 쓰기 유즈케이스의 SQL 수 테스트 (실제 UserAdapter + H2)
+ *
+ * 서비스 메서드를 그대로 호출해 실행되는 SQL을 셉니다.
+ * - changePassword: 검증용 SELECT 1회 + 검증한 해시를 조건으로 한 UPDATE 1회
+ * - changeEmail: SELECT 1회 + 바뀐 컬럼만 쓰는 UPDATE 1회 (새 이메일은 가입 이메일 필터가 "없음"으로 판정)
+ */
+@DisplayName("UserService SQL 수 테스트")
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.lookmarket.application.user.UserServiceStatementCountTest$RecordingStatementInspector"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({UserService.class, UserAdapter.class, JdbcUserBulkInserter.class})
+class UserServiceStatementCountTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserAdapter userAdapter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private TokenRevocationStore tokenRevocationStore;
+
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        userId = userAdapter.save(User.create(
+                "user" + System.nanoTime() + "@example.com", "encoded", "홍길동", "010-1234-5678", UserRole.CUSTOMER
+        )).getId();
+        statistics.clear();
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경은 SELECT 1회와 검증한 해시를 조건으로 한 UPDATE 1회로 끝난다")
+    void changePassword_twoStatements() {
+        // given
+        given(passwordEncoder.matches("current", "encoded")).willReturn(true);
+        given(passwordEncoder.encode("next")).willReturn("new-encoded");
+
+        // when
+        User user = userService.changePassword(userId, "current", "next");
+
+        // then
+        assertThat(user.getPassword()).isEqualTo("new-encoded");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(update())
+                .contains("set password=?", "updated_at=?", "password=?")
+                .doesNotContain("email", "name", "phone_number", "status");
+        assertThat(userAdapter.findById(userId).orElseThrow().getPassword()).isEqualTo("new-encoded");
+    }
+
+    @Test
+    @DisplayName("이메일 변경은 SELECT 1회와 email/updated_at만 쓰는 UPDATE 1회로 끝난다")
+    void changeEmail_twoStatements() {
+        // given
+        String newEmail = "changed" + System.nanoTime() + "@example.com";
+        given(registeredEmailFilter.mightExist(anyString())).willReturn(false);
+
+        // when
+        userService.changeEmail(userId, newEmail);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(update())
+                .contains("email=?", "updated_at=?")
+                .doesNotContain("password", "name", "phone_number", "status");
+    }
+
+    private String update() {
+        List<String> updates = RecordingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.startsWith("update"))
+                .toList();
+        assertThat(updates).hasSize(1);
+        return updates.get(0);
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL 기록
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase().replaceAll("\\s+", " ").trim());
+            return sql;
+        }
+    }
+
+    @SpringBootConfiguration
+    @AutoConfigurationPackage(basePackageClasses = UserEntity.class)
+    static class TestConfig {
+    }
+}
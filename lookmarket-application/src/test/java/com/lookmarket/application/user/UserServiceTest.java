@@ -1,9 +1,12 @@
 package com.lookmarket.application.user;
 
+import com.lookmarket.domain.auth.TokenRevocation;
+import com.lookmarket.domain.auth.TokenRevocationStore;
 import com.lookmarket.domain.user.User;
 import com.lookmarket.domain.user.UserRepository;
 import com.lookmarket.domain.user.UserRole;
 import com.lookmarket.domain.user.UserStatus;
+import com.lookmarket.domain.user.UserStatusTransition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +16,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 
@@ -35,6 +41,12 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private UserService userService;
 
@@ -82,11 +94,30 @@ class UserServiceTest {
             assertThat(savedUser.getRole()).isEqualTo(role);
             assertThat(savedUser.getStatus()).isEqualTo(UserStatus.ACTIVE);
 
-            verify(userRepository).existsByEmail(email);
+            // 해시 전 빠른 확인 + 쓰기 트랜잭션 안에서 재확인
+            verify(userRepository, times(2)).existsByEmail(email);
             verify(passwordEncoder).encode(plainPassword);
             verify(userRepository).save(any(User.class));
         }
 
+        @Test
+        @DisplayName("해시하는 사이 같은 이메일이 가입되면 저장하지 않는다")
+        void failWhenEmailTakenDuringHashing() {
+            // given
+            String email = "race@example.com";
+            given(userRepository.existsByEmail(email)).willReturn(false, true);
+            given(passwordEncoder.encode("password")).willReturn("encoded");
+
+            // when & then
+            assertThatThrownBy(() ->
+                    userService.register(email, "password", "이름", null, UserRole.CUSTOMER)
+            )
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Email already exists: " + email);
+
+            verify(userRepository, never()).save(any(User.class));
+        }
+
         @Test
         @DisplayName("중복된 이메일로 등록하면 예외가 발생한다")
         void failWithDuplicateEmail() {
@@ -254,7 +285,8 @@ class UserServiceTest {
             given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
             given(passwordEncoder.matches(currentPassword, originalPassword)).willReturn(true);
             given(passwordEncoder.encode(newPassword)).willReturn(encodedNewPassword);
-            given(userRepository.save(any(User.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(userRepository.replacePassword(eq(userId), eq(originalPassword), eq(encodedNewPassword), any()))
+                    .willReturn(true);
 
             // when
             User updatedUser = userService.changePassword(userId, currentPassword, newPassword);
@@ -262,10 +294,34 @@ class UserServiceTest {
             // then
             assertThat(updatedUser.getPassword()).isEqualTo(encodedNewPassword);
 
+            // 검증용 조회 1회 + 검증한 해시를 조건으로 한 UPDATE 1회
             verify(userRepository).findById(userId);
             verify(passwordEncoder).matches(currentPassword, originalPassword);
             verify(passwordEncoder).encode(newPassword);
-            verify(userRepository).save(testUser);
+            verify(userRepository).replacePassword(userId, originalPassword, encodedNewPassword, updatedUser.getUpdatedAt());
+            verify(userRepository, never()).save(any(User.class));
+        }
+
+        @Test
+        @DisplayName("검증 이후 다른 요청이 비밀번호를 먼저 바꿨으면 변경하지 않는다")
+        void failWhenChangedConcurrently() {
+            // given
+            Long userId = 1L;
+            given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
+            given(passwordEncoder.matches("currentPassword", testUser.getPassword())).willReturn(true);
+            given(passwordEncoder.encode("newPassword123")).willReturn("encodedNewPassword123");
+            // 조건부 UPDATE가 0행 (저장된 해시가 검증한 해시와 다름)
+            given(userRepository.replacePassword(eq(userId), eq("encodedPassword"), eq("encodedNewPassword123"), any()))
+                    .willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() ->
+                    userService.changePassword(userId, "currentPassword", "newPassword123")
+            )
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Current password does not match");
+
+            verify(userRepository, never()).save(any(User.class));
         }
 
         @Test
@@ -302,10 +358,8 @@ class UserServiceTest {
         void activateUser_success() {
             // given
             Long userId = 1L;
-            testUser.deactivate();
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
-            given(userRepository.save(any(User.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(userRepository.transitionStatus(eq(userId), eq(UserStatusTransition.ACTIVATE), any()))
+                    .willReturn(Optional.of(testUser));
 
             // when
             User activatedUser = userService.activateUser(userId);
@@ -313,8 +367,42 @@ class UserServiceTest {
             // then
             assertThat(activatedUser.getStatus()).isEqualTo(UserStatus.ACTIVE);
 
-            verify(userRepository).findById(userId);
-            verify(userRepository).save(testUser);
+            verify(userRepository, never()).findById(anyLong());
+            verify(userRepository, never()).save(any(User.class));
+            verifyNoInteractions(tokenRevocationStore);
+        }
+
+        @Test
+        @DisplayName("정지된 사용자는 활성화할 수 없다")
+        void activateUser_failWhenSuspended() {
+            // given
+            Long userId = 1L;
+            testUser.suspend();
+            given(userRepository.transitionStatus(eq(userId), eq(UserStatusTransition.ACTIVATE), any()))
+                    .willReturn(Optional.empty());
+            given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
+
+            // when & then
+            assertThatThrownBy(() -> userService.activateUser(userId))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("정지된 계정은 활성화할 수 없습니다. 관리자에게 문의하세요.");
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 사용자의 상태를 바꾸면 예외가 발생하고 토큰을 폐기하지 않는다")
+        void suspendUser_failWhenNotFound() {
+            // given
+            Long userId = 999L;
+            given(userRepository.transitionStatus(eq(userId), eq(UserStatusTransition.SUSPEND), any()))
+                    .willReturn(Optional.empty());
+            given(userRepository.findById(userId)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> userService.suspendUser(userId))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("User not found: " + userId);
+
+            verifyNoInteractions(tokenRevocationStore);
         }
 
         @Test
@@ -322,9 +410,9 @@ class UserServiceTest {
         void suspendUser_success() {
             // given
             Long userId = 1L;
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
-            given(userRepository.save(any(User.class))).willAnswer(invocation -> invocation.getArgument(0));
+            testUser.suspend();
+            given(userRepository.transitionStatus(eq(userId), eq(UserStatusTransition.SUSPEND), any()))
+                    .willReturn(Optional.of(testUser));
 
             // when
             User suspendedUser = userService.suspendUser(userId);
@@ -332,8 +420,8 @@ class UserServiceTest {
             // then
             assertThat(suspendedUser.getStatus()).isEqualTo(UserStatus.SUSPENDED);
 
-            verify(userRepository).findById(userId);
-            verify(userRepository).save(testUser);
+            verify(userRepository, never()).findById(anyLong());
+            verify(tokenRevocationStore).revoke(argThat((TokenRevocation revocation) -> revocation.userId().equals(userId)));
         }
 
         @Test
@@ -341,9 +429,9 @@ class UserServiceTest {
         void deactivateUser_success() {
             // given
             Long userId = 1L;
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
-            given(userRepository.save(any(User.class))).willAnswer(invocation -> invocation.getArgument(0));
+            testUser.deactivate();
+            given(userRepository.transitionStatus(eq(userId), eq(UserStatusTransition.DEACTIVATE), any()))
+                    .willReturn(Optional.of(testUser));
 
             // when
             User deactivatedUser = userService.deactivateUser(userId);
@@ -351,8 +439,52 @@ class UserServiceTest {
             // then
             assertThat(deactivatedUser.getStatus()).isEqualTo(UserStatus.INACTIVE);
 
-            verify(userRepository).findById(userId);
-            verify(userRepository).save(testUser);
+            verify(userRepository, never()).findById(anyLong());
+            verify(tokenRevocationStore).revoke(argThat((TokenRevocation revocation) -> revocation.userId().equals(userId)));
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안에서 정지하면 커밋된 뒤에 토큰을 폐기한다")
+        void suspendUser_revokesAfterCommit() {
+            // given
+            Long userId = 1L;
+            testUser.suspend();
+            given(userRepository.transitionStatus(eq(userId), eq(UserStatusTransition.SUSPEND), any()))
+                    .willReturn(Optional.of(testUser));
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // when
+                userService.suspendUser(userId);
+
+                // then
+                verifyNoInteractions(tokenRevocationStore);
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+                verify(tokenRevocationStore).revoke(argThat((TokenRevocation revocation) -> revocation.userId().equals(userId)));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("상태 변경이 롤백되면 토큰을 폐기하지 않는다")
+        void deactivateUser_rollback_noRevocation() {
+            // given
+            Long userId = 1L;
+            testUser.deactivate();
+            given(userRepository.transitionStatus(eq(userId), eq(UserStatusTransition.DEACTIVATE), any()))
+                    .willReturn(Optional.of(testUser));
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // when
+                userService.deactivateUser(userId);
+                TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                        synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+                // then
+                verifyNoInteractions(tokenRevocationStore);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
         }
     }
 }
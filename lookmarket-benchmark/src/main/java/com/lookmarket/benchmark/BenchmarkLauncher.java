@@ -0,0 +1,47 @@
+package com.lookmarket.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH 실행기 (jmh 태스크의 진입점)
+ *
+ * JMH 명령행 옵션을 그대로 받고 다음을 추가합니다.
+ * - -prof 옵션이 없으면 GC 프로파일러(gc.alloc.rate, gc.alloc.rate.norm)를 기본으로 붙입니다.
+ * - 시스템 프로퍼티 jmh.threads(예: "1,4,16")가 있으면 스레드 수마다 한 번씩 실행합니다.
+ *   JMH의 -t 옵션은 값 하나만 받으므로 스레드 수를 @Param처럼 비교할 때 사용합니다.
+ *   실행마다 JMH가 출력하는 "# Threads:" 헤더로 스레드 수를 구분합니다.
+ */
+public final class BenchmarkLauncher {
+
+    private BenchmarkLauncher() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListProfilers()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        String threads = System.getProperty("jmh.threads", "");
+        if (threads.isBlank()) {
+            new Runner(options(commandLine).build()).run();
+            return;
+        }
+        for (String count : threads.split(",")) {
+            new Runner(options(commandLine).threads(Integer.parseInt(count.trim())).build()).run();
+        }
+    }
+
+    private static ChainedOptionsBuilder options(CommandLineOptions commandLine) {
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getProfilers().isEmpty()) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        return builder;
+    }
+}
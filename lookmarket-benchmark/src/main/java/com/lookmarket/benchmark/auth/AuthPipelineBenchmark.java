@@ -0,0 +1,78 @@
+package com.lookmarket.benchmark.auth;
+
+import com.lookmarket.api.security.JwtKeyRing;
+import com.lookmarket.api.security.JwtTokenProvider;
+import com.lookmarket.api.security.VerifiedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 파이프라인 단계별 토큰 처리 비용 (HS256)
+ *
+ * - createAccessToken: 로그인/갱신 시 Access Token 발급
+ * - validateToken: 서명 검증 + 만료 확인 (Claim 추출 없음)
+ * - verify: 서명 검증 + Claim 추출 (필터의 캐시 미스 경로)
+ * - getAuthentication: 검증된 토큰에서 Authentication 생성
+ *
+ * emailLength로 토큰 크기(Payload 길이)에 따른 변화를 봅니다 (16: 229자, 256: 549자).
+ * 스레드 수 비교: -Pjmh.threads=1,4,16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthPipelineBenchmark {
+
+    // 32바이트 → HS256
+    private static final String SECRET = "benchmark-secret-key-32-bytes!!!";
+
+    @Param({"16", "256"})
+    public int emailLength;
+
+    private JwtTokenProvider provider;
+    private String email;
+    private String token;
+    private VerifiedToken verifiedToken;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(JwtKeyRing.of(SECRET), 3600000L, 604800000L);
+        email = BenchmarkUsers.email(emailLength);
+        token = provider.createAccessToken(1L, email, "CUSTOMER");
+        verifiedToken = provider.verify(token).orElseThrow();
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return provider.createAccessToken(1L, email, "CUSTOMER");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return provider.verify(token).orElseThrow();
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return provider.getAuthentication(verifiedToken);
+    }
+}
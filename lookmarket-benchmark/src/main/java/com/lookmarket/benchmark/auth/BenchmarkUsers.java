@@ -0,0 +1,20 @@
+package com.lookmarket.benchmark.auth;
+
+/**
+ * 벤치마크용 사용자 데이터
+ */
+final class BenchmarkUsers {
+
+    private static final String DOMAIN = "@example.com";
+
+    private BenchmarkUsers() {
+    }
+
+    /**
+     * 지정한 길이의 이메일 (로컬 파트를 채워 토큰 Payload 크기를 조절)
+     */
+    static String email(int length) {
+        int localLength = Math.max(1, length - DOMAIN.length());
+        return "u".repeat(localLength) + DOMAIN;
+    }
+}
@@ -0,0 +1,92 @@
+package com.lookmarket.benchmark.auth;
+
+import com.lookmarket.api.security.JwtAuthenticationFilter;
+import com.lookmarket.api.security.JwtKeyRing;
+import com.lookmarket.api.security.JwtTokenProvider;
+import com.lookmarket.api.security.TokenRevocationChecker;
+import com.lookmarket.api.security.VerifiedTokenCache;
+import com.lookmarket.infrastructure.auth.InMemoryTokenRevocationStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청당 비용 (Authorization 헤더 → SecurityContext)
+ *
+ * - cache=true: 검증된 토큰 캐시 히트 경로 (대부분의 요청)
+ * - cache=false: 매 요청 서명 검증 + Authentication 생성 경로
+ *
+ * 폐기 확인은 인메모리 저장소 + Bloom Filter를 사용합니다 (폐기된 사용자 없음).
+ * 스레드 수 비교: -Pjmh.threads=1,4,16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-32-bytes!!!";
+    private static final long ACCESS_TOKEN_EXPIRATION = 3600000L;
+
+    @Param({"16", "256"})
+    public int emailLength;
+
+    @Param({"true", "false"})
+    public boolean cache;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider provider = new JwtTokenProvider(JwtKeyRing.of(SECRET), ACCESS_TOKEN_EXPIRATION, 604800000L);
+        TokenRevocationChecker revocationChecker = new TokenRevocationChecker(
+                new InMemoryTokenRevocationStore(ACCESS_TOKEN_EXPIRATION), 100_000, 0.001);
+        filter = new JwtAuthenticationFilter(provider, new VerifiedTokenCache(cache, 10_000), revocationChecker);
+        authorization = "Bearer " + provider.createAccessToken(1L, BenchmarkUsers.email(emailLength), "CUSTOMER");
+    }
+
+    /**
+     * 스레드별 요청/응답 (MockHttpServletRequest는 thread-safe 하지 않음)
+     */
+    @State(Scope.Thread)
+    public static class Exchange {
+
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+
+        @Setup
+        public void setUp(JwtAuthenticationFilterBenchmark benchmark) {
+            request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+            request.addHeader("Authorization", benchmark.authorization);
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Benchmark
+    public void doFilter(Exchange exchange, Blackhole blackhole) throws ServletException, IOException {
+        FilterChain chain = (request, response) ->
+                blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        filter.doFilter(exchange.request, exchange.response, chain);
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,70 @@
+package com.lookmarket.benchmark.auth;
+
+import com.lookmarket.api.security.BulkheadPasswordEncoder;
+import com.lookmarket.api.security.PasswordHashingPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 비밀번호 검증 비용 (BCrypt)
+ *
+ * - direct: 호출 스레드에서 바로 검증
+ * - bulkhead: 해시 전용 스레드 풀을 거쳐 검증 (스레드 전환 + 대기열 비용 포함)
+ *
+ * 스레드 수를 CPU 코어 수 이상으로 올리면 bulkhead의 대기 시간이 드러납니다: -Pjmh.threads=1,8,32
+ * (대기열을 넘는 요청은 거부되므로 큰 스레드 수에서는 queue-capacity 이상으로 늘리지 마세요.)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordMatchingBenchmark {
+
+    private static final String PASSWORD = "benchmark-password-123";
+
+    @Param({"10", "12"})
+    public int strength;
+
+    private PasswordEncoder direct;
+    private BulkheadPasswordEncoder bulkhead;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        direct = PasswordHashingPolicy.of(PasswordHashingPolicy.Algorithm.BCRYPT, strength).encoder();
+        bulkhead = new BulkheadPasswordEncoder(direct, BulkheadPasswordEncoder.defaultThreads(), 1024,
+                Duration.ofSeconds(1));
+        encoded = direct.encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        bulkhead.destroy();
+    }
+
+    @Benchmark
+    public boolean direct() {
+        return direct.matches(PASSWORD, encoded);
+    }
+
+    @Benchmark
+    public boolean bulkhead() {
+        return bulkhead.matches(PASSWORD, encoded);
+    }
+}
@@ -0,0 +1,107 @@
+package com.lookmarket.benchmark.auth;
+
+import com.lookmarket.api.security.JwtAuthentication;
+import com.lookmarket.api.security.JwtUserDetails;
+import com.lookmarket.api.security.ScopedValueSecurityContextHolderStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SecurityContextHolderStrategy 비교: ThreadLocal vs ScopedValue (가상 스레드 요청)
+ *
+ * 호출마다 가상 스레드 10,000개를 동시에 띄우고, 각 스레드가 요청 하나의 SecurityContext 수명을 흉내 냅니다.
+ * (지연 Context 설정 → 인증 저장 → 블로킹 I/O 대용 yield → reads회 조회 → 정리)
+ * 결과는 요청 1건당 시간이며, 가상 스레드 생성 비용은 두 전략에 공통으로 포함됩니다.
+ *
+ * - threadLocal: Spring Security 기본 전략 (요청마다 가상 스레드별 ThreadLocal 생성/제거)
+ * - scopedValue: ScopedValueSecurityContextHolderStrategy (요청 Scope에 한 번 바인딩)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecurityContextStrategyBenchmark {
+
+    private static final int REQUESTS = 10_000;
+
+    @Param({"threadLocal", "scopedValue"})
+    public String strategy;
+
+    @Param({"1", "8"})
+    public int reads;
+
+    private SecurityContextHolderStrategy holderStrategy;
+    private ScopedValueSecurityContextHolderStrategy scopedStrategy;
+    private Authentication authentication;
+
+    @Setup
+    public void setUp() {
+        SecurityContextHolderStrategy threadLocal = SecurityContextHolder.getContextHolderStrategy();
+        scopedStrategy = new ScopedValueSecurityContextHolderStrategy(threadLocal);
+        holderStrategy = "scopedValue".equals(strategy) ? scopedStrategy : threadLocal;
+        authentication = new JwtAuthentication(new JwtUserDetails(1L, BenchmarkUsers.email(16), "CUSTOMER"));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void request(Blackhole blackhole) {
+        boolean scoped = holderStrategy == scopedStrategy;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                executor.execute(scoped
+                        ? () -> inScope(blackhole)
+                        : () -> handle(blackhole));
+            }
+        }
+    }
+
+    private void inScope(Blackhole blackhole) {
+        try {
+            scopedStrategy.callInScope(() -> {
+                handle(blackhole);
+                return null;
+            });
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 필터 체인 → 컨트롤러 → 정리 순서로 SecurityContext 사용
+     */
+    private void handle(Blackhole blackhole) {
+        try {
+            holderStrategy.setDeferredContext(holderStrategy::createEmptyContext);
+            SecurityContext context = holderStrategy.createEmptyContext();
+            context.setAuthentication(authentication);
+            holderStrategy.setContext(context);
+            Thread.yield();
+            for (int i = 0; i < reads; i++) {
+                blackhole.consume(holderStrategy.getContext().getAuthentication());
+            }
+        } finally {
+            holderStrategy.clearContext();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.lookmarket.benchmark.persistence;
+
+import com.lookmarket.common.id.TimeOrderedIdGenerator;
+import com.lookmarket.domain.user.User;
+import com.lookmarket.domain.user.UserBulkInsertResult;
+import com.lookmarket.domain.user.UserRole;
+import com.lookmarket.infrastructure.user.JdbcUserBulkInserter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 대량 INSERT: JdbcUserBulkInserter.insertAll vs 확인 조회 없는 배치 INSERT
+ *
+ * insertAll은 배치 INSERT 앞뒤로 이메일 IN 조회와 (id, email) IN 조회를 한 번씩 더 실행합니다.
+ * plainBatch는 같은 INSERT ... ON DUPLICATE KEY 배치만 실행하므로, 두 결과의 차이가 중복 확인 비용입니다.
+ *
+ * 결과는 size명을 한 트랜잭션으로 저장하는 시간입니다 (행당 시간 = 결과 / size).
+ *
+ * insertAll이 users 테이블 이름을 고정으로 사용하므로 기동 시 users 테이블을 만들고 종료 시 삭제합니다.
+ * 이미 users 테이블이 있으면 실패하므로, MySQL은 빈 스키마를 지정해 측정합니다:
+ * -Pjmh.args="-p url=jdbc:mysql://localhost:3306/lookmarket_bench?rewriteBatchedStatements=true -p user=root -p password=..."
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class UserBulkInsertBenchmark {
+
+    private static final String PLAIN_INSERT_SQL =
+            "INSERT INTO users (id, email, password, name, phone_number, role, status, created_at, updated_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)"
+                    + " ON DUPLICATE KEY UPDATE id = id";
+
+    @Param({"jdbc:h2:mem:bulk-insert-benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORECASE=TRUE;DB_CLOSE_DELAY=-1"})
+    public String url;
+
+    @Param({"sa"})
+    public String user;
+
+    @Param({""})
+    public String password;
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private final TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(1);
+    private SingleConnectionDataSource dataSource;
+    private Connection connection;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcUserBulkInserter inserter;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dataSource = new SingleConnectionDataSource(url, user, password, true);
+        dataSource.setAutoCommit(false);
+        connection = dataSource.getConnection();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE users ("
+                + "id BIGINT NOT NULL PRIMARY KEY, "
+                + "email VARCHAR(255) NOT NULL UNIQUE, "
+                + "password VARCHAR(255) NOT NULL, "
+                + "name VARCHAR(100) NOT NULL, "
+                + "phone_number VARCHAR(20), "
+                + "role VARCHAR(20) NOT NULL, "
+                + "status VARCHAR(20) NOT NULL, "
+                + "created_at DATETIME NOT NULL, "
+                + "updated_at DATETIME NOT NULL)");
+        connection.commit();
+        inserter = new JdbcUserBulkInserter(jdbcTemplate, size);
+    }
+
+    /**
+     * 테이블이 커지며 측정이 흔들리지 않도록 반복마다 비움
+     */
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        jdbcTemplate.execute("TRUNCATE TABLE users");
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        jdbcTemplate.execute("DROP TABLE users");
+        connection.commit();
+        dataSource.destroy();
+    }
+
+    /**
+     * 이메일 조회 + 배치 INSERT + (id, email) 확인 조회
+     */
+    @Benchmark
+    public UserBulkInsertResult insertAll() throws SQLException {
+        UserBulkInsertResult result = inserter.insertAll(newUsers());
+        connection.commit();
+        return result;
+    }
+
+    /**
+     * 배치 INSERT만 실행 (중복 확인 없음)
+     */
+    @Benchmark
+    public int[] plainBatch() throws SQLException {
+        List<User> users = newUsers();
+        int[][] counts = jdbcTemplate.batchUpdate(PLAIN_INSERT_SQL, users, users.size(), (ps, user) -> {
+            ps.setLong(1, idGenerator.nextId());
+            ps.setString(2, user.getEmail());
+            ps.setString(3, user.getPassword());
+            ps.setString(4, user.getName());
+            ps.setString(5, user.getPhoneNumber());
+            ps.setString(6, user.getRole().name());
+            ps.setString(7, user.getStatus().name());
+            ps.setTimestamp(8, Timestamp.valueOf(user.getCreatedAt()));
+            ps.setTimestamp(9, Timestamp.valueOf(user.getUpdatedAt()));
+        });
+        connection.commit();
+        return counts[0];
+    }
+
+    private List<User> newUsers() {
+        List<User> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            users.add(User.create("user" + (sequence++) + "@example.com",
+                    "{bcrypt}$2a$10$abcdefghijklmnopqrstuuGdWkOBKlJj6L.zEGfdU1r5lUFWQqQby", "홍길동", null,
+                    UserRole.CUSTOMER));
+        }
+        return users;
+    }
+}
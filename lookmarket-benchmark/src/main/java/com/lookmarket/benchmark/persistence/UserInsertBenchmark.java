@@ -0,0 +1,167 @@
+package com.lookmarket.benchmark.persistence;
+
+import com.lookmarket.common.id.TimeOrderedIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 대량 INSERT: IDENTITY(행마다 INSERT + 생성 키 조회) vs 시간순 ID(JDBC 배치)
+ *
+ * Hibernate는 IDENTITY 전략이면 INSERT 직후 생성 키가 필요해 배치를 끄고 행마다 실행합니다.
+ * 시간순 ID는 INSERT 전에 ID가 정해지므로 batchSize 행을 배치 하나로 보냅니다.
+ * 이 벤치마크는 두 경우에 Hibernate가 드라이버에 보내는 호출 패턴을 JDBC로 재현합니다.
+ *
+ * 결과는 batchSize 행을 한 트랜잭션으로 저장하는 시간입니다 (행당 시간 = 결과 / batchSize).
+ *
+ * 기본은 H2 인메모리(네트워크 왕복 없음)라 차이가 실제보다 작게 나옵니다.
+ * MySQL로 측정: -Pjmh.args="-p url=jdbc:mysql://localhost:3306/lookmarket?rewriteBatchedStatements=true -p user=root -p password=..."
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class UserInsertBenchmark {
+
+    private static final String IDENTITY_TABLE = "bench_users_identity";
+    private static final String TIME_ORDERED_TABLE = "bench_users_time_ordered";
+
+    @Param({"jdbc:h2:mem:insert-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1"})
+    public String url;
+
+    @Param({"sa"})
+    public String user;
+
+    @Param({""})
+    public String password;
+
+    @Param({"100", "500"})
+    public int batchSize;
+
+    private final TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(1);
+    private Connection connection;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(url, user, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + IDENTITY_TABLE);
+            statement.execute("DROP TABLE IF EXISTS " + TIME_ORDERED_TABLE);
+            statement.execute(createTable(IDENTITY_TABLE, "BIGINT AUTO_INCREMENT"));
+            statement.execute(createTable(TIME_ORDERED_TABLE, "BIGINT NOT NULL"));
+        }
+        connection.setAutoCommit(false);
+    }
+
+    /**
+     * 테이블이 커지며 측정이 흔들리지 않도록 반복마다 비움
+     */
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE " + IDENTITY_TABLE);
+            statement.execute("TRUNCATE TABLE " + TIME_ORDERED_TABLE);
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + IDENTITY_TABLE);
+            statement.execute("DROP TABLE " + TIME_ORDERED_TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    /**
+     * IDENTITY: 행마다 INSERT를 실행하고 생성된 ID를 읽음
+     */
+    @Benchmark
+    public long identity() throws SQLException {
+        long lastId = 0;
+        String sql = "INSERT INTO " + IDENTITY_TABLE
+                + " (email, password, name, role, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement insert = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (int i = 0; i < batchSize; i++) {
+                bind(insert, 1, now);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    /**
+     * 시간순 ID: ID를 미리 만들고 batchSize 행을 배치 하나로 실행
+     */
+    @Benchmark
+    public long timeOrdered() throws SQLException {
+        long lastId = 0;
+        String sql = "INSERT INTO " + TIME_ORDERED_TABLE
+                + " (id, email, password, name, role, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (int i = 0; i < batchSize; i++) {
+                lastId = idGenerator.nextId();
+                insert.setLong(1, lastId);
+                bind(insert, 2, now);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    private void bind(PreparedStatement insert, int index, Timestamp now) throws SQLException {
+        insert.setString(index, "user" + (sequence++) + "@example.com");
+        insert.setString(index + 1, "{bcrypt}$2a$10$abcdefghijklmnopqrstuuGdWkOBKlJj6L.zEGfdU1r5lUFWQqQby");
+        insert.setString(index + 2, "홍길동");
+        insert.setString(index + 3, "CUSTOMER");
+        insert.setString(index + 4, "ACTIVE");
+        insert.setTimestamp(index + 5, now);
+        insert.setTimestamp(index + 6, now);
+    }
+
+    private static String createTable(String table, String idColumn) {
+        return "CREATE TABLE " + table + " ("
+                + "id " + idColumn + " PRIMARY KEY, "
+                + "email VARCHAR(255) NOT NULL UNIQUE, "
+                + "password VARCHAR(255) NOT NULL, "
+                + "name VARCHAR(100) NOT NULL, "
+                + "role VARCHAR(20) NOT NULL, "
+                + "status VARCHAR(20) NOT NULL, "
+                + "created_at DATETIME NOT NULL, "
+                + "updated_at DATETIME NOT NULL)";
+    }
+}
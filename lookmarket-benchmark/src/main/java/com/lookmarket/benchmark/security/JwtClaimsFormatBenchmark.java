@@ -0,0 +1,53 @@
+package com.lookmarket.benchmark.security;
+
+import com.lookmarket.api.security.JwtKeyRing;
+import com.lookmarket.api.security.JwtTokenProvider;
+import com.lookmarket.api.security.TokenValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Claim 형식별 토큰 크기와 검증(디코딩) 비용 비교 (STANDARD vs COMPACT)
+ *
+ * - verify: validate (구조 검사 + HS256 서명 검증 + Claim 추출, 캐시 미사용)
+ * - Access Token 길이 (userId=1, benchmark@example.com, CUSTOMER): STANDARD 235자, COMPACT 209자
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtClaimsFormatBenchmark {
+
+    // 32바이트 → HS256
+    private static final String SECRET = "benchmark-secret-key-32-bytes!!!";
+
+    @Param({"STANDARD", "COMPACT"})
+    public JwtTokenProvider.ClaimsFormat format;
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(JwtKeyRing.of(SECRET), 3600000L, 604800000L, format);
+        token = provider.createAccessToken(1L, "benchmark@example.com", "CUSTOMER");
+    }
+
+    @Benchmark
+    public TokenValidationResult verify() {
+        return provider.validate(token);
+    }
+}
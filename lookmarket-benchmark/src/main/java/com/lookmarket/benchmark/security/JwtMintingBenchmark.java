@@ -0,0 +1,72 @@
+package com.lookmarket.benchmark.security;
+
+import com.lookmarket.api.security.JwtKeyRing;
+import com.lookmarket.api.security.JwtTokenProvider;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인/갱신 시 토큰 발급 비용 비교 (HS256)
+ *
+ * - jjwtBuilder: jjwt 빌더 (Claim Map + Jackson 직렬화 + Date + 범용 Base64)
+ * - claimsWriter: JwtTokenProvider.createAccessToken (미리 인코딩한 헤더 + 직접 직렬화)
+ *
+ * jjwtBuilder는 jjwt 기본 HS256(서명마다 Mac 생성)을 사용하므로 Mac 풀링 효과도 함께 포함됩니다.
+ * 할당량 비교: -Pjmh.args="-prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtMintingBenchmark {
+
+    // 32바이트 → HS256
+    private static final String SECRET = "benchmark-secret-key-32-bytes!!!";
+    private static final long ACCESS_TOKEN_EXPIRATION = 3600000L;
+
+    private JwtTokenProvider provider;
+    private SecretKey secretKey;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(JwtKeyRing.of(SECRET), ACCESS_TOKEN_EXPIRATION, 604800000L);
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public String jjwtBuilder() {
+        Date now = new Date();
+        return Jwts.builder()
+                .header().keyId(JwtKeyRing.DEFAULT_KEY_ID).and()
+                .subject("1")
+                .claim("email", "benchmark@example.com")
+                .claim("role", "CUSTOMER")
+                .claim("type", "access")
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + ACCESS_TOKEN_EXPIRATION))
+                .signWith(secretKey, Jwts.SIG.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String claimsWriter() {
+        return provider.createAccessToken(1L, "benchmark@example.com", "CUSTOMER");
+    }
+}
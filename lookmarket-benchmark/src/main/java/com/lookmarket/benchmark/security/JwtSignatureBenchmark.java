@@ -0,0 +1,62 @@
+package com.lookmarket.benchmark.security;
+
+import com.lookmarket.api.security.JwtKeyRing;
+import com.lookmarket.api.security.JwtTokenProvider;
+import com.lookmarket.api.security.TokenValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 방식별 JWT 발급/검증 비용 비교 (HS256 vs EdDSA)
+ *
+ * - sign: createAccessToken (jjwt 빌더 + 서명)
+ * - verify: validate (구조 검사 + 서명 검증 + Claim 추출, 캐시 미사용)
+ *
+ * 배포 환경별 서명 방식을 고를 때 참고용입니다.
+ * HS는 검증 서비스도 비밀키를 가져야 하고, EdDSA는 JWKS 공개키만으로 검증할 수 있습니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtSignatureBenchmark {
+
+    // 32바이트 → HS256
+    private static final String SECRET = "benchmark-secret-key-32-bytes!!!";
+
+    @Param({"HS", "EdDSA"})
+    public JwtKeyRing.SigningAlgorithm algorithm;
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, JwtKeyRing.DEFAULT_KEY_ID, "", algorithm);
+        provider = new JwtTokenProvider(keyRing, 3600000L, 604800000L);
+        token = provider.createAccessToken(1L, "benchmark@example.com", "CUSTOMER");
+    }
+
+    @Benchmark
+    public String sign() {
+        return provider.createAccessToken(1L, "benchmark@example.com", "CUSTOMER");
+    }
+
+    @Benchmark
+    public TokenValidationResult verify() {
+        return provider.validate(token);
+    }
+}
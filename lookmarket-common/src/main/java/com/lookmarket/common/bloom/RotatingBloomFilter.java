@@ -0,0 +1,64 @@
+package com.lookmarket.common.bloom;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+/**
+ * 세대 교체로 오래된 항목을 버리는 long 키 Bloom Filter
+ *
+ * Bloom Filter는 항목을 삭제할 수 없으므로 현재/이전 두 세대를 두고
+ * rotate()가 호출될 때마다 이전 세대를 버리고 빈 세대를 새로 만듭니다.
+ * put()한 항목은 최소 한 번의 교체 주기 동안 mightContain()에서 true를 반환합니다.
+ *
+ * - mightContain()이 false면 확실히 없음, true면 "있을 수도 있음" (오탐 가능)
+ * - Guava BloomFilter는 put/mightContain이 lock-free로 thread-safe 합니다.
+ * - 세대 교체는 불변 객체 참조 교체(volatile)로 처리하여 조회 경로에 락이 없습니다.
+ */
+public final class RotatingBloomFilter {
+
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+
+    private volatile Generations generations;
+
+    /**
+     * @param expectedInsertions 한 세대에 들어갈 것으로 예상되는 항목 수
+     * @param falsePositiveProbability 목표 오탐률 (예: 0.001)
+     */
+    public RotatingBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.generations = new Generations(newFilter(), newFilter());
+    }
+
+    public void put(long key) {
+        generations.current().put(key);
+    }
+
+    public boolean mightContain(long key) {
+        Generations snapshot = generations;
+        return snapshot.current().mightContain(key) || snapshot.previous().mightContain(key);
+    }
+
+    /**
+     * 이전 세대를 버리고 현재 세대를 이전 세대로 이동
+     */
+    public synchronized void rotate() {
+        generations = new Generations(newFilter(), generations.current());
+    }
+
+    /**
+     * 두 세대를 합친 대략적인 항목 수 (중복 포함 가능)
+     */
+    public long approximateSize() {
+        Generations snapshot = generations;
+        return snapshot.current().approximateElementCount() + snapshot.previous().approximateElementCount();
+    }
+
+    private BloomFilter<Long> newFilter() {
+        return BloomFilter.create(Funnels.longFunnel(), expectedInsertions, falsePositiveProbability);
+    }
+
+    private record Generations(BloomFilter<Long> current, BloomFilter<Long> previous) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.lookmarket.common.bloom;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 항목 수에 맞춰 단계(stage)를 늘려가는 문자열 키 Bloom Filter (Scalable Bloom Filter)
+ *
+ * 한 단계가 예상 항목 수를 채우면 용량이 2배이고 오탐률이 절반인 새 단계를 추가합니다.
+ * 단계별 오탐률이 p/2, p/4, ... 로 줄어들므로 전체 오탐률은 항목 수와 관계없이 p 이하로 유지됩니다.
+ *
+ * - mightContain()이 false면 확실히 없음, true면 "있을 수도 있음" (오탐 가능)
+ * - 조회는 불변 단계 배열(volatile)을 읽으므로 락이 없고, 추가는 드문 작업이라 synchronized로 처리합니다.
+ * - writeTo/readFrom으로 스냅샷을 저장/복원할 수 있습니다.
+ */
+public final class ScalableBloomFilter {
+
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final long initialCapacity;
+    private final double falsePositiveProbability;
+
+    private volatile Stage[] stages;
+
+    /**
+     * @param initialCapacity 첫 단계의 예상 항목 수
+     * @param falsePositiveProbability 전체 목표 오탐률 (예: 0.001)
+     */
+    public ScalableBloomFilter(long initialCapacity, double falsePositiveProbability) {
+        this(initialCapacity, falsePositiveProbability, new Stage[0]);
+    }
+
+    private ScalableBloomFilter(long initialCapacity, double falsePositiveProbability, Stage[] stages) {
+        this.initialCapacity = initialCapacity;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.stages = stages.length == 0 ? new Stage[]{newStage(0)} : stages;
+    }
+
+    public synchronized void put(String key) {
+        Stage[] current = stages;
+        for (Stage stage : current) {
+            if (stage.filter().mightContain(key)) {
+                return;
+            }
+        }
+        Stage last = current[current.length - 1];
+        if (last.count() >= last.capacity()) {
+            Stage[] grown = Arrays.copyOf(current, current.length + 1);
+            last = grown[current.length] = newStage(current.length);
+            stages = grown;
+        }
+        last.filter().put(key);
+        last.increment();
+    }
+
+    public boolean mightContain(String key) {
+        for (Stage stage : stages) {
+            if (stage.filter().mightContain(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 추가된 항목 수 (이미 있다고 판정된 항목은 제외)
+     */
+    public long size() {
+        long size = 0;
+        for (Stage stage : stages) {
+            size += stage.count();
+        }
+        return size;
+    }
+
+    public int stageCount() {
+        return stages.length;
+    }
+
+    /**
+     * 스냅샷 저장 (스트림은 닫지 않음)
+     */
+    public synchronized void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(SNAPSHOT_VERSION);
+        data.writeLong(initialCapacity);
+        data.writeDouble(falsePositiveProbability);
+        data.writeInt(stages.length);
+        for (Stage stage : stages) {
+            data.writeLong(stage.count());
+            data.flush();
+            stage.filter().writeTo(out);
+        }
+        data.flush();
+    }
+
+    /**
+     * 스냅샷 복원
+     *
+     * @throws IOException 형식이 맞지 않거나 읽기에 실패한 경우
+     */
+    public static ScalableBloomFilter readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        int version = data.readInt();
+        if (version != SNAPSHOT_VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 버전입니다: " + version);
+        }
+        long initialCapacity = data.readLong();
+        double falsePositiveProbability = data.readDouble();
+        Stage[] stages = new Stage[data.readInt()];
+        for (int i = 0; i < stages.length; i++) {
+            long count = data.readLong();
+            BloomFilter<CharSequence> filter = BloomFilter.readFrom(in, Funnels.stringFunnel(StandardCharsets.UTF_8));
+            stages[i] = new Stage(filter, capacity(initialCapacity, i), count);
+        }
+        return new ScalableBloomFilter(initialCapacity, falsePositiveProbability, stages);
+    }
+
+    private Stage newStage(int index) {
+        double stageProbability = falsePositiveProbability / (1L << (index + 1));
+        long capacity = capacity(initialCapacity, index);
+        return new Stage(BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), capacity, stageProbability),
+                capacity, 0);
+    }
+
+    private static long capacity(long initialCapacity, int index) {
+        return initialCapacity << Math.min(index, 20);
+    }
+
+    /**
+     * 단계별 필터와 항목 수 (항목 수는 put()의 synchronized 안에서만 변경)
+     */
+    private static final class Stage {
+
+        private final BloomFilter<CharSequence> filter;
+        private final long capacity;
+        private volatile long count;
+
+        private Stage(BloomFilter<CharSequence> filter, long capacity, long count) {
+            this.filter = filter;
+            this.capacity = capacity;
+            this.count = count;
+        }
+
+        BloomFilter<CharSequence> filter() {
+            return filter;
+        }
+
+        long capacity() {
+            return capacity;
+        }
+
+        long count() {
+            return count;
+        }
+
+        void increment() {
+            count++;
+        }
+    }
+}
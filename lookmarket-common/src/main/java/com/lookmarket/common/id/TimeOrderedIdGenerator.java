@@ -0,0 +1,173 @@
+package com.lookmarket.common.id;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순 64비트 ID 생성기 (Snowflake/TSID 방식)
+ *
+ * ID 구성 (상위 비트부터):
+ * - 1비트: 부호 (항상 0)
+ * - 41비트: EPOCH(2025-01-01 UTC) 이후 밀리초 (약 69년)
+ * - 10비트: 노드 ID (0 ~ 1023, 인스턴스마다 달라야 함)
+ * - 12비트: 같은 밀리초 안의 순번 (0 ~ 4095)
+ *
+ * DB가 아닌 애플리케이션에서 ID를 만들므로 INSERT 전에 ID를 알 수 있고, JDBC 배치 INSERT가 가능합니다.
+ * 시간순으로 증가하므로 InnoDB 클러스터드 인덱스 끝에 추가되어 페이지 분할이 적습니다.
+ *
+ * 마지막 (밀리초, 순번)을 AtomicLong 하나에 담아 CAS로 갱신하므로 락이 없습니다.
+ * 한 밀리초에 4096개를 넘으면 다음 밀리초를 미리 사용하고, 시계가 뒤로 가면 마지막 값에서 계속 증가하므로
+ * 같은 노드 안에서는 항상 단조 증가합니다.
+ *
+ * 주의: 2^53보다 큰 값이므로 JavaScript Number로는 정확히 표현되지 않습니다.
+ */
+public final class TimeOrderedIdGenerator {
+
+    public static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    /**
+     * 공유 생성기의 노드 ID 설정 (시스템 프로퍼티 우선, 없으면 환경 변수)
+     */
+    public static final String NODE_PROPERTY = "lookmarket.id.node";
+    public static final String NODE_ENV = "LOOKMARKET_ID_NODE";
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+
+    private static final long EPOCH_MILLIS = EPOCH.toEpochMilli();
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final int node;
+    private final long nodeBits;
+    private final LongSupplier clock;
+
+    /**
+     * (EPOCH 이후 밀리초 << SEQUENCE_BITS) | 순번
+     */
+    private final AtomicLong last = new AtomicLong();
+
+    private static volatile TimeOrderedIdGenerator shared;
+
+    public TimeOrderedIdGenerator(int node) {
+        this(node, System::currentTimeMillis);
+    }
+
+    TimeOrderedIdGenerator(int node, LongSupplier clock) {
+        this.node = requireValidNode(node);
+        this.nodeBits = (long) node << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    /**
+     * 프로세스 공유 생성기
+     *
+     * initializeShared로 노드 ID를 지정하지 않았다면 처음 호출할 때 lookmarket.id.node 시스템 프로퍼티 또는
+     * LOOKMARKET_ID_NODE 환경 변수를 읽고, 둘 다 없으면 무작위 노드 ID를 사용합니다.
+     * 무작위 노드 ID는 인스턴스가 몇 개만 되어도 충돌할 수 있으므로(1024개 중 선택) 단일 프로세스(테스트, 벤치마크)용입니다.
+     */
+    public static TimeOrderedIdGenerator shared() {
+        TimeOrderedIdGenerator generator = shared;
+        if (generator == null) {
+            synchronized (TimeOrderedIdGenerator.class) {
+                generator = shared;
+                if (generator == null) {
+                    generator = new TimeOrderedIdGenerator(resolveNode());
+                    shared = generator;
+                }
+            }
+        }
+        return generator;
+    }
+
+    /**
+     * 공유 생성기의 노드 ID를 지정합니다 (애플리케이션 기동 시 첫 ID 발급 전에 호출)
+     *
+     * @throws IllegalArgumentException 노드 ID가 범위를 벗어난 경우
+     * @throws IllegalStateException 이미 다른 노드 ID로 ID를 발급한 경우
+     */
+    public static synchronized TimeOrderedIdGenerator initializeShared(int node) {
+        TimeOrderedIdGenerator current = shared;
+        if (current == null) {
+            current = new TimeOrderedIdGenerator(node);
+            shared = current;
+        } else if (current.node != node) {
+            throw new IllegalStateException(
+                    "공유 생성기가 이미 노드 ID " + current.node + "로 초기화되었습니다: " + node);
+        }
+        return current;
+    }
+
+    /**
+     * 시스템 프로퍼티 또는 환경 변수로 지정한 노드 ID (없으면 null)
+     *
+     * @throws IllegalArgumentException 정수가 아니거나 범위를 벗어난 경우
+     */
+    private static Integer configuredNode() {
+        String configured = System.getProperty(NODE_PROPERTY, System.getenv(NODE_ENV));
+        if (configured == null || configured.isBlank()) {
+            return null;
+        }
+        return parseNode(configured);
+    }
+
+    /**
+     * 노드 ID 문자열을 검증합니다
+     *
+     * @throws IllegalArgumentException 정수가 아니거나 0 ~ MAX_NODE 범위를 벗어난 경우
+     */
+    public static int parseNode(String value) {
+        int node;
+        try {
+            node = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("노드 ID는 정수여야 합니다: " + value, e);
+        }
+        return requireValidNode(node);
+    }
+
+    private static int requireValidNode(int node) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE + " 범위여야 합니다: " + node);
+        }
+        return node;
+    }
+
+    public long nextId() {
+        long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long previous;
+        long next;
+        do {
+            previous = last.get();
+            next = Math.max(now, previous + 1);
+        } while (!last.compareAndSet(previous, next));
+
+        long elapsed = next >>> SEQUENCE_BITS;
+        return (elapsed << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+    }
+
+    public int node() {
+        return node;
+    }
+
+    /**
+     * ID에 담긴 생성 시각 (밀리초 단위)
+     */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    /**
+     * ID를 만든 노드 ID
+     */
+    public static int nodeOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE);
+    }
+
+    private static int resolveNode() {
+        Integer configured = configuredNode();
+        return configured != null ? configured : new SecureRandom().nextInt(MAX_NODE + 1);
+    }
+}
@@ -0,0 +1,63 @@
+package com.lookmarket.common.bloom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RotatingBloomFilter 단위 테스트")
+class RotatingBloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 키는 항상 있을 수도 있음으로 판정된다")
+    void put_thenMightContain() {
+        // given
+        RotatingBloomFilter filter = new RotatingBloomFilter(1_000, 0.001);
+
+        // when
+        for (long key = 0; key < 1_000; key++) {
+            filter.put(key);
+        }
+
+        // then
+        for (long key = 0; key < 1_000; key++) {
+            assertThat(filter.mightContain(key)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 키의 오탐률은 목표치 근처에 머문다")
+    void falsePositiveRate_isBounded() {
+        // given
+        RotatingBloomFilter filter = new RotatingBloomFilter(10_000, 0.01);
+        for (long key = 0; key < 10_000; key++) {
+            filter.put(key);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (long key = 1_000_000; key < 1_100_000; key++) {
+            if (filter.mightContain(key)) {
+                falsePositives++;
+            }
+        }
+
+        // then: 목표 1%, 여유를 두고 2% 미만
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    @DisplayName("두 번 교체되면 이전 항목이 사라진다")
+    void rotateTwice_dropsOldEntries() {
+        // given
+        RotatingBloomFilter filter = new RotatingBloomFilter(1_000, 0.001);
+        filter.put(42L);
+
+        // when & then
+        filter.rotate();
+        assertThat(filter.mightContain(42L)).isTrue();
+
+        filter.rotate();
+        assertThat(filter.mightContain(42L)).isFalse();
+    }
+}
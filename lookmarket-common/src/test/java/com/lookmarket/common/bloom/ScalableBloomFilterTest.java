@@ -0,0 +1,91 @@
+package com.lookmarket.common.bloom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ScalableBloomFilter 단위 테스트")
+class ScalableBloomFilterTest {
+
+    @Test
+    @DisplayName("예상 항목 수를 넘으면 단계를 늘리고 추가한 키는 모두 있을 수도 있음으로 판정된다")
+    void grows_withoutFalseNegatives() {
+        // given
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.001);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        // then
+        assertThat(filter.stageCount()).isGreaterThan(1);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i + "@example.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("단계가 늘어나도 전체 오탐률은 목표치 근처에 머문다")
+    void falsePositiveRate_isBounded() {
+        // given
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 20_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("이미 있다고 판정된 키는 다시 세지 않는다")
+    void duplicatePut_notCounted() {
+        // given
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.001);
+
+        // when
+        filter.put("user@example.com");
+        filter.put("user@example.com");
+
+        // then
+        assertThat(filter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 저장한 필터를 그대로 복원한다")
+    void snapshot_roundTrip() throws IOException {
+        // given
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.001);
+        for (int i = 0; i < 500; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        filter.writeTo(out);
+        ScalableBloomFilter restored = ScalableBloomFilter.readFrom(new ByteArrayInputStream(out.toByteArray()));
+
+        // then
+        assertThat(restored.stageCount()).isEqualTo(filter.stageCount());
+        assertThat(restored.size()).isEqualTo(filter.size());
+        for (int i = 0; i < 500; i++) {
+            assertThat(restored.mightContain("user" + i + "@example.com")).isTrue();
+        }
+        restored.put("new@example.com");
+        assertThat(restored.mightContain("new@example.com")).isTrue();
+    }
+}
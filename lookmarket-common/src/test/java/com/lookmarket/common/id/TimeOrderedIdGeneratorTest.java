@@ -0,0 +1,130 @@
+package com.lookmarket.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TimeOrderedIdGenerator 단위 테스트")
+class TimeOrderedIdGeneratorTest {
+
+    private static final long NOW = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+    @Test
+    @DisplayName("ID에서 생성 시각과 노드 ID를 복원할 수 있다")
+    void layout() {
+        // given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7, () -> NOW);
+
+        // when
+        long id = generator.nextId();
+
+        // then
+        assertThat(id).isPositive();
+        assertThat(TimeOrderedIdGenerator.timestampOf(id)).isEqualTo(Instant.ofEpochMilli(NOW));
+        assertThat(TimeOrderedIdGenerator.nodeOf(id)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("시간이 흐르면 나중에 만든 ID가 더 크다")
+    void timeOrdered() {
+        // given
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, clock::get);
+
+        // when
+        long first = generator.nextId();
+        clock.addAndGet(1);
+        long second = generator.nextId();
+
+        // then
+        assertThat(second).isGreaterThan(first);
+        assertThat(TimeOrderedIdGenerator.timestampOf(second)).isEqualTo(Instant.ofEpochMilli(NOW + 1));
+    }
+
+    @Test
+    @DisplayName("한 밀리초에 순번을 다 쓰면 다음 밀리초를 미리 사용한다")
+    void sequenceOverflow_borrowsNextMillisecond() {
+        // given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, () -> NOW);
+        long last = 0;
+
+        // when
+        for (int i = 0; i < (1 << TimeOrderedIdGenerator.SEQUENCE_BITS) + 1; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(last);
+            last = id;
+        }
+
+        // then
+        assertThat(TimeOrderedIdGenerator.timestampOf(last)).isEqualTo(Instant.ofEpochMilli(NOW + 1));
+        assertThat(TimeOrderedIdGenerator.nodeOf(last)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID는 계속 증가한다")
+    void clockBackwards_stillMonotonic() {
+        // given
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, clock::get);
+        long before = generator.nextId();
+
+        // when
+        clock.addAndGet(-1_000);
+        long after = generator.nextId();
+
+        // then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 만들어도 ID가 겹치지 않는다")
+    void concurrent_unique() throws Exception {
+        // given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 50_000;
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.nextId());
+                    }
+                });
+            }
+        }
+
+        // then
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 ID는 거부한다")
+    void invalidNode() {
+        // when & then
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("노드 ID 문자열은 정수이면서 범위 안이어야 한다")
+    void parseNode() {
+        // when & then
+        assertThat(TimeOrderedIdGenerator.parseNode(" 12 ")).isEqualTo(12);
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.parseNode("1024"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.parseNode("node-1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
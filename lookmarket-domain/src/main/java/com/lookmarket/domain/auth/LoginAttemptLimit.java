@@ -0,0 +1,30 @@
+package com.lookmarket.domain.auth;
+
+import java.time.Duration;
+
+/**
+ * 로그인 시도 토큰 버킷 설정
+ *
+ * 최대 capacity번까지 연속으로 시도할 수 있고, 이후에는 refillInterval마다 한 번씩 허용됩니다.
+ *
+ * @param capacity 버킷 용량 (연속 허용 횟수)
+ * @param refillInterval 토큰 하나가 다시 채워지는 간격
+ */
+public record LoginAttemptLimit(int capacity, Duration refillInterval) {
+
+    public LoginAttemptLimit {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        if (refillInterval.isZero() || refillInterval.isNegative()) {
+            throw new IllegalArgumentException("refillInterval은 0보다 커야 합니다: " + refillInterval);
+        }
+    }
+
+    /**
+     * 비어 있는 버킷이 가득 찰 때까지 걸리는 시간 (이 시간 동안 시도가 없으면 상태를 버려도 됨)
+     */
+    public Duration fullRefillTime() {
+        return refillInterval.multipliedBy(capacity);
+    }
+}
@@ -0,0 +1,22 @@
+package com.lookmarket.domain.auth;
+
+/**
+ * 로그인 시도 제한 인터페이스 (포트)
+ *
+ * 이메일, 클라이언트 IP 등 키별 토큰 버킷에서 시도 한 번을 차감합니다.
+ * 크리덴셜 스터핑 트래픽이 사용자 조회와 비밀번호 해시 검증까지 도달하지 않도록
+ * 인증 처리 전에 호출합니다.
+ *
+ * 구현체는 키 수와 관계없이 메모리 사용량이 제한되어야 합니다.
+ */
+public interface LoginAttemptLimiter {
+
+    /**
+     * 시도 한 번 차감
+     *
+     * @param key 버킷 키 (예: "email:user@example.com", "ip:10.0.0.1")
+     * @param limit 버킷 설정
+     * @return 허용되면 true, 버킷이 비어 있으면 false
+     */
+    boolean tryAcquire(String key, LoginAttemptLimit limit);
+}
@@ -0,0 +1,14 @@
+package com.lookmarket.domain.auth;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 성공 기록
+ *
+ * @param userId 사용자 ID
+ * @param ipAddress 클라이언트 IP
+ * @param userAgent User-Agent 헤더 (없으면 null)
+ * @param loggedInAt 로그인 시각
+ */
+public record LoginEvent(Long userId, String ipAddress, String userAgent, LocalDateTime loggedInAt) {
+}
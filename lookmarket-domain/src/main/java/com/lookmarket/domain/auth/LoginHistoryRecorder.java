@@ -0,0 +1,17 @@
+package com.lookmarket.domain.auth;
+
+/**
+ * 로그인 이력 기록 인터페이스 (포트)
+ *
+ * 로그인 응답 경로에서 호출되므로 구현체는 저장을 기다리지 않고 바로 반환해야 합니다.
+ * 기록은 최선 노력(best-effort)이며, 저장소 장애나 과부하 시 일부 이력이 유실될 수 있습니다.
+ */
+public interface LoginHistoryRecorder {
+
+    /**
+     * 로그인 이력 기록 요청 (비동기)
+     *
+     * @param event 로그인 기록
+     */
+    void record(LoginEvent event);
+}
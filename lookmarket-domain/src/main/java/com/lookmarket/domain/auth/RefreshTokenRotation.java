@@ -0,0 +1,21 @@
+package com.lookmarket.domain.auth;
+
+/**
+ * Refresh Token 교체 결과를 정의하는 Enum
+ */
+public enum RefreshTokenRotation {
+    /**
+     * 교체 완료 (제출된 토큰이 패밀리의 현재 토큰)
+     */
+    ROTATED,
+
+    /**
+     * 이미 소비된 토큰 재사용 (패밀리 전체 폐기됨)
+     */
+    REUSED,
+
+    /**
+     * 패밀리 없음 (만료, 폐기 또는 등록되지 않은 패밀리)
+     */
+    NOT_FOUND
+}
@@ -0,0 +1,45 @@
+package com.lookmarket.domain.auth;
+
+import java.time.Instant;
+
+/**
+ * Refresh Token 패밀리 저장소 인터페이스 (포트)
+ *
+ * 로그인 한 번으로 시작되는 Refresh Token의 연쇄를 "패밀리"로 묶어 관리합니다.
+ * 패밀리마다 현재 유효한 토큰 ID(jti) 하나만 보관하며,
+ * 갱신할 때마다 현재 토큰을 소비하고 다음 토큰으로 교체합니다.
+ *
+ * 이미 소비된 토큰이 다시 제출되면(탈취 후 재사용 의심) 패밀리 전체를 폐기합니다.
+ * 패밀리 하나는 키 하나이므로 폐기는 O(1)입니다.
+ *
+ * 구현체는 rotate를 원자적으로 처리해야 합니다. (같은 토큰으로 동시에 갱신하면 하나만 성공)
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 새 패밀리 등록 (로그인)
+     *
+     * @param familyId 패밀리 ID
+     * @param tokenId 첫 번째 Refresh Token ID
+     * @param expiresAt 패밀리 만료 시각 (이후 자동 삭제)
+     */
+    void create(String familyId, String tokenId, Instant expiresAt);
+
+    /**
+     * 현재 토큰을 소비하고 다음 토큰으로 교체 (토큰 갱신)
+     *
+     * @param familyId 패밀리 ID
+     * @param tokenId 제출된 Refresh Token ID
+     * @param nextTokenId 새로 발급할 Refresh Token ID
+     * @param expiresAt 연장된 패밀리 만료 시각
+     * @return 교체 결과
+     */
+    RefreshTokenRotation rotate(String familyId, String tokenId, String nextTokenId, Instant expiresAt);
+
+    /**
+     * 패밀리 폐기
+     *
+     * @param familyId 패밀리 ID
+     */
+    void revoke(String familyId);
+}
@@ -0,0 +1,25 @@
+package com.lookmarket.domain.auth;
+
+import java.time.Instant;
+
+/**
+ * 사용자 단위 Access Token 폐기 정보
+ *
+ * issuedBefore 이전에 발급된 해당 사용자의 토큰은 모두 무효입니다.
+ *
+ * @param userId 사용자 ID
+ * @param issuedBefore 이 시각 이전에 발급된 토큰 폐기
+ */
+public record TokenRevocation(Long userId, Instant issuedBefore) {
+
+    /**
+     * 토큰 발급 시각이 폐기 대상인지 확인
+     *
+     * JWT iat는 초 단위이므로 폐기 시각과 같은 초에 발급된 토큰도 폐기 대상으로 봅니다.
+     *
+     * @param issuedAt 토큰 발급 시각 (없으면 폐기 대상)
+     */
+    public boolean revokes(Instant issuedAt) {
+        return issuedAt == null || issuedAt.getEpochSecond() <= issuedBefore.getEpochSecond();
+    }
+}
@@ -0,0 +1,44 @@
+package com.lookmarket.domain.auth;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Access Token 폐기 목록 저장소 인터페이스 (포트)
+ *
+ * 계정 정지/비활성화 시 "사용자 X의 T 이전 발급 토큰은 무효"를 기록합니다.
+ * 폐기 정보는 Access Token 최대 유효 시간이 지나면 의미가 없으므로 구현체가 그 뒤에 삭제합니다.
+ *
+ * 요청마다 이 저장소를 조회하지 않도록, API 레이어는 변경 피드(subscribe)로 받은 사용자 ID를
+ * 인메모리 Bloom Filter에 넣고 "있을 수도 있음"일 때만 findByUserId로 정확히 확인합니다.
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * 사용자의 기존 토큰 폐기 (변경 피드로 모든 인스턴스에 전파)
+     *
+     * @param revocation 폐기 정보
+     */
+    void revoke(TokenRevocation revocation);
+
+    /**
+     * 사용자의 폐기 정보 조회 (정확한 확인용)
+     *
+     * @param userId 사용자 ID
+     * @return 폐기 정보, 없거나 만료되었으면 empty
+     */
+    Optional<TokenRevocation> findByUserId(Long userId);
+
+    /**
+     * 현재 유효한 폐기 정보가 있는 사용자 ID 목록 (기동 시 필터 초기화용)
+     */
+    Set<Long> findRevokedUserIds();
+
+    /**
+     * 폐기 변경 피드 구독 (다른 인스턴스에서 발생한 폐기 포함)
+     *
+     * @param listener 폐기 정보 수신 리스너
+     */
+    void subscribe(Consumer<TokenRevocation> listener);
+}
@@ -140,26 +140,26 @@ public class User {
      * 계정 활성화
      */
     public void activate() {
-        if (this.status == UserStatus.SUSPENDED) {
-            throw new IllegalStateException("정지된 계정은 활성화할 수 없습니다. 관리자에게 문의하세요.");
-        }
-        this.status = UserStatus.ACTIVE;
-        this.updatedAt = LocalDateTime.now();
+        transition(UserStatusTransition.ACTIVATE);
     }
 
     /**
      * 계정 비활성화 (휴면 상태로 전환)
      */
     public void deactivate() {
-        this.status = UserStatus.INACTIVE;
-        this.updatedAt = LocalDateTime.now();
+        transition(UserStatusTransition.DEACTIVATE);
     }
 
     /**
      * 계정 정지 (관리자 권한 필요)
      */
     public void suspend() {
-        this.status = UserStatus.SUSPENDED;
+        transition(UserStatusTransition.SUSPEND);
+    }
+
+    private void transition(UserStatusTransition transition) {
+        transition.check(this.status);
+        this.status = transition.target();
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -170,6 +170,13 @@ public class User {
         return this.status == UserStatus.ACTIVE;
     }
 
+    /**
+     * 인증용 투영으로 변환
+     */
+    public UserCredentials toCredentials() {
+        return new UserCredentials(id, email, password, role, status);
+    }
+
     /**
      * 관리자 권한 확인
      */
@@ -0,0 +1,17 @@
+package com.lookmarket.domain.user;
+
+import java.util.List;
+
+/**
+ * 사용자 대량 INSERT 결과
+ *
+ * @param inserted 저장된 사용자 (ID 포함, 입력 순서 유지)
+ * @param duplicateEmails 이미 가입되었거나 목록 안에서 중복되어 건너뛴 이메일
+ */
+public record UserBulkInsertResult(List<User> inserted, List<String> duplicateEmails) {
+
+    public UserBulkInsertResult {
+        inserted = List.copyOf(inserted);
+        duplicateEmails = List.copyOf(duplicateEmails);
+    }
+}
@@ -0,0 +1,29 @@
+package com.lookmarket.domain.user;
+
+/**
+ * 인증에 필요한 사용자 정보만 담은 읽기 전용 투영(Projection)
+ *
+ * 로그인/토큰 발급 경로는 이름, 전화번호, 생성 시각 등을 사용하지 않으므로
+ * User 엔티티 전체를 조회/검증하지 않고 이 값만 조회합니다.
+ * 이미 저장된 값을 그대로 옮기므로 User 생성자의 입력 검증은 수행하지 않습니다.
+ *
+ * @param id 사용자 ID
+ * @param email 이메일
+ * @param password 암호화된 비밀번호
+ * @param role 사용자 역할
+ * @param status 계정 상태
+ */
+public record UserCredentials(Long id, String email, String password, UserRole role, UserStatus status) {
+
+    /**
+     * 활성 상태 확인
+     */
+    public boolean isActive() {
+        return status == UserStatus.ACTIVE;
+    }
+
+    @Override
+    public String toString() {
+        return "UserCredentials{id=" + id + ", email='" + email + "', role=" + role + ", status=" + status + "}";
+    }
+}
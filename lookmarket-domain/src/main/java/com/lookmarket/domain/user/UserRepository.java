@@ -1,5 +1,7 @@
 package com.lookmarket.domain.user;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -21,6 +23,26 @@ public interface UserRepository {
      */
     User save(User user);
 
+    /**
+     * 여러 사용자 저장 (생성 또는 수정, 한 트랜잭션)
+     *
+     * 기존 사용자는 한 번에 조회해 변경분만 반영하고, 신규 사용자와 함께 JDBC 배치로 씁니다.
+     *
+     * @param users 저장할 사용자 목록
+     * @return 저장된 사용자 목록 (입력 순서 유지)
+     */
+    List<User> saveAll(List<User> users);
+
+    /**
+     * 신규 사용자 대량 INSERT (한 트랜잭션)
+     *
+     * 이미 가입된 이메일과 목록 안에서 중복된 이메일(대소문자 무시)은 예외 없이 건너뛰고 결과로 돌려줍니다.
+     *
+     * @param users 저장할 신규 사용자 목록 (ID 없음)
+     * @return 저장된 사용자와 건너뛴 이메일
+     */
+    UserBulkInsertResult insertAll(List<User> users);
+
     /**
      * ID로 사용자 조회
      *
@@ -37,6 +59,43 @@ public interface UserRepository {
      */
     Optional<User> findByEmail(String email);
 
+    /**
+     * 이메일로 인증 정보만 조회 (로그인 경로)
+     *
+     * 엔티티를 영속성 컨텍스트에 올리지 않고 인증에 필요한 컬럼만 읽습니다.
+     *
+     * @param email 사용자 이메일
+     * @return 인증 정보 (Optional)
+     */
+    Optional<UserCredentials> findCredentialsByEmail(String email);
+
+    /**
+     * 계정 상태 전환 (조건부 단일 UPDATE)
+     *
+     * 현재 상태가 전환의 출발 상태(UserStatusTransition.sources)일 때만 상태와 수정 시각을 바꿉니다.
+     * 사용자를 먼저 읽지 않으므로, 전환되지 않은 이유(사용자 없음/규칙 위반)는 호출자가 확인합니다.
+     *
+     * @param id 사용자 ID
+     * @param transition 상태 전환
+     * @param changedAt 수정 시각
+     * @return 전환된 사용자, 사용자가 없거나 허용되지 않는 상태면 empty
+     */
+    Optional<User> transitionStatus(Long id, UserStatusTransition transition, LocalDateTime changedAt);
+
+    /**
+     * 비밀번호 교체 (조건부 단일 UPDATE, compare-and-set)
+     *
+     * 저장된 해시가 expectedPassword와 같을 때만 비밀번호와 수정 시각을 바꿉니다.
+     * 해시를 읽은 뒤 다른 트랜잭션이 비밀번호를 바꿨다면 덮어쓰지 않습니다.
+     *
+     * @param id 사용자 ID
+     * @param expectedPassword 읽을 때의 해시
+     * @param newPassword 새 해시
+     * @param changedAt 수정 시각
+     * @return 교체 여부 (사용자가 없거나 해시가 이미 바뀌었으면 false)
+     */
+    boolean replacePassword(Long id, String expectedPassword, String newPassword, LocalDateTime changedAt);
+
     /**
      * 이메일 중복 확인
      *
@@ -0,0 +1,67 @@
+package com.lookmarket.domain.user;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 계정 상태 전환 규칙
+ *
+ * 전환마다 도착 상태와 허용되는 출발 상태를 정의합니다.
+ * User의 상태 변경 메서드와 조건부 UPDATE(UserRepository.transitionStatus)가 같은 규칙을 사용합니다.
+ */
+public enum UserStatusTransition {
+
+    /**
+     * 활성화 (정지된 계정은 관리자 확인 없이 활성화할 수 없음)
+     */
+    ACTIVATE(UserStatus.ACTIVE, EnumSet.of(UserStatus.ACTIVE, UserStatus.INACTIVE),
+            "정지된 계정은 활성화할 수 없습니다. 관리자에게 문의하세요."),
+
+    /**
+     * 비활성화 (휴면 상태로 전환)
+     */
+    DEACTIVATE(UserStatus.INACTIVE, EnumSet.allOf(UserStatus.class), null),
+
+    /**
+     * 정지 (관리자 권한 필요)
+     */
+    SUSPEND(UserStatus.SUSPENDED, EnumSet.allOf(UserStatus.class), null);
+
+    private final UserStatus target;
+    private final Set<UserStatus> sources;
+    private final String rejectionMessage;
+
+    UserStatusTransition(UserStatus target, Set<UserStatus> sources, String rejectionMessage) {
+        this.target = target;
+        this.sources = Collections.unmodifiableSet(sources);
+        this.rejectionMessage = rejectionMessage;
+    }
+
+    public UserStatus target() {
+        return target;
+    }
+
+    /**
+     * 이 전환을 허용하는 출발 상태
+     */
+    public Set<UserStatus> sources() {
+        return sources;
+    }
+
+    public boolean allows(UserStatus current) {
+        return sources.contains(current);
+    }
+
+    /**
+     * 현재 상태에서 전환할 수 있는지 검증
+     *
+     * @param current 현재 상태
+     * @throws IllegalStateException 허용되지 않는 출발 상태인 경우
+     */
+    public void check(UserStatus current) {
+        if (!allows(current)) {
+            throw new IllegalStateException(rejectionMessage);
+        }
+    }
+}
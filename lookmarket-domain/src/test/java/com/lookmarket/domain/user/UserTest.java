@@ -273,6 +273,16 @@ class UserTest {
                     .hasMessage("정지된 계정은 활성화할 수 없습니다. 관리자에게 문의하세요.");
         }
 
+        @Test
+        @DisplayName("조건부 UPDATE에 쓰는 전환 규칙은 정지 상태에서의 활성화만 막는다")
+        void transitionSources() {
+            // when & then
+            assertThat(UserStatusTransition.ACTIVATE.sources())
+                    .containsExactlyInAnyOrder(UserStatus.ACTIVE, UserStatus.INACTIVE);
+            assertThat(UserStatusTransition.DEACTIVATE.sources()).containsExactlyInAnyOrder(UserStatus.values());
+            assertThat(UserStatusTransition.SUSPEND.sources()).containsExactlyInAnyOrder(UserStatus.values());
+        }
+
         @Test
         @DisplayName("deactivate하면 INACTIVE 상태가 된다")
         void deactivate_success() {
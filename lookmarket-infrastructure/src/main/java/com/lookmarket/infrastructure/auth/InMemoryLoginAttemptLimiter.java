@@ -0,0 +1,104 @@
+package com.lookmarket.infrastructure.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.lookmarket.domain.auth.LoginAttemptLimit;
+import com.lookmarket.domain.auth.LoginAttemptLimiter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * LoginAttemptLimiter 인메모리 구현체 (단일 인스턴스용)
+ *
+ * 버킷 하나를 GCRA(Generic Cell Rate Algorithm)로 표현하여 AtomicLong 하나(다음 허용 이론 시각)만 보관합니다.
+ * 차감은 CAS 루프로 처리하므로 락이 없고 가상 스레드를 고정(pin)하지 않습니다.
+ *
+ * - 버킷은 Caffeine 캐시에 두고 maximum-buckets를 넘으면 W-TinyLFU로 제거하여 메모리를 제한합니다.
+ * - 버킷이 가득 찰 시간(capacity × refillInterval) 동안 시도가 없으면 만료됩니다.
+ *   (만료된 버킷은 가득 찬 버킷과 같으므로 결과가 달라지지 않음)
+ *
+ * 설정: auth.login-throttle.store=memory (기본값)
+ */
+@Component
+@ConditionalOnProperty(name = "auth.login-throttle.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginAttemptLimiter implements LoginAttemptLimiter {
+
+    private final Cache<String, Bucket> buckets;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public InMemoryLoginAttemptLimiter(@Value("${auth.login-throttle.maximum-buckets:100000}") long maximumBuckets) {
+        this(maximumBuckets, System::nanoTime);
+    }
+
+    InMemoryLoginAttemptLimiter(long maximumBuckets, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumBuckets)
+                .expireAfter(new IdleExpiry())
+                .ticker(nanoClock::getAsLong)
+                .build();
+    }
+
+    @Override
+    public boolean tryAcquire(String key, LoginAttemptLimit limit) {
+        long interval = limit.refillInterval().toNanos();
+        long burst = limit.fullRefillTime().toNanos();
+        long now = nanoClock.getAsLong();
+
+        Bucket bucket = buckets.get(key, k -> new Bucket(now, burst));
+        while (true) {
+            long theoreticalArrival = bucket.theoreticalArrival.get();
+            long next = Math.max(theoreticalArrival, now) + interval;
+            if (next - now > burst) {
+                return false;
+            }
+            if (bucket.theoreticalArrival.compareAndSet(theoreticalArrival, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 현재 버킷 수 (근사치, 테스트용)
+     */
+    long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private static final class Bucket {
+
+        private final AtomicLong theoreticalArrival;
+        private final long idleNanos;
+
+        Bucket(long now, long idleNanos) {
+            this.theoreticalArrival = new AtomicLong(now);
+            this.idleNanos = idleNanos;
+        }
+    }
+
+    private static final class IdleExpiry implements Expiry<String, Bucket> {
+
+        @Override
+        public long expireAfterCreate(String key, Bucket bucket, long currentTime) {
+            return bucket.idleNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Bucket bucket, long currentTime, long currentDuration) {
+            return bucket.idleNanos;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Bucket bucket, long currentTime, long currentDuration) {
+            return bucket.idleNanos;
+        }
+    }
+}
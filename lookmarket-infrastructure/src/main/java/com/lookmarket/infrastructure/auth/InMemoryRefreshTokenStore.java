@@ -0,0 +1,142 @@
+package com.lookmarket.infrastructure.auth;
+
+import com.lookmarket.domain.auth.RefreshTokenRotation;
+import com.lookmarket.domain.auth.RefreshTokenStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * RefreshTokenStore 인메모리 구현체 (단일 인스턴스용)
+ *
+ * 패밀리 ID 해시로 나눈 스트라이프마다 ReentrantLock과 HashMap을 둡니다.
+ * 서로 다른 패밀리의 갱신은 대부분 다른 락을 잡으므로 경합하지 않습니다.
+ *
+ * ConcurrentHashMap.compute()는 내부적으로 synchronized를 사용하여
+ * Java 21 Virtual Thread가 캐리어 스레드에 고정(pinning)되므로 ReentrantLock으로 직접 관리합니다.
+ *
+ * 설정: jwt.refresh-token-store=memory (기본값)
+ * 여러 인스턴스로 운영할 때는 redis 구현을 사용해야 합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-token-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final Clock clock;
+
+    public InMemoryRefreshTokenStore() {
+        this(Clock.systemUTC());
+    }
+
+    InMemoryRefreshTokenStore(Clock clock) {
+        this.clock = clock;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public void create(String familyId, String tokenId, Instant expiresAt) {
+        Stripe stripe = stripeFor(familyId);
+        stripe.lock.lock();
+        try {
+            stripe.families.put(familyId, new Family(tokenId, expiresAt));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public RefreshTokenRotation rotate(String familyId, String tokenId, String nextTokenId, Instant expiresAt) {
+        Stripe stripe = stripeFor(familyId);
+        stripe.lock.lock();
+        try {
+            Family family = stripe.families.get(familyId);
+            if (family == null) {
+                return RefreshTokenRotation.NOT_FOUND;
+            }
+            if (family.isExpired(clock.instant())) {
+                stripe.families.remove(familyId);
+                return RefreshTokenRotation.NOT_FOUND;
+            }
+            if (!family.currentTokenId().equals(tokenId)) {
+                // 이미 소비된 토큰 재사용 → 패밀리 전체 폐기
+                stripe.families.remove(familyId);
+                return RefreshTokenRotation.REUSED;
+            }
+            stripe.families.put(familyId, new Family(nextTokenId, expiresAt));
+            return RefreshTokenRotation.ROTATED;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void revoke(String familyId) {
+        Stripe stripe = stripeFor(familyId);
+        stripe.lock.lock();
+        try {
+            stripe.families.remove(familyId);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 만료된 패밀리 정리 (스트라이프 단위로 잠깐씩만 락 보유)
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-store-cleanup-interval:60000}")
+    public void purgeExpired() {
+        Instant now = clock.instant();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.families.values().removeIf(family -> family.isExpired(now));
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 보관 중인 패밀리 수
+     */
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.families.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String familyId) {
+        int hash = familyId.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Family> families = new HashMap<>();
+    }
+
+    private record Family(String currentTokenId, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
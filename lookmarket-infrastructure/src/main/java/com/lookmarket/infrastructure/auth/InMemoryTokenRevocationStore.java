@@ -0,0 +1,86 @@
+package com.lookmarket.infrastructure.auth;
+
+import com.lookmarket.domain.auth.TokenRevocation;
+import com.lookmarket.domain.auth.TokenRevocationStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * TokenRevocationStore 인메모리 구현체 (단일 인스턴스용)
+ *
+ * 변경 피드는 같은 JVM 안의 리스너에게 바로 전달됩니다.
+ * 폐기 정보는 Access Token 유효 시간(jwt.access-token-expiration)이 지나면 삭제됩니다.
+ *
+ * 설정: jwt.revocation-store=memory (기본값)
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.revocation-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    private final Map<Long, Entry> revocations = new ConcurrentHashMap<>();
+    private final List<Consumer<TokenRevocation>> listeners = new CopyOnWriteArrayList<>();
+    private final Duration retention;
+    private final Clock clock;
+
+    @Autowired
+    public InMemoryTokenRevocationStore(@Value("${jwt.access-token-expiration}") long accessTokenExpiration) {
+        this(Duration.ofMillis(accessTokenExpiration), Clock.systemUTC());
+    }
+
+    InMemoryTokenRevocationStore(Duration retention, Clock clock) {
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    @Override
+    public void revoke(TokenRevocation revocation) {
+        revocations.put(revocation.userId(), new Entry(revocation, revocation.issuedBefore().plus(retention)));
+        listeners.forEach(listener -> listener.accept(revocation));
+    }
+
+    @Override
+    public Optional<TokenRevocation> findByUserId(Long userId) {
+        Entry entry = revocations.get(userId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(clock.instant())) {
+            revocations.remove(userId, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.revocation());
+    }
+
+    @Override
+    public Set<Long> findRevokedUserIds() {
+        Instant now = clock.instant();
+        revocations.values().removeIf(entry -> entry.isExpired(now));
+        return revocations.keySet().stream().collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public void subscribe(Consumer<TokenRevocation> listener) {
+        listeners.add(listener);
+    }
+
+    private record Entry(TokenRevocation revocation, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.lookmarket.infrastructure.auth;
+
+import com.lookmarket.domain.auth.LoginEvent;
+import com.lookmarket.domain.auth.LoginHistoryRecorder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 로그인 이력 Write-Behind 기록기 (JDBC 배치)
+ *
+ * record()는 제한된 메모리 큐에 넣기만 하고 바로 반환합니다.
+ * 백그라운드 스레드가 큐에 쌓인 이력을 batch-size 단위로 꺼내 한 트랜잭션에서
+ * login_history INSERT 배치와 users.last_login_at UPDATE 배치로 저장합니다.
+ *
+ * - 큐가 가득 차면 새 이력은 버립니다 (로그인 응답을 막지 않음).
+ * - 저장에 실패한 배치는 재시도하지 않고 버립니다.
+ * - 종료 시 큐에 남은 이력을 모두 저장한 뒤 멈춥니다.
+ *
+ * 설정: auth.login-history.enabled=false이면 기록하지 않습니다.
+ */
+@Component
+public class JdbcLoginHistoryRecorder implements LoginHistoryRecorder, MeterBinder, InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcLoginHistoryRecorder.class);
+
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO login_history (user_id, ip_address, user_agent, logged_in_at) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_LAST_LOGIN_SQL =
+            "UPDATE users SET last_login_at = ? WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    private static final int MAX_IP_ADDRESS_LENGTH = 45;
+    private static final int MAX_USER_AGENT_LENGTH = 255;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final BlockingQueue<LoginEvent> queue;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public JdbcLoginHistoryRecorder(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${auth.login-history.enabled:true}") boolean enabled,
+            @Value("${auth.login-history.queue-capacity:10000}") int queueCapacity,
+            @Value("${auth.login-history.batch-size:500}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @Override
+    public void record(LoginEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (!queue.offer(event)) {
+            long count = dropped.incrementAndGet();
+            if (count == 1 || count % 1000 == 0) {
+                log.warn("로그인 이력 큐가 가득 차 이력을 버렸습니다: 누적 {}건", count);
+            }
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().daemon().name("login-history-writer").start(this::drainLoop);
+    }
+
+    private void drainLoop() {
+        List<LoginEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                LoginEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 이력 배치 저장 (login_history INSERT + 사용자별 최신 last_login_at UPDATE)
+     */
+    void flush(List<LoginEvent> batch) {
+        List<Object[]> histories = new ArrayList<>(batch.size());
+        Map<Long, LocalDateTime> lastLogins = new HashMap<>();
+        for (LoginEvent event : batch) {
+            histories.add(new Object[]{
+                    event.userId(),
+                    truncate(event.ipAddress(), MAX_IP_ADDRESS_LENGTH),
+                    truncate(event.userAgent(), MAX_USER_AGENT_LENGTH),
+                    Timestamp.valueOf(event.loggedInAt())
+            });
+            lastLogins.merge(event.userId(), event.loggedInAt(), (a, b) -> a.isAfter(b) ? a : b);
+        }
+        List<Object[]> updates = new ArrayList<>(lastLogins.size());
+        lastLogins.forEach((userId, loggedInAt) -> {
+            Timestamp timestamp = Timestamp.valueOf(loggedInAt);
+            updates.add(new Object[]{timestamp, userId, timestamp});
+        });
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, histories);
+                jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_SQL, updates);
+            });
+            written.add(batch.size());
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            log.warn("로그인 이력 {}건 저장 실패", batch.size(), e);
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("login.history.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 로그인 이력 수")
+                .register(registry);
+        register(registry, "written", written, LongAdder::sum);
+        register(registry, "failed", failed, LongAdder::sum);
+        register(registry, "dropped", dropped, AtomicLong::get);
+    }
+
+    private static <T> void register(MeterRegistry registry, String result, T counter,
+                                     ToDoubleFunction<T> value) {
+        FunctionCounter.builder("login.history.events", counter, value)
+                .description("로그인 이력 처리 결과")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.lookmarket.infrastructure.auth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * login_history 월 단위 파티션 관리
+ *
+ * - 이번 달부터 months-ahead개월 뒤까지의 파티션이 없으면 p_future(MAXVALUE)를 분할해 추가합니다.
+ * - retention-months보다 오래된 파티션은 DROP PARTITION으로 삭제합니다 (행 단위 DELETE 없이 즉시 반환).
+ *
+ * 기동 후 한 번, 이후 매일 실행합니다. 여러 인스턴스가 동시에 실행해도 이미 반영된 파티션은 건너뜁니다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.login-history.enabled", havingValue = "true", matchIfMissing = true)
+public class LoginHistoryPartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginHistoryPartitionManager.class);
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'uuuuMM");
+    private static final String FUTURE_PARTITION = "p_future";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final Clock clock;
+
+    @Autowired
+    public LoginHistoryPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            @Value("${auth.login-history.months-ahead:2}") int monthsAhead,
+            @Value("${auth.login-history.retention-months:12}") int retentionMonths
+    ) {
+        this(jdbcTemplate, monthsAhead, retentionMonths, Clock.systemDefaultZone());
+    }
+
+    LoginHistoryPartitionManager(JdbcTemplate jdbcTemplate, int monthsAhead, int retentionMonths, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${auth.login-history.partition-cron:0 0 3 * * *}")
+    public void maintain() {
+        try {
+            List<String> existing = jdbcTemplate.queryForList(
+                    "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'login_history' "
+                            + "AND PARTITION_NAME IS NOT NULL",
+                    String.class);
+            for (String statement : plan(new HashSet<>(existing), YearMonth.now(clock))) {
+                log.info("login_history 파티션 변경: {}", statement);
+                jdbcTemplate.execute(statement);
+            }
+        } catch (RuntimeException e) {
+            log.warn("login_history 파티션 관리 실패 (다음 주기에 재시도)", e);
+        }
+    }
+
+    /**
+     * 현재 파티션 목록에서 필요한 ALTER TABLE 문 계산
+     */
+    List<String> plan(Set<String> existing, YearMonth now) {
+        List<String> statements = new ArrayList<>();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = now.plusMonths(i);
+            String name = month.format(PARTITION_NAME);
+            if (!existing.contains(name) && !hasLaterPartition(existing, month)) {
+                statements.add("ALTER TABLE login_history REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO ("
+                        + "PARTITION " + name + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "'), "
+                        + "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+            }
+        }
+
+        YearMonth oldestRetained = now.minusMonths(retentionMonths);
+        existing.stream()
+                .filter(name -> !name.equals(FUTURE_PARTITION))
+                .filter(name -> YearMonth.parse(name, PARTITION_NAME).isBefore(oldestRetained))
+                .sorted()
+                .forEach(name -> statements.add("ALTER TABLE login_history DROP PARTITION " + name));
+        return statements;
+    }
+
+    /**
+     * 범위 파티션은 마지막 파티션 뒤에만 추가할 수 있으므로, 더 뒤의 파티션이 이미 있으면 건너뜀
+     */
+    private static boolean hasLaterPartition(Set<String> existing, YearMonth month) {
+        return existing.stream()
+                .filter(name -> !name.equals(FUTURE_PARTITION))
+                .anyMatch(name -> YearMonth.parse(name, PARTITION_NAME).isAfter(month));
+    }
+}
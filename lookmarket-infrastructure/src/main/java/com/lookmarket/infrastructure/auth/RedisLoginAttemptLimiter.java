@@ -0,0 +1,71 @@
+package com.lookmarket.infrastructure.auth;
+
+import com.lookmarket.domain.auth.LoginAttemptLimit;
+import com.lookmarket.domain.auth.LoginAttemptLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * LoginAttemptLimiter Redis 구현체 (다중 인스턴스용)
+ *
+ * 인메모리 구현과 같은 GCRA 버킷을 키 하나(값 = 다음 허용 이론 시각 ms)로 저장하고,
+ * 비교와 갱신을 Lua 스크립트로 한 번의 왕복에 원자적으로 처리합니다.
+ * 키는 버킷이 가득 찰 시각에 만료되므로 메모리는 최근 시도한 키 수로 제한됩니다.
+ *
+ * Redis 장애 시에는 로그인을 막지 않도록 허용(fail-open)합니다.
+ *
+ * 설정: auth.login-throttle.store=redis
+ */
+@Component
+@ConditionalOnProperty(name = "auth.login-throttle.store", havingValue = "redis")
+public class RedisLoginAttemptLimiter implements LoginAttemptLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisLoginAttemptLimiter.class);
+
+    private static final String KEY_PREFIX = "auth:login-throttle:";
+
+    /**
+     * KEYS[1] = 버킷 키, ARGV[1] = 현재 시각(ms), ARGV[2] = 재충전 간격(ms), ARGV[3] = 버킷 용량 × 간격(ms)
+     * 반환: 1 = 허용, 0 = 거부
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of("""
+            local now = tonumber(ARGV[1])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then
+                tat = now
+            end
+            local next = tat + tonumber(ARGV[2])
+            if next - now > tonumber(ARGV[3]) then
+                return 0
+            end
+            redis.call('SET', KEYS[1], next, 'PX', next - now)
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisLoginAttemptLimiter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, LoginAttemptLimit limit) {
+        try {
+            Long result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + key),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(limit.refillInterval().toMillis()),
+                    String.valueOf(limit.fullRefillTime().toMillis()));
+            return result == null || result == 1L;
+        } catch (DataAccessException e) {
+            log.warn("로그인 시도 제한 확인 실패, 허용합니다: {}", e.getMessage());
+            return true;
+        }
+    }
+}
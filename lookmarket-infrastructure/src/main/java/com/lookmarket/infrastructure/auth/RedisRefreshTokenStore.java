@@ -0,0 +1,77 @@
+package com.lookmarket.infrastructure.auth;
+
+import com.lookmarket.domain.auth.RefreshTokenRotation;
+import com.lookmarket.domain.auth.RefreshTokenStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * RefreshTokenStore Redis 구현체 (다중 인스턴스용)
+ *
+ * 패밀리 하나를 문자열 키 하나(값 = 현재 토큰 ID)로 저장하고 PEXPIREAT으로 자동 만료시킵니다.
+ * 비교 후 교체/폐기는 Lua 스크립트로 한 번의 왕복에 원자적으로 처리합니다.
+ *
+ * 설정: jwt.refresh-token-store=redis (PXAT 사용으로 Redis 6.2 이상 필요)
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-token-store", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "auth:refresh-family:";
+
+    /**
+     * KEYS[1] = 패밀리 키, ARGV[1] = 제출된 토큰 ID, ARGV[2] = 다음 토큰 ID, ARGV[3] = 만료 시각(ms)
+     * 반환: 0 = 없음, 1 = 교체, 2 = 재사용(패밀리 삭제)
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of("""
+            local current = redis.call('GET', KEYS[1])
+            if not current then
+                return 0
+            end
+            if current ~= ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                return 2
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PXAT', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> CREATE_SCRIPT = RedisScript.of(
+            "redis.call('SET', KEYS[1], ARGV[1], 'PXAT', ARGV[2]) return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void create(String familyId, String tokenId, Instant expiresAt) {
+        redisTemplate.execute(CREATE_SCRIPT, List.of(key(familyId)),
+                tokenId, String.valueOf(expiresAt.toEpochMilli()));
+    }
+
+    @Override
+    public RefreshTokenRotation rotate(String familyId, String tokenId, String nextTokenId, Instant expiresAt) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(key(familyId)),
+                tokenId, nextTokenId, String.valueOf(expiresAt.toEpochMilli()));
+        if (result == null || result == 0L) {
+            return RefreshTokenRotation.NOT_FOUND;
+        }
+        return result == 1L ? RefreshTokenRotation.ROTATED : RefreshTokenRotation.REUSED;
+    }
+
+    @Override
+    public void revoke(String familyId) {
+        redisTemplate.delete(key(familyId));
+    }
+
+    private static String key(String familyId) {
+        return KEY_PREFIX + familyId;
+    }
+}
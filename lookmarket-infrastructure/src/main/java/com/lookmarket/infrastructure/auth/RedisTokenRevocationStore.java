@@ -0,0 +1,140 @@
+package com.lookmarket.infrastructure.auth;
+
+import com.lookmarket.domain.auth.TokenRevocation;
+import com.lookmarket.domain.auth.TokenRevocationStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * TokenRevocationStore Redis 구현체 (다중 인스턴스용)
+ *
+ * 저장 구조:
+ * - auth:revoked-user:{userId} = issuedBefore(ms), Access Token 유효 시간 뒤 만료 (정확한 확인용)
+ * - auth:revoked-users (Sorted Set, score = 만료 시각) = 기동 시 필터 초기화용 인덱스
+ * - auth:token-revocations 채널 = 변경 피드 ("{userId}:{issuedBefore ms}")
+ *
+ * 기록과 발행은 Lua 스크립트 하나로 원자적으로 처리합니다.
+ * 구독이 끊긴 동안 발행된 폐기는 받지 못하므로, 재연결 후에는 기동 시와 같이
+ * findRevokedUserIds()로 다시 채우는 것이 안전합니다.
+ *
+ * 설정: jwt.revocation-store=redis (PXAT 사용으로 Redis 6.2 이상 필요)
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.revocation-store", havingValue = "redis")
+public class RedisTokenRevocationStore implements TokenRevocationStore, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisTokenRevocationStore.class);
+
+    private static final String KEY_PREFIX = "auth:revoked-user:";
+    private static final String INDEX_KEY = "auth:revoked-users";
+    private static final String CHANNEL = "auth:token-revocations";
+
+    /**
+     * KEYS[1] = 사용자 키, KEYS[2] = 인덱스
+     * ARGV[1] = issuedBefore(ms), ARGV[2] = 만료 시각(ms), ARGV[3] = userId, ARGV[4] = 현재 시각(ms), ARGV[5] = 채널
+     */
+    private static final RedisScript<Long> REVOKE_SCRIPT = RedisScript.of("""
+            redis.call('SET', KEYS[1], ARGV[1], 'PXAT', ARGV[2])
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[3])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[4])
+            return redis.call('PUBLISH', ARGV[5], ARGV[3] .. ':' .. ARGV[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long retentionMillis;
+
+    public RedisTokenRevocationStore(
+            StringRedisTemplate redisTemplate,
+            RedisConnectionFactory connectionFactory,
+            @Value("${jwt.access-token-expiration}") long accessTokenExpiration
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.retentionMillis = accessTokenExpiration;
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.afterPropertiesSet();
+    }
+
+    @Override
+    public void revoke(TokenRevocation revocation) {
+        long issuedBefore = revocation.issuedBefore().toEpochMilli();
+        redisTemplate.execute(REVOKE_SCRIPT, List.of(key(revocation.userId()), INDEX_KEY),
+                String.valueOf(issuedBefore),
+                String.valueOf(issuedBefore + retentionMillis),
+                String.valueOf(revocation.userId()),
+                String.valueOf(System.currentTimeMillis()),
+                CHANNEL);
+    }
+
+    @Override
+    public Optional<TokenRevocation> findByUserId(Long userId) {
+        String issuedBefore = redisTemplate.opsForValue().get(key(userId));
+        if (issuedBefore == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new TokenRevocation(userId, Instant.ofEpochMilli(Long.parseLong(issuedBefore))));
+    }
+
+    @Override
+    public Set<Long> findRevokedUserIds() {
+        Set<String> userIds = redisTemplate.opsForZSet()
+                .rangeByScore(INDEX_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        if (userIds == null) {
+            return Set.of();
+        }
+        return userIds.stream().map(Long::valueOf).collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public void subscribe(Consumer<TokenRevocation> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            TokenRevocation revocation = parse(new String(message.getBody(), StandardCharsets.UTF_8));
+            if (revocation != null) {
+                listener.accept(revocation);
+            }
+        }, new ChannelTopic(CHANNEL));
+        if (!listenerContainer.isRunning()) {
+            listenerContainer.start();
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    private static TokenRevocation parse(String message) {
+        int separator = message.indexOf(':');
+        try {
+            return new TokenRevocation(
+                    Long.parseLong(message.substring(0, separator)),
+                    Instant.ofEpochMilli(Long.parseLong(message.substring(separator + 1)))
+            );
+        } catch (RuntimeException e) {
+            log.warn("잘못된 토큰 폐기 메시지를 무시합니다: {}", message);
+            return null;
+        }
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,25 @@
+package com.lookmarket.infrastructure.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 애플리케이션에서 생성하는 시간순 64비트 ID (TimeOrderedIdGenerator)
+ *
+ * IDENTITY와 달리 INSERT 전에 ID가 정해지므로 Hibernate JDBC 배치 INSERT(hibernate.jdbc.batch_size)가 동작합니다.
+ *
+ * <pre>
+ * &#64;Id
+ * &#64;TimeOrderedId
+ * private Long id;
+ * </pre>
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
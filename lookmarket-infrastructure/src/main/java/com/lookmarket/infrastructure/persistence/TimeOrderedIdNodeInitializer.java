@@ -0,0 +1,41 @@
+package com.lookmarket.infrastructure.persistence;
+
+import com.lookmarket.common.id.TimeOrderedIdGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 lookmarket.id.node로 공유 TimeOrderedIdGenerator의 노드 ID를 지정
+ *
+ * - 범위(0 ~ 1023)를 벗어나거나 정수가 아니면 기동을 중단합니다 (첫 INSERT에서야 실패하지 않도록).
+ * - 지정하지 않은 경우 local/dev/test 프로파일에서는 무작위 노드 ID로 기동하고 WARN을 남기며,
+ *   그 외 프로파일에서는 인스턴스끼리 노드 ID가 겹쳐 ID가 충돌할 수 있으므로 기동을 중단합니다.
+ */
+@Component
+public class TimeOrderedIdNodeInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(TimeOrderedIdNodeInitializer.class);
+
+    static final String[] RANDOM_NODE_PROFILES = {"local", "dev", "test"};
+
+    public TimeOrderedIdNodeInitializer(
+            @Value("${lookmarket.id.node:}") String node,
+            Environment environment
+    ) {
+        if (!node.isBlank()) {
+            TimeOrderedIdGenerator generator = TimeOrderedIdGenerator.initializeShared(
+                    TimeOrderedIdGenerator.parseNode(node));
+            log.info("ID 생성기 노드 ID: {}", generator.node());
+        } else if (environment.acceptsProfiles(Profiles.of(RANDOM_NODE_PROFILES))) {
+            log.warn("lookmarket.id.node가 지정되지 않아 무작위 노드 ID {}를 사용합니다 (다중 인스턴스에서는 ID가 충돌할 수 있음)",
+                    TimeOrderedIdGenerator.shared().node());
+        } else {
+            throw new IllegalStateException("lookmarket.id.node(LOOKMARKET_ID_NODE)에 인스턴스마다 고유한 노드 ID(0 ~ "
+                    + TimeOrderedIdGenerator.MAX_NODE + ")를 지정해야 합니다");
+        }
+    }
+}
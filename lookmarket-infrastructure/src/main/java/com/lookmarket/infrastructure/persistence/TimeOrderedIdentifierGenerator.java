@@ -0,0 +1,18 @@
+package com.lookmarket.infrastructure.persistence;
+
+import com.lookmarket.common.id.TimeOrderedIdGenerator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * @TimeOrderedId 필드에 프로세스 공유 TimeOrderedIdGenerator로 ID를 부여하는 Hibernate 생성기
+ *
+ * 노드 ID는 기동 시 TimeOrderedIdNodeInitializer가 lookmarket.id.node(LOOKMARKET_ID_NODE)로 지정합니다.
+ */
+public class TimeOrderedIdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return TimeOrderedIdGenerator.shared().nextId();
+    }
+}
@@ -0,0 +1,28 @@
+package com.lookmarket.infrastructure.user;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * RegisteredEmailFeed 인메모리 구현체 (단일 인스턴스용)
+ *
+ * 저장한 인스턴스가 곧 조회하는 인스턴스이고 저장 시 필터에 바로 반영되므로 전파할 대상이 없습니다.
+ *
+ * 설정: auth.email-filter.feed=memory (기본값)
+ */
+@Component
+@ConditionalOnProperty(name = "auth.email-filter.feed", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRegisteredEmailFeed implements RegisteredEmailFeed {
+
+    @Override
+    public void publish(Collection<String> emails) {
+    }
+
+    @Override
+    public void subscribe(Consumer<List<String>> listener) {
+    }
+}
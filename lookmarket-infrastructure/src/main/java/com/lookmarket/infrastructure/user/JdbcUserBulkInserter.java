@@ -0,0 +1,153 @@
+package com.lookmarket.infrastructure.user;
+
+import com.lookmarket.common.id.TimeOrderedIdGenerator;
+import com.lookmarket.domain.user.User;
+import com.lookmarket.domain.user.UserBulkInsertResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * 신규 사용자 대량 INSERT (JDBC 배치)
+ *
+ * batch-size 단위로 나누어 청크마다 다음 순서로 처리합니다.
+ * 1. 이미 가입된 이메일을 IN 조회 한 번으로 걸러내고, 목록 안의 중복 이메일도 건너뜁니다.
+ * 2. 시간순 ID를 붙여 INSERT 배치 하나로 저장합니다 (rewriteBatchedStatements로 multi-row INSERT).
+ *    ID가 오름차순이므로 클러스터드 인덱스 끝에 순서대로 추가됩니다.
+ * 3. 그 사이 다른 트랜잭션이 같은 이메일로 가입했다면 ON DUPLICATE KEY로 해당 행만 무시되므로
+ *    배치 전체가 실패하지 않습니다. 재작성된 배치는 행별 결과를 돌려주지 않으므로(SUCCESS_NO_INFO)
+ *    ID IN 조회 한 번으로 (id, email)을 읽어 실제 저장된 행을 확인합니다.
+ *    - 같은 ID에 같은 이메일: 저장됨
+ *    - 해당 ID 행 없음: 이메일 중복으로 무시됨
+ *    - 같은 ID에 다른 이메일: ON DUPLICATE KEY가 기본 키 충돌까지 삼킨 경우이므로
+ *      (노드 ID 중복 설정 등) DuplicateKeyException으로 트랜잭션 전체를 롤백합니다.
+ *
+ * 트랜잭션은 호출자(UserAdapter.insertAll)가 관리합니다.
+ */
+@Component
+public class JdbcUserBulkInserter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO users (id, email, password, name, phone_number, role, status, created_at, updated_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)"
+                    + " ON DUPLICATE KEY UPDATE id = id";
+    private static final String SELECT_EMAILS_SQL = "SELECT email FROM users WHERE email IN (%s)";
+    private static final String SELECT_BY_IDS_SQL = "SELECT id, email FROM users WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final LongSupplier idSource;
+
+    @Autowired
+    public JdbcUserBulkInserter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${user.bulk-insert.batch-size:1000}") int batchSize
+    ) {
+        this(jdbcTemplate, batchSize, () -> TimeOrderedIdGenerator.shared().nextId());
+    }
+
+    JdbcUserBulkInserter(JdbcTemplate jdbcTemplate, int batchSize, LongSupplier idSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.idSource = idSource;
+    }
+
+    public UserBulkInsertResult insertAll(List<User> users) {
+        List<User> inserted = new ArrayList<>(users.size());
+        List<String> duplicateEmails = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+
+        for (int from = 0; from < users.size(); from += batchSize) {
+            List<User> chunk = users.subList(from, Math.min(from + batchSize, users.size()));
+            Set<String> existing = findExistingEmails(chunk);
+
+            List<User> candidates = new ArrayList<>(chunk.size());
+            for (User user : chunk) {
+                String key = normalize(user.getEmail());
+                if (existing.contains(key) || !seen.add(key)) {
+                    duplicateEmails.add(user.getEmail());
+                } else {
+                    candidates.add(withId(user, idSource.getAsLong()));
+                }
+            }
+            if (candidates.isEmpty()) {
+                continue;
+            }
+
+            jdbcTemplate.batchUpdate(INSERT_SQL, candidates, candidates.size(), (ps, user) -> {
+                ps.setLong(1, user.getId());
+                ps.setString(2, user.getEmail());
+                ps.setString(3, user.getPassword());
+                ps.setString(4, user.getName());
+                ps.setString(5, user.getPhoneNumber());
+                ps.setString(6, user.getRole().name());
+                ps.setString(7, user.getStatus().name());
+                ps.setTimestamp(8, Timestamp.valueOf(user.getCreatedAt()));
+                ps.setTimestamp(9, Timestamp.valueOf(user.getUpdatedAt()));
+            });
+
+            Map<Long, String> persisted = findEmailsById(candidates);
+            for (User candidate : candidates) {
+                String email = persisted.get(candidate.getId());
+                if (email == null) {
+                    duplicateEmails.add(candidate.getEmail());
+                } else if (email.equals(normalize(candidate.getEmail()))) {
+                    inserted.add(candidate);
+                } else {
+                    throw new DuplicateKeyException("users.id 충돌 (노드 ID 중복 설정 확인 필요): " + candidate.getId());
+                }
+            }
+        }
+        return new UserBulkInsertResult(inserted, duplicateEmails);
+    }
+
+    private Set<String> findExistingEmails(List<User> chunk) {
+        List<String> emails = chunk.stream().map(User::getEmail).toList();
+        Set<String> existing = new HashSet<>();
+        jdbcTemplate.query(String.format(SELECT_EMAILS_SQL, placeholders(emails.size())),
+                rs -> {
+                    existing.add(normalize(rs.getString(1)));
+                },
+                emails.toArray());
+        return existing;
+    }
+
+    private Map<Long, String> findEmailsById(List<User> candidates) {
+        Object[] ids = candidates.stream().map(User::getId).toArray();
+        Map<Long, String> emails = new HashMap<>();
+        jdbcTemplate.query(String.format(SELECT_BY_IDS_SQL, placeholders(ids.length)),
+                rs -> {
+                    emails.put(rs.getLong(1), normalize(rs.getString(2)));
+                },
+                ids);
+        return emails;
+    }
+
+    private static User withId(User user, long id) {
+        return User.reconstitute(id, user.getEmail(), user.getPassword(), user.getName(),
+                user.getPhoneNumber(), user.getRole(), user.getStatus(),
+                user.getCreatedAt(), user.getUpdatedAt());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    private static String normalize(String email) {
+        // users.email은 대소문자를 구분하지 않는 PAD SPACE collation
+        return email.stripTrailing().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,7 +1,16 @@
 package com.lookmarket.infrastructure.user;
 
+import com.lookmarket.domain.user.UserCredentials;
+import com.lookmarket.domain.user.UserStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,6 +29,46 @@ public interface JpaUserRepository extends JpaRepository<UserEntity, Long> {
      */
     Optional<UserEntity> findByEmail(String email);
 
+    /**
+     * 이메일로 인증 정보만 조회
+     *
+     * 생성자 표현식(DTO 투영)이므로 결과가 영속성 컨텍스트에 등록되지 않고 Dirty Checking 대상도 아닙니다.
+     * email 유니크 인덱스로 한 행만 읽습니다.
+     *
+     * @param email 사용자 이메일
+     * @return 인증 정보 (Optional)
+     */
+    @Query("select new com.lookmarket.domain.user.UserCredentials(u.id, u.email, u.password, u.role, u.status) "
+            + "from UserEntity u where u.email = :email")
+    Optional<UserCredentials> findCredentialsByEmail(@Param("email") String email);
+
+    /**
+     * ID 순 이메일 페이지 조회 (가입 이메일 필터 구성용, 키셋 페이지네이션)
+     *
+     * 드라이버별 스트리밍 설정 없이 메모리 사용량을 페이지 크기로 제한합니다.
+     *
+     * @param afterId 이전 페이지의 마지막 ID (첫 페이지는 0)
+     * @param page 페이지 크기 (offset은 사용하지 않음)
+     */
+    @Query("select new com.lookmarket.infrastructure.user.UserEmail(u.id, u.email) from UserEntity u "
+            + "where u.id > :afterId order by u.id")
+    List<UserEmail> findEmailsAfter(@Param("afterId") Long afterId, Pageable page);
+
+    /**
+     * 지정 시각 이후 생성/수정된 사용자의 이메일 페이지 조회 (가입 이메일 필터 동기화용)
+     *
+     * @param since 기준 시각 (이상)
+     * @param afterId 이전 페이지의 마지막 ID (첫 페이지는 0)
+     * @param page 페이지 크기 (offset은 사용하지 않음)
+     */
+    @Query("select new com.lookmarket.infrastructure.user.UserEmail(u.id, u.email) from UserEntity u "
+            + "where u.updatedAt >= :since and u.id > :afterId order by u.id")
+    List<UserEmail> findEmailsUpdatedSince(
+            @Param("since") LocalDateTime since,
+            @Param("afterId") Long afterId,
+            Pageable page
+    );
+
     /**
      * 이메일 존재 여부 확인
      *
@@ -27,4 +76,37 @@ public interface JpaUserRepository extends JpaRepository<UserEntity, Long> {
      * @return 존재 여부
      */
     boolean existsByEmail(String email);
+
+    /**
+     * 출발 상태가 허용 목록에 있을 때만 상태 변경 (조건부 UPDATE 한 번)
+     *
+     * 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로 updated_at을 직접 지정하고,
+     * 이후 조회가 이전 엔티티를 보지 않도록 영속성 컨텍스트를 비웁니다.
+     *
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update UserEntity u set u.status = :status, u.updatedAt = :updatedAt "
+            + "where u.id = :id and u.status in :sources")
+    int updateStatus(
+            @Param("id") Long id,
+            @Param("status") UserStatus status,
+            @Param("sources") Collection<UserStatus> sources,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    /**
+     * 저장된 해시가 기대값과 같을 때만 비밀번호 변경 (조건부 UPDATE 한 번)
+     *
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update UserEntity u set u.password = :password, u.updatedAt = :updatedAt "
+            + "where u.id = :id and u.password = :expected")
+    int updatePassword(
+            @Param("id") Long id,
+            @Param("expected") String expectedPassword,
+            @Param("password") String password,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
 }
@@ -0,0 +1,64 @@
+package com.lookmarket.infrastructure.user;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * RegisteredEmailFeed Redis 구현체 (다중 인스턴스용)
+ *
+ * auth:registered-emails 채널에 이메일을 줄바꿈으로 이어 발행합니다 (메시지당 최대 1000개).
+ * 구독이 끊긴 동안 발행된 이메일은 받지 못하며, 주기 동기화(sync-interval)에서 반영됩니다.
+ *
+ * 설정: auth.email-filter.feed=redis
+ */
+@Component
+@ConditionalOnProperty(name = "auth.email-filter.feed", havingValue = "redis")
+public class RedisRegisteredEmailFeed implements RegisteredEmailFeed, DisposableBean {
+
+    private static final String CHANNEL = "auth:registered-emails";
+    private static final int MAX_EMAILS_PER_MESSAGE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisRegisteredEmailFeed(StringRedisTemplate redisTemplate, RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.afterPropertiesSet();
+    }
+
+    @Override
+    public void publish(Collection<String> emails) {
+        List<String> list = List.copyOf(emails);
+        for (int from = 0; from < list.size(); from += MAX_EMAILS_PER_MESSAGE) {
+            List<String> chunk = list.subList(from, Math.min(from + MAX_EMAILS_PER_MESSAGE, list.size()));
+            redisTemplate.convertAndSend(CHANNEL, String.join("\n", chunk));
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<String>> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> listener.accept(
+                new String(message.getBody(), StandardCharsets.UTF_8).lines().toList()
+        ), new ChannelTopic(CHANNEL));
+        if (!listenerContainer.isRunning()) {
+            listenerContainer.start();
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+}
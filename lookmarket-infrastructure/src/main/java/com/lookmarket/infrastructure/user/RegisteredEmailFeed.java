@@ -0,0 +1,24 @@
+package com.lookmarket.infrastructure.user;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 가입 이메일 변경 피드 (인스턴스 간 가입 이메일 필터 전파)
+ *
+ * 한 인스턴스에서 저장한 이메일을 다른 인스턴스의 RegisteredEmailFilter에 바로 알려,
+ * 주기 동기화(sync-interval)를 기다리는 동안 "확실히 없음"으로 잘못 판정하지 않게 합니다.
+ */
+public interface RegisteredEmailFeed {
+
+    /**
+     * 저장된 이메일 발행
+     */
+    void publish(Collection<String> emails);
+
+    /**
+     * 다른 인스턴스가 발행한 이메일 구독
+     */
+    void subscribe(Consumer<List<String>> listener);
+}
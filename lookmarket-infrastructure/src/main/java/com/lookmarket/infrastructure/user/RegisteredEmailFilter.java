@@ -0,0 +1,322 @@
+package com.lookmarket.infrastructure.user;
+
+import com.lookmarket.common.bloom.ScalableBloomFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 가입된 이메일의 Bloom Filter
+ *
+ * 가입/이메일 변경 시 중복 확인, 로그인 시 사용자 조회는 대부분 가입된 적 없는 이메일에 대한 것입니다
+ * (신규 가입, 크리덴셜 스터핑). mightExist()가 false면 이메일이 확실히 없으므로 DB를 조회하지 않아도 됩니다.
+ *
+ * - 기동 후 users 테이블의 이메일을 ID 순 페이지로 읽어 채웁니다. 스냅샷 파일이 있으면 복원한 뒤
+ *   스냅샷 시점 이후 변경된 행만 읽습니다. 채우기 전에는 모든 이메일을 "있을 수도 있음"으로 판정합니다.
+ * - 저장된 이메일은 save 시점(커밋 전)에 이 인스턴스의 필터에 반영하고 RegisteredEmailFeed로 다른 인스턴스에 발행합니다.
+ *   커밋 전에 발행하므로 커밋된 가입을 다른 인스턴스가 "확실히 없음"으로 판정하는 구간이 없습니다
+ *   (롤백되면 오탐으로 남을 뿐입니다). 발행에 실패했거나 구독이 끊긴 동안의 가입은
+ *   sync-interval마다 updated_at 기준으로 가져옵니다.
+ * - 피드가 memory(기본값)이면 다른 인스턴스로 전파하지 않으므로 단일 인스턴스에서만 사용해야 합니다.
+ * - Bloom Filter는 삭제를 지원하지 않으므로 변경 전 이메일은 오탐으로 남습니다 (DB 조회로 처리).
+ * - 키는 소문자로 정규화합니다 (users.email은 대소문자를 구분하지 않는 collation).
+ *   비 ASCII 문자가 포함된 이메일은 collation 규칙을 그대로 따를 수 없으므로 필터를 거치지 않습니다.
+ *
+ * 설정: auth.email-filter.enabled=false이면 항상 "있을 수도 있음"을 반환합니다.
+ */
+@Component
+public class RegisteredEmailFilter implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(RegisteredEmailFilter.class);
+
+    /**
+     * 애플리케이션 서버 간 시계 오차와 DATETIME 초 단위 절삭을 흡수하기 위한 재조회 여유
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(5);
+
+    static final int PAGE_SIZE = 10_000;
+
+    private final JpaUserRepository jpaUserRepository;
+    private final RegisteredEmailFeed feed;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final Path snapshotPath;
+    private final Clock clock;
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    /**
+     * 구성 중에 다른 인스턴스가 발행한 이메일 (구성이 끝나면 반영)
+     */
+    private final Queue<String> pendingPublished = new ConcurrentLinkedQueue<>();
+
+    private volatile ScalableBloomFilter filter;
+    private volatile LocalDateTime syncedFrom;
+
+    @Autowired
+    public RegisteredEmailFilter(
+            JpaUserRepository jpaUserRepository,
+            RegisteredEmailFeed feed,
+            PlatformTransactionManager transactionManager,
+            @Value("${auth.email-filter.enabled:true}") boolean enabled,
+            @Value("${auth.email-filter.expected-insertions:100000}") long expectedInsertions,
+            @Value("${auth.email-filter.false-positive-probability:0.001}") double falsePositiveProbability,
+            @Value("${auth.email-filter.snapshot-path:}") String snapshotPath
+    ) {
+        this(jpaUserRepository, feed, transactionManager, enabled, expectedInsertions, falsePositiveProbability,
+                snapshotPath, Clock.systemDefaultZone());
+    }
+
+    RegisteredEmailFilter(
+            JpaUserRepository jpaUserRepository,
+            RegisteredEmailFeed feed,
+            PlatformTransactionManager transactionManager,
+            boolean enabled,
+            long expectedInsertions,
+            double falsePositiveProbability,
+            String snapshotPath,
+            Clock clock
+    ) {
+        this.jpaUserRepository = jpaUserRepository;
+        this.feed = feed;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.snapshotPath = snapshotPath == null || snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+        this.clock = clock;
+    }
+
+    /**
+     * 이메일이 가입되어 있을 수 있는지 확인
+     *
+     * @return false면 확실히 없음, true면 DB 확인 필요
+     */
+    public boolean mightExist(String email) {
+        ScalableBloomFilter current = filter;
+        if (current == null || email == null || !isAscii(email)) {
+            return true;
+        }
+        return current.mightContain(normalize(email));
+    }
+
+    /**
+     * 저장된 이메일 반영 및 다른 인스턴스에 발행
+     */
+    public void add(String email) {
+        if (email != null) {
+            addAll(List.of(email));
+        }
+    }
+
+    /**
+     * 저장된 이메일 여러 개 반영 및 다른 인스턴스에 발행
+     *
+     * 발행에 실패해도 저장은 막지 않습니다 (다른 인스턴스는 주기 동기화에서 반영).
+     */
+    public void addAll(Collection<String> emails) {
+        if (!enabled || emails.isEmpty()) {
+            return;
+        }
+        ScalableBloomFilter current = filter;
+        if (current != null) {
+            emails.forEach(email -> current.put(normalize(email)));
+        }
+        try {
+            feed.publish(emails);
+        } catch (RuntimeException e) {
+            log.warn("가입 이메일 발행 실패: {}건 (다른 인스턴스는 다음 동기화에서 반영)", emails.size(), e);
+        }
+    }
+
+    /**
+     * 기동 후 백그라운드에서 필터 구성 (기동을 막지 않음)
+     *
+     * 구성 중에 발행된 이메일을 놓치지 않도록 피드를 먼저 구독합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (enabled) {
+            feed.subscribe(this::onPublished);
+            Thread.ofVirtual().name("registered-email-filter").start(this::sync);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 이메일 반영 (구성 전이면 구성이 끝난 뒤 반영)
+     */
+    void onPublished(List<String> emails) {
+        ScalableBloomFilter current = filter;
+        if (current != null) {
+            emails.forEach(email -> current.put(normalize(email)));
+            return;
+        }
+        pendingPublished.addAll(emails);
+        // 그 사이 구성이 끝났다면 build()가 대기열을 이미 비웠을 수 있으므로 직접 반영
+        ScalableBloomFilter built = filter;
+        if (built != null) {
+            drainPending(built);
+        }
+    }
+
+    private void drainPending(ScalableBloomFilter target) {
+        String email;
+        while ((email = pendingPublished.poll()) != null) {
+            target.put(normalize(email));
+        }
+    }
+
+    /**
+     * 마지막 동기화 이후 변경된 이메일 반영 (아직 구성되지 않았으면 전체 구성)
+     */
+    @Scheduled(fixedDelayString = "${auth.email-filter.sync-interval:30000}")
+    public void sync() {
+        if (!enabled || !syncLock.tryLock()) {
+            return;
+        }
+        try {
+            if (filter == null) {
+                build();
+            } else {
+                LocalDateTime startedAt = LocalDateTime.now(clock);
+                long added = load(filter, syncedFrom);
+                syncedFrom = startedAt.minus(SYNC_OVERLAP);
+                if (added > 0) {
+                    log.debug("가입 이메일 필터 동기화: {}건", added);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("가입 이메일 필터 동기화 실패 (다음 주기에 재시도)", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void build() {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        Snapshot snapshot = readSnapshot();
+        ScalableBloomFilter building = snapshot != null
+                ? snapshot.filter()
+                : new ScalableBloomFilter(expectedInsertions, falsePositiveProbability);
+        long loaded = load(building, snapshot != null ? snapshot.syncedFrom() : null);
+
+        syncedFrom = startedAt.minus(SYNC_OVERLAP);
+        filter = building;
+        drainPending(building);
+        log.info("가입 이메일 필터 구성 완료: snapshot={}, loaded={}, size={}",
+                snapshot != null, loaded, building.size());
+        writeSnapshot();
+    }
+
+    /**
+     * ID 순 페이지로 읽어 반영 (페이지마다 짧은 읽기 트랜잭션)
+     */
+    private long load(ScalableBloomFilter target, LocalDateTime since) {
+        Pageable page = PageRequest.ofSize(PAGE_SIZE);
+        long loaded = 0;
+        long afterId = 0;
+        List<UserEmail> emails;
+        do {
+            long from = afterId;
+            emails = transactionTemplate.execute(status -> since == null
+                    ? jpaUserRepository.findEmailsAfter(from, page)
+                    : jpaUserRepository.findEmailsUpdatedSince(since, from, page));
+            for (UserEmail email : emails) {
+                target.put(normalize(email.email()));
+                afterId = email.id();
+            }
+            loaded += emails.size();
+        } while (emails.size() == PAGE_SIZE);
+        return loaded;
+    }
+
+    private Snapshot readSnapshot() {
+        if (snapshotPath == null || !Files.isReadable(snapshotPath)) {
+            return null;
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(snapshotPath))) {
+            LocalDateTime syncedFrom = LocalDateTime.parse(new DataInputStream(in).readUTF());
+            return new Snapshot(ScalableBloomFilter.readFrom(in), syncedFrom);
+        } catch (IOException | RuntimeException e) {
+            log.warn("가입 이메일 필터 스냅샷을 읽지 못해 전체를 다시 구성합니다: {}", snapshotPath, e);
+            return null;
+        }
+    }
+
+    /**
+     * 스냅샷 저장 (임시 파일에 쓴 뒤 교체)
+     */
+    void writeSnapshot() {
+        ScalableBloomFilter current = filter;
+        if (snapshotPath == null || current == null) {
+            return;
+        }
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "email-filter", ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                DataOutputStream data = new DataOutputStream(out);
+                data.writeUTF(syncedFrom.toString());
+                current.writeTo(data);
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("가입 이메일 필터 스냅샷 저장 실패: {}", snapshotPath, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        writeSnapshot();
+    }
+
+    private static String normalize(String email) {
+        // PAD SPACE collation: 끝 공백은 비교에서 무시됨
+        return email.stripTrailing().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Snapshot(ScalableBloomFilter filter, LocalDateTime syncedFrom) {
+    }
+}
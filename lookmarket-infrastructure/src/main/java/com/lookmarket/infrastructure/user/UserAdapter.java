@@ -1,10 +1,21 @@
 package com.lookmarket.infrastructure.user;
 
 import com.lookmarket.domain.user.User;
+import com.lookmarket.domain.user.UserBulkInsertResult;
+import com.lookmarket.domain.user.UserCredentials;
 import com.lookmarket.domain.user.UserRepository;
+import com.lookmarket.domain.user.UserStatusTransition;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * UserRepository 구현체 (어댑터)
@@ -13,23 +24,87 @@ import java.util.Optional;
  * JpaUserRepository를 사용하여 실제 데이터베이스 작업을 수행합니다.
  *
  * Hexagonal Architecture의 Adapter 역할을 합니다.
+ *
+ * 이메일 기반 조회는 가입 이메일 필터가 "확실히 없음"으로 판정하면 DB를 조회하지 않습니다.
  */
 @Component
 public class UserAdapter implements UserRepository {
 
     private final JpaUserRepository jpaUserRepository;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final JdbcUserBulkInserter bulkInserter;
 
-    public UserAdapter(JpaUserRepository jpaUserRepository) {
+    public UserAdapter(JpaUserRepository jpaUserRepository, RegisteredEmailFilter registeredEmailFilter,
+                       JdbcUserBulkInserter bulkInserter) {
         this.jpaUserRepository = jpaUserRepository;
+        this.registeredEmailFilter = registeredEmailFilter;
+        this.bulkInserter = bulkInserter;
     }
 
+    /**
+     * 신규 사용자는 persist, 기존 사용자는 영속 엔티티에 변경분만 반영
+     *
+     * 같은 트랜잭션에서 이미 조회한 사용자라면 영속성 컨텍스트에서 꺼내므로 추가 SELECT가 없고,
+     * 커밋 시 Dirty Checking으로 바뀐 컬럼만 UPDATE 합니다 (merge로 인한 재조회/전체 컬럼 UPDATE 없음).
+     */
     @Override
+    @Transactional
     public User save(User user) {
-        UserEntity entity = UserEntity.fromDomain(user);
-        UserEntity saved = jpaUserRepository.save(entity);
+        UserEntity saved = user.getId() == null
+                ? jpaUserRepository.save(UserEntity.fromDomain(user))
+                : jpaUserRepository.findById(user.getId())
+                        .map(entity -> {
+                            entity.applyFrom(user);
+                            return entity;
+                        })
+                        .orElseGet(() -> jpaUserRepository.save(UserEntity.fromDomain(user)));
+        registeredEmailFilter.add(saved.getEmail());
         return saved.toDomain();
     }
 
+    /**
+     * 기존 사용자는 ID IN 조회 한 번으로 영속 엔티티를 가져와 변경분만 반영하고, 신규 사용자는 persist
+     *
+     * 커밋 시 INSERT/UPDATE는 hibernate.jdbc.batch_size 단위 JDBC 배치로 실행됩니다
+     * (order_inserts/order_updates로 같은 SQL끼리 묶음).
+     */
+    @Override
+    @Transactional
+    public List<User> saveAll(List<User> users) {
+        List<Long> ids = users.stream().map(User::getId).filter(Objects::nonNull).toList();
+        Map<Long, UserEntity> managed = ids.isEmpty()
+                ? Map.of()
+                : jpaUserRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+
+        List<UserEntity> entities = new ArrayList<>(users.size());
+        for (User user : users) {
+            UserEntity entity = user.getId() == null ? null : managed.get(user.getId());
+            if (entity == null) {
+                entity = jpaUserRepository.save(UserEntity.fromDomain(user));
+            } else {
+                entity.applyFrom(user);
+            }
+            entities.add(entity);
+        }
+
+        registeredEmailFilter.addAll(entities.stream().map(UserEntity::getEmail).toList());
+        return entities.stream()
+                .map(UserEntity::toDomain)
+                .toList();
+    }
+
+    /**
+     * JPA를 거치지 않고 JDBC 배치로 INSERT (중복 이메일은 건너뜀, JdbcUserBulkInserter 참고)
+     */
+    @Override
+    @Transactional
+    public UserBulkInsertResult insertAll(List<User> users) {
+        UserBulkInsertResult result = bulkInserter.insertAll(users);
+        registeredEmailFilter.addAll(result.inserted().stream().map(User::getEmail).toList());
+        return result;
+    }
+
     @Override
     public Optional<User> findById(Long id) {
         return jpaUserRepository.findById(id)
@@ -38,12 +113,48 @@ public class UserAdapter implements UserRepository {
 
     @Override
     public Optional<User> findByEmail(String email) {
+        if (!registeredEmailFilter.mightExist(email)) {
+            return Optional.empty();
+        }
         return jpaUserRepository.findByEmail(email)
                 .map(UserEntity::toDomain);
     }
 
+    @Override
+    public Optional<UserCredentials> findCredentialsByEmail(String email) {
+        if (!registeredEmailFilter.mightExist(email)) {
+            return Optional.empty();
+        }
+        return jpaUserRepository.findCredentialsByEmail(email);
+    }
+
+    /**
+     * MySQL에는 UPDATE ... RETURNING이 없으므로 UPDATE가 성공한 경우에만 PK로 한 번 읽어 반환합니다.
+     */
+    @Override
+    public Optional<User> transitionStatus(Long id, UserStatusTransition transition, LocalDateTime changedAt) {
+        int updated = jpaUserRepository.updateStatus(id, transition.target(), transition.sources(), changedAt);
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        return jpaUserRepository.findById(id)
+                .map(UserEntity::toDomain);
+    }
+
+    /**
+     * 호출자의 트랜잭션이 없으면 UPDATE 한 문장으로 커밋합니다.
+     */
+    @Override
+    @Transactional
+    public boolean replacePassword(Long id, String expectedPassword, String newPassword, LocalDateTime changedAt) {
+        return jpaUserRepository.updatePassword(id, expectedPassword, newPassword, changedAt) == 1;
+    }
+
     @Override
     public boolean existsByEmail(String email) {
+        if (!registeredEmailFilter.mightExist(email)) {
+            return false;
+        }
         return jpaUserRepository.existsByEmail(email);
     }
 
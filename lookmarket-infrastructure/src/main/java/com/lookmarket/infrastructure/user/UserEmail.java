@@ -0,0 +1,7 @@
+package com.lookmarket.infrastructure.user;
+
+/**
+ * 사용자 ID와 이메일 (가입 이메일 필터 구성용 투영)
+ */
+public record UserEmail(Long id, String email) {
+}
@@ -3,7 +3,9 @@ package com.lookmarket.infrastructure.user;
 import com.lookmarket.domain.user.User;
 import com.lookmarket.domain.user.UserRole;
 import com.lookmarket.domain.user.UserStatus;
+import com.lookmarket.infrastructure.persistence.TimeOrderedId;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
@@ -12,13 +14,17 @@ import java.time.LocalDateTime;
  *
  * Domain의 User 엔티티를 데이터베이스에 매핑하는 JPA 엔티티입니다.
  * Domain 레이어의 독립성을 유지하기 위해 별도로 관리됩니다.
+ *
+ * @DynamicUpdate: UPDATE 시 변경된 컬럼만 씁니다 (UserAdapter.save는 영속 엔티티에 변경분만 반영).
+ * @TimeOrderedId: ID를 애플리케이션에서 만들므로 배치 INSERT가 가능합니다 (V4 이전에 만든 사용자는 기존 ID 유지).
  */
 @Entity
+@DynamicUpdate
 @Table(name = "users")
 public class UserEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(nullable = false, unique = true, length = 255)
@@ -111,6 +117,23 @@ public class UserEntity {
         );
     }
 
+    /**
+     * Domain User의 변경 가능한 필드를 영속 엔티티에 반영
+     *
+     * 값이 같은 필드는 Dirty Checking 대상이 아니므로 실제로 바뀐 컬럼만 UPDATE 됩니다.
+     * (id, role, createdAt은 도메인에서 바뀌지 않음)
+     *
+     * @param user Domain User 엔티티
+     */
+    public void applyFrom(User user) {
+        this.email = user.getEmail();
+        this.password = user.getPassword();
+        this.name = user.getName();
+        this.phoneNumber = user.getPhoneNumber();
+        this.status = user.getStatus();
+        this.updatedAt = user.getUpdatedAt();
+    }
+
     /**
      * JPA Lifecycle 콜백: 엔티티 생성 전
      */
@@ -0,0 +1,4 @@
+-- V2__add_users_updated_at_index.sql
+-- 가입 이메일 필터 동기화 (updated_at 기준 증분 조회)용 인덱스
+
+CREATE INDEX idx_user_updated_at ON users (updated_at);
@@ -0,0 +1,25 @@
+-- V3__create_login_history_table.sql
+-- 마지막 로그인 시각 컬럼과 로그인 이력 테이블 (월 단위 파티션)
+
+ALTER TABLE users
+    ADD COLUMN last_login_at DATETIME NULL COMMENT '마지막 로그인 일시' AFTER status,
+    ADD INDEX idx_user_last_login_at (last_login_at);
+
+-- 파티션 테이블은 모든 유니크 키에 파티션 컬럼이 포함되어야 하고 외래 키를 가질 수 없음
+-- 다음 달 파티션 추가/보관 기간이 지난 파티션 삭제는 LoginHistoryPartitionManager가 담당
+CREATE TABLE login_history (
+    id BIGINT NOT NULL AUTO_INCREMENT COMMENT '이력 ID',
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    ip_address VARCHAR(45) COMMENT '클라이언트 IP (IPv6 포함)',
+    user_agent VARCHAR(255) COMMENT 'User-Agent',
+    logged_in_at DATETIME NOT NULL COMMENT '로그인 일시',
+
+    PRIMARY KEY (id, logged_in_at),
+    INDEX idx_login_history_user (user_id, logged_in_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='로그인 이력 (월 단위 파티션)'
+PARTITION BY RANGE COLUMNS (logged_in_at) (
+    PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+    PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
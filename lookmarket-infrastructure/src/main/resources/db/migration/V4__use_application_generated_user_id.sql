@@ -0,0 +1,6 @@
+-- V4__use_application_generated_user_id.sql
+-- 사용자 ID를 애플리케이션의 시간순 ID(TimeOrderedIdGenerator)로 생성 (JDBC 배치 INSERT 허용)
+-- 기존 사용자의 ID는 그대로 유지되며, 새 ID(2025-01-01 이후 밀리초 << 22)는 기존 AUTO_INCREMENT 값보다 항상 큽니다.
+
+ALTER TABLE users
+    MODIFY id BIGINT NOT NULL COMMENT '사용자 ID (PK, 애플리케이션 생성 시간순 ID)';
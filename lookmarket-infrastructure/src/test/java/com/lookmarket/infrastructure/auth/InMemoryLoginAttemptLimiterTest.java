@@ -0,0 +1,65 @@
+package com.lookmarket.infrastructure.auth;
+
+import com.lookmarket.domain.auth.LoginAttemptLimit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryLoginAttemptLimiter 단위 테스트")
+class InMemoryLoginAttemptLimiterTest {
+
+    private static final LoginAttemptLimit LIMIT = new LoginAttemptLimit(3, Duration.ofSeconds(10));
+
+    private AtomicLong now;
+    private InMemoryLoginAttemptLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(Duration.ofDays(1).toNanos());
+        limiter = new InMemoryLoginAttemptLimiter(100, now::get);
+    }
+
+    @Test
+    @DisplayName("용량만큼 연속으로 허용한 뒤 거부한다")
+    void tryAcquire_beyondCapacity_rejected() {
+        // when & then
+        assertThat(limiter.tryAcquire("email:a", LIMIT)).isTrue();
+        assertThat(limiter.tryAcquire("email:a", LIMIT)).isTrue();
+        assertThat(limiter.tryAcquire("email:a", LIMIT)).isTrue();
+        assertThat(limiter.tryAcquire("email:a", LIMIT)).isFalse();
+        assertThat(limiter.tryAcquire("email:b", LIMIT)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재충전 간격이 지나면 한 번 더 허용한다")
+    void tryAcquire_afterRefillInterval_admitted() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("email:a", LIMIT);
+        }
+
+        // when
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // then
+        assertThat(limiter.tryAcquire("email:a", LIMIT)).isTrue();
+        assertThat(limiter.tryAcquire("email:a", LIMIT)).isFalse();
+    }
+
+    @Test
+    @DisplayName("버킷 수는 최대 개수로 제한된다")
+    void buckets_bounded() {
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("ip:" + i, LIMIT);
+        }
+
+        // then
+        assertThat(limiter.size()).isLessThanOrEqualTo(100);
+    }
+}
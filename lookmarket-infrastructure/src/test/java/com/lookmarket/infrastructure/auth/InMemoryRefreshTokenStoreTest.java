@@ -0,0 +1,131 @@
+package com.lookmarket.infrastructure.auth;
+
+import com.lookmarket.domain.auth.RefreshTokenRotation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryRefreshTokenStore 단위 테스트")
+class InMemoryRefreshTokenStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private InMemoryRefreshTokenStore store;
+    private Instant expiresAt;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRefreshTokenStore(Clock.fixed(NOW, ZoneOffset.UTC));
+        expiresAt = NOW.plusSeconds(3600);
+    }
+
+    @Nested
+    @DisplayName("토큰 교체")
+    class Rotate {
+
+        @Test
+        @DisplayName("현재 토큰으로 교체하면 다음 토큰이 현재 토큰이 된다")
+        void rotate_currentToken_rotated() {
+            // given
+            store.create("family", "t1", expiresAt);
+
+            // when
+            RefreshTokenRotation first = store.rotate("family", "t1", "t2", expiresAt);
+            RefreshTokenRotation second = store.rotate("family", "t2", "t3", expiresAt);
+
+            // then
+            assertThat(first).isEqualTo(RefreshTokenRotation.ROTATED);
+            assertThat(second).isEqualTo(RefreshTokenRotation.ROTATED);
+        }
+
+        @Test
+        @DisplayName("이미 소비된 토큰을 다시 제출하면 패밀리 전체가 폐기된다")
+        void rotate_reusedToken_revokesFamily() {
+            // given
+            store.create("family", "t1", expiresAt);
+            store.rotate("family", "t1", "t2", expiresAt);
+
+            // when: 탈취된 t1 재사용
+            RefreshTokenRotation reuse = store.rotate("family", "t1", "t-attacker", expiresAt);
+
+            // then: 정상 사용자의 t2도 더 이상 사용할 수 없음
+            assertThat(reuse).isEqualTo(RefreshTokenRotation.REUSED);
+            assertThat(store.rotate("family", "t2", "t3", expiresAt)).isEqualTo(RefreshTokenRotation.NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("등록되지 않았거나 폐기된 패밀리는 NOT_FOUND를 반환한다")
+        void rotate_unknownOrRevoked_notFound() {
+            store.create("family", "t1", expiresAt);
+            store.revoke("family");
+
+            assertThat(store.rotate("family", "t1", "t2", expiresAt)).isEqualTo(RefreshTokenRotation.NOT_FOUND);
+            assertThat(store.rotate("unknown", "t1", "t2", expiresAt)).isEqualTo(RefreshTokenRotation.NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("만료된 패밀리는 NOT_FOUND를 반환하고 정리된다")
+        void rotate_expiredFamily_notFound() {
+            // given
+            store.create("expired", "t1", NOW);
+            store.create("alive", "t1", expiresAt);
+
+            // when
+            RefreshTokenRotation result = store.rotate("expired", "t1", "t2", expiresAt);
+            store.purgeExpired();
+
+            // then
+            assertThat(result).isEqualTo(RefreshTokenRotation.NOT_FOUND);
+            assertThat(store.size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("동시성")
+    class Concurrency {
+
+        @Test
+        @DisplayName("같은 토큰으로 동시에 교체하면 하나만 성공한다")
+        void rotate_concurrentSameToken_onlyOneWins() throws Exception {
+            // given
+            store.create("family", "t1", expiresAt);
+            int threads = 100;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<RefreshTokenRotation>> results = new ArrayList<>();
+
+            // when
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < threads; i++) {
+                    String next = "next-" + i;
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return store.rotate("family", "t1", next, expiresAt);
+                    }));
+                }
+                start.countDown();
+            }
+
+            // then
+            long rotated = 0;
+            for (Future<RefreshTokenRotation> result : results) {
+                if (result.get() == RefreshTokenRotation.ROTATED) {
+                    rotated++;
+                }
+            }
+            assertThat(rotated).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.lookmarket.infrastructure.auth;
+
+import com.lookmarket.domain.auth.TokenRevocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryTokenRevocationStore 단위 테스트")
+class InMemoryTokenRevocationStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    @Test
+    @DisplayName("폐기하면 구독자에게 전달되고 조회할 수 있다")
+    void revoke_notifiesSubscribersAndIsFound() {
+        // given
+        InMemoryTokenRevocationStore store = new InMemoryTokenRevocationStore(RETENTION, Clock.fixed(NOW, ZoneOffset.UTC));
+        List<TokenRevocation> received = new ArrayList<>();
+        store.subscribe(received::add);
+        TokenRevocation revocation = new TokenRevocation(1L, NOW);
+
+        // when
+        store.revoke(revocation);
+
+        // then
+        assertThat(received).containsExactly(revocation);
+        assertThat(store.findByUserId(1L)).contains(revocation);
+        assertThat(store.findRevokedUserIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Access Token 유효 시간이 지난 폐기 정보는 조회되지 않는다")
+    void revoke_afterRetention_notFound() {
+        // given
+        InMemoryTokenRevocationStore store = new InMemoryTokenRevocationStore(
+                RETENTION, Clock.fixed(NOW.plus(RETENTION), ZoneOffset.UTC));
+
+        // when
+        store.revoke(new TokenRevocation(1L, NOW));
+
+        // then
+        assertThat(store.findByUserId(1L)).isEmpty();
+        assertThat(store.findRevokedUserIds()).isEmpty();
+    }
+}
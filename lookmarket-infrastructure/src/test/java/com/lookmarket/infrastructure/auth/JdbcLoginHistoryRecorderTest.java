@@ -0,0 +1,120 @@
+package com.lookmarket.infrastructure.auth;
+
+import com.lookmarket.domain.auth.LoginEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+
+@DisplayName("JdbcLoginHistoryRecorder 단위 테스트")
+class JdbcLoginHistoryRecorderTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 16, 12, 0);
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private JdbcLoginHistoryRecorder recorder;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (recorder != null) {
+            recorder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("배치 하나를 이력 INSERT와 사용자별 최신 last_login_at UPDATE로 저장한다")
+    @SuppressWarnings("unchecked")
+    void flush_batchesInsertsAndCollapsesUpdates() {
+        // given
+        recorder = newRecorder(true, 10);
+        List<LoginEvent> batch = List.of(
+                new LoginEvent(1L, "10.0.0.1", "agent", NOW),
+                new LoginEvent(1L, "10.0.0.1", "agent", NOW.plusMinutes(1)),
+                new LoginEvent(2L, "10.0.0.2", "x".repeat(300), NOW)
+        );
+
+        // when
+        recorder.flush(batch);
+
+        // then
+        ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should().batchUpdate(contains("INSERT INTO login_history"), inserts.capture());
+        assertThat(inserts.getValue()).hasSize(3);
+        assertThat((String) inserts.getValue().get(2)[2]).hasSize(255);
+
+        ArgumentCaptor<List<Object[]>> updates = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should().batchUpdate(contains("UPDATE users SET last_login_at"), updates.capture());
+        assertThat(updates.getValue())
+                .extracting(row -> row[1], row -> row[0])
+                .containsExactlyInAnyOrder(
+                        tuple(1L, Timestamp.valueOf(NOW.plusMinutes(1))),
+                        tuple(2L, Timestamp.valueOf(NOW)));
+    }
+
+    @Test
+    @DisplayName("기록 요청은 백그라운드 스레드가 저장한다")
+    void record_writtenInBackground() {
+        // given
+        recorder = newRecorder(true, 10);
+        recorder.afterPropertiesSet();
+
+        // when
+        recorder.record(new LoginEvent(1L, "10.0.0.1", null, NOW));
+
+        // then
+        then(jdbcTemplate).should(timeout(5000)).batchUpdate(contains("INSERT INTO login_history"), anyList());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 이력을 버리고 건수를 노출한다")
+    void queueFull_dropped() {
+        // given (writer 미기동)
+        recorder = newRecorder(true, 1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        recorder.bindTo(registry);
+
+        // when
+        recorder.record(new LoginEvent(1L, "10.0.0.1", null, NOW));
+        recorder.record(new LoginEvent(2L, "10.0.0.2", null, NOW));
+
+        // then
+        assertThat(registry.get("login.history.queue.size").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("login.history.events").tag("result", "dropped").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 기록하지 않는다")
+    void disabled() {
+        // given
+        recorder = newRecorder(false, 10);
+        recorder.afterPropertiesSet();
+
+        // when
+        recorder.record(new LoginEvent(1L, "10.0.0.1", null, NOW));
+
+        // then
+        then(jdbcTemplate).should(never()).batchUpdate(contains("INSERT"), anyList());
+    }
+
+    private JdbcLoginHistoryRecorder newRecorder(boolean enabled, int queueCapacity) {
+        return new JdbcLoginHistoryRecorder(jdbcTemplate, mock(PlatformTransactionManager.class),
+                enabled, queueCapacity, 500);
+    }
+}
@@ -0,0 +1,58 @@
+package com.lookmarket.infrastructure.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("LoginHistoryPartitionManager 단위 테스트")
+class LoginHistoryPartitionManagerTest {
+
+    private final LoginHistoryPartitionManager manager =
+            new LoginHistoryPartitionManager(mock(JdbcTemplate.class), 2, 12, null);
+
+    @Test
+    @DisplayName("없는 다음 달 파티션을 p_future 분할로 순서대로 추가한다")
+    void addsMissingFuturePartitions() {
+        // when
+        List<String> statements = manager.plan(
+                Set.of("p202610", "p202611", "p_future"), YearMonth.of(2026, 11));
+
+        // then
+        assertThat(statements).containsExactly(
+                "ALTER TABLE login_history REORGANIZE PARTITION p_future INTO ("
+                        + "PARTITION p202612 VALUES LESS THAN ('2027-01-01'), "
+                        + "PARTITION p_future VALUES LESS THAN (MAXVALUE))",
+                "ALTER TABLE login_history REORGANIZE PARTITION p_future INTO ("
+                        + "PARTITION p202701 VALUES LESS THAN ('2027-02-01'), "
+                        + "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 파티션을 삭제한다")
+    void dropsExpiredPartitions() {
+        // when
+        List<String> statements = manager.plan(
+                Set.of("p202509", "p202510", "p202610", "p202611", "p202612", "p_future"), YearMonth.of(2026, 10));
+
+        // then
+        assertThat(statements).containsExactly("ALTER TABLE login_history DROP PARTITION p202509");
+    }
+
+    @Test
+    @DisplayName("필요한 파티션이 모두 있으면 아무것도 하지 않는다")
+    void upToDate_noop() {
+        // when
+        List<String> statements = manager.plan(
+                Set.of("p202610", "p202611", "p202612", "p_future"), YearMonth.of(2026, 10));
+
+        // then
+        assertThat(statements).isEmpty();
+    }
+}
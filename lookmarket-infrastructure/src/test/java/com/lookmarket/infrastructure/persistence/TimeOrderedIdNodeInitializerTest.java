@@ -0,0 +1,56 @@
+package com.lookmarket.infrastructure.persistence;
+
+import com.lookmarket.common.id.TimeOrderedIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TimeOrderedIdNodeInitializer 단위 테스트")
+class TimeOrderedIdNodeInitializerTest {
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 ID는 기동 시 거부한다")
+    void outOfRange_failsFast() {
+        // when & then
+        assertThatThrownBy(() -> new TimeOrderedIdNodeInitializer("1024", environment("prod")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("운영 프로파일에서 노드 ID가 없으면 기동을 중단한다")
+    void missing_outsideDevProfiles_failsFast() {
+        // when & then
+        assertThatThrownBy(() -> new TimeOrderedIdNodeInitializer("", environment("prod")))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new TimeOrderedIdNodeInitializer("", environment()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("local/dev/test 프로파일에서는 노드 ID가 없어도 무작위 노드 ID로 기동한다")
+    void missing_inDevProfiles_usesRandomNode() {
+        // when & then
+        assertThatCode(() -> new TimeOrderedIdNodeInitializer("", environment("local")))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("이미 발급 중인 공유 생성기와 같은 노드 ID면 그대로 사용한다")
+    void sameNode_accepted() {
+        // given
+        String node = String.valueOf(TimeOrderedIdGenerator.shared().node());
+
+        // when & then
+        assertThatCode(() -> new TimeOrderedIdNodeInitializer(node, environment("prod")))
+                .doesNotThrowAnyException();
+    }
+
+    private static MockEnvironment environment(String... profiles) {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles(profiles);
+        return environment;
+    }
+}
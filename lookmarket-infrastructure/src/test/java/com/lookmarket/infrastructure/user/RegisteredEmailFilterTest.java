@@ -0,0 +1,209 @@
+package com.lookmarket.infrastructure.user;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@DisplayName("RegisteredEmailFilter 단위 테스트")
+class RegisteredEmailFilterTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    Path tempDir;
+
+    private JpaUserRepository jpaUserRepository;
+    private RegisteredEmailFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        jpaUserRepository = mock(JpaUserRepository.class);
+        feed = mock(RegisteredEmailFeed.class);
+    }
+
+    @Test
+    @DisplayName("구성 전에는 모든 이메일을 있을 수도 있음으로 판정한다")
+    void beforeBuild_passesThrough() {
+        // given
+        RegisteredEmailFilter filter = newFilter(true, null);
+
+        // when & then
+        assertThat(filter.mightExist("unknown@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("구성 후 가입되지 않은 이메일은 확실히 없음으로 판정한다")
+    void afterBuild_definiteMiss() {
+        // given
+        givenAllEmails("User@Example.com");
+        RegisteredEmailFilter filter = newFilter(true, null);
+
+        // when
+        filter.sync();
+
+        // then
+        assertThat(filter.mightExist("user@example.com")).isTrue();
+        assertThat(filter.mightExist("USER@EXAMPLE.COM ")).isTrue();
+        assertThat(filter.mightExist("unknown@example.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장된 이메일과 이후 동기화된 이메일을 반영한다")
+    void addAndSync() {
+        // given
+        givenAllEmails();
+        given(jpaUserRepository.findEmailsUpdatedSince(any(), anyLong(), any()))
+                .willReturn(List.of(new UserEmail(2L, "remote@example.com")));
+        RegisteredEmailFilter filter = newFilter(true, null);
+        filter.sync();
+
+        // when
+        filter.add("local@example.com");
+        filter.sync();
+
+        // then
+        assertThat(filter.mightExist("local@example.com")).isTrue();
+        assertThat(filter.mightExist("remote@example.com")).isTrue();
+        then(jpaUserRepository).should()
+                .findEmailsUpdatedSince(eq(LocalDateTime.of(2025, 12, 31, 23, 55)), eq(0L), any());
+    }
+
+    @Test
+    @DisplayName("저장한 이메일은 다른 인스턴스에 발행하고, 발행에 실패해도 저장을 막지 않는다")
+    void add_publishes() {
+        // given
+        givenAllEmails();
+        RegisteredEmailFilter filter = newFilter(true, null);
+        filter.sync();
+        willThrow(new IllegalStateException("redis down")).given(feed).publish(List.of("second@example.com"));
+
+        // when
+        filter.add("first@example.com");
+        filter.add("second@example.com");
+
+        // then
+        then(feed).should().publish(List.of("first@example.com"));
+        assertThat(filter.mightExist("second@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 발행한 이메일을 반영하고, 구성 중에 받은 이메일은 구성이 끝난 뒤 반영한다")
+    void published_appliedAfterBuild() {
+        // given
+        givenAllEmails();
+        RegisteredEmailFilter filter = newFilter(true, null);
+
+        // when
+        filter.onPublished(List.of("during-build@example.com"));
+        filter.sync();
+        filter.onPublished(List.of("after-build@example.com"));
+
+        // then
+        assertThat(filter.mightExist("during-build@example.com")).isTrue();
+        assertThat(filter.mightExist("after-build@example.com")).isTrue();
+        assertThat(filter.mightExist("unknown@example.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("페이지가 가득 차면 마지막 ID 다음부터 이어서 읽는다")
+    void build_readsPagesByKeyset() {
+        // given
+        List<UserEmail> firstPage = LongStream.rangeClosed(1, RegisteredEmailFilter.PAGE_SIZE)
+                .mapToObj(id -> new UserEmail(id, "user" + id + "@example.com"))
+                .toList();
+        given(jpaUserRepository.findEmailsAfter(eq(0L), any())).willReturn(firstPage);
+        given(jpaUserRepository.findEmailsAfter(eq((long) RegisteredEmailFilter.PAGE_SIZE), any()))
+                .willReturn(List.of(new UserEmail(RegisteredEmailFilter.PAGE_SIZE + 1L, "last@example.com")));
+        RegisteredEmailFilter filter = newFilter(true, null);
+
+        // when
+        filter.sync();
+
+        // then
+        assertThat(filter.mightExist("user1@example.com")).isTrue();
+        assertThat(filter.mightExist("last@example.com")).isTrue();
+        then(jpaUserRepository).should().findEmailsAfter(eq((long) RegisteredEmailFilter.PAGE_SIZE), any());
+    }
+
+    @Test
+    @DisplayName("비 ASCII 이메일은 필터를 거치지 않는다")
+    void nonAscii_passesThrough() {
+        // given
+        givenAllEmails();
+        RegisteredEmailFilter filter = newFilter(true, null);
+        filter.sync();
+
+        // when & then
+        assertThat(filter.mightExist("홍길동@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("스냅샷이 있으면 복원한 뒤 스냅샷 이후 변경분만 조회한다")
+    void snapshot_restoresAndCatchesUp() {
+        // given
+        String snapshot = tempDir.resolve("email-filter.bin").toString();
+        givenAllEmails("old@example.com");
+        RegisteredEmailFilter first = newFilter(true, snapshot);
+        first.sync();
+        first.destroy();
+
+        given(jpaUserRepository.findEmailsUpdatedSince(any(), anyLong(), any()))
+                .willReturn(List.of(new UserEmail(2L, "new@example.com")));
+        RegisteredEmailFilter restarted = newFilter(true, snapshot);
+
+        // when
+        restarted.sync();
+
+        // then
+        assertThat(restarted.mightExist("old@example.com")).isTrue();
+        assertThat(restarted.mightExist("new@example.com")).isTrue();
+        assertThat(restarted.mightExist("unknown@example.com")).isFalse();
+        then(jpaUserRepository).should().findEmailsAfter(eq(0L), any());
+    }
+
+    @Test
+    @DisplayName("비활성화하면 DB를 읽지 않고 항상 있을 수도 있음으로 판정한다")
+    void disabled() {
+        // given
+        RegisteredEmailFilter filter = newFilter(false, null);
+
+        // when
+        filter.sync();
+
+        // then
+        assertThat(filter.mightExist("unknown@example.com")).isTrue();
+        then(jpaUserRepository).should(never()).findEmailsAfter(anyLong(), any());
+    }
+
+    private void givenAllEmails(String... emails) {
+        List<UserEmail> rows = LongStream.range(0, emails.length)
+                .mapToObj(i -> new UserEmail(i + 1, emails[(int) i]))
+                .toList();
+        given(jpaUserRepository.findEmailsAfter(anyLong(), any())).willReturn(rows);
+    }
+
+    private RegisteredEmailFilter newFilter(boolean enabled, String snapshotPath) {
+        return new RegisteredEmailFilter(jpaUserRepository, feed, mock(PlatformTransactionManager.class),
+                enabled, 1_000, 0.001, snapshotPath, CLOCK);
+    }
+}
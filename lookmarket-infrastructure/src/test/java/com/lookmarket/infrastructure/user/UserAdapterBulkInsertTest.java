@@ -0,0 +1,127 @@
+package com.lookmarket.infrastructure.user;
+
+import com.lookmarket.domain.user.User;
+import com.lookmarket.domain.user.UserBulkInsertResult;
+import com.lookmarket.domain.user.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.then;
+
+/**
+ * UserAdapter.insertAll 테스트 (H2 MySQL 모드)
+ *
+ * ON DUPLICATE KEY와 대소문자를 구분하지 않는 이메일 비교를 H2 MySQL 모드로 재현합니다.
+ */
+@DisplayName("UserAdapter 대량 INSERT 테스트")
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.datasource.url=jdbc:h2:mem:bulk;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORECASE=TRUE",
+        "user.bulk-insert.batch-size=1000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({UserAdapter.class, JdbcUserBulkInserter.class})
+class UserAdapterBulkInsertTest {
+
+    @Autowired
+    private UserAdapter userAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @Test
+    @DisplayName("배치 크기를 넘는 사용자도 모두 시간순 ID로 저장한다")
+    void insertAll_multipleBatches() {
+        // given
+        String prefix = "many" + System.nanoTime();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 2_500; i++) {
+            users.add(newUser(prefix + "-" + i + "@example.com"));
+        }
+
+        // when
+        UserBulkInsertResult result = userAdapter.insertAll(users);
+
+        // then
+        assertThat(result.duplicateEmails()).isEmpty();
+        assertThat(result.inserted()).hasSize(users.size());
+        assertThat(result.inserted()).extracting(User::getId).isSorted().doesNotHaveDuplicates();
+        assertThat(countByPrefix(prefix)).isEqualTo(users.size());
+        then(registeredEmailFilter).should().addAll(argThat(emails -> emails.size() == users.size()));
+    }
+
+    @Test
+    @DisplayName("이미 가입된 이메일과 목록 안의 중복 이메일은 예외 없이 건너뛴다")
+    void insertAll_skipsDuplicates() {
+        // given
+        String prefix = "dup" + System.nanoTime();
+        String registered = prefix + "-registered@example.com";
+        userAdapter.save(newUser(registered));
+        List<User> users = List.of(
+                newUser(prefix + "-a@example.com"),
+                newUser(registered.toUpperCase()),
+                newUser(prefix + "-b@example.com"),
+                newUser(prefix + "-A@example.com")
+        );
+
+        // when
+        UserBulkInsertResult result = userAdapter.insertAll(users);
+
+        // then
+        assertThat(result.inserted()).extracting(User::getEmail)
+                .containsExactly(prefix + "-a@example.com", prefix + "-b@example.com");
+        assertThat(result.duplicateEmails())
+                .containsExactly(registered.toUpperCase(), prefix + "-A@example.com");
+        assertThat(countByPrefix(prefix)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("기본 키 충돌은 저장된 것으로 보고하지 않고 예외로 드러낸다")
+    void insertAll_primaryKeyCollision_throws() {
+        // given
+        String prefix = "pk" + System.nanoTime();
+        long existingId = userAdapter.save(newUser(prefix + "-existing@example.com")).getId();
+        JdbcUserBulkInserter inserter = new JdbcUserBulkInserter(jdbcTemplate, 1000, () -> existingId);
+
+        // when & then
+        assertThatThrownBy(() -> inserter.insertAll(List.of(newUser(prefix + "-new@example.com"))))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThat(countByPrefix(prefix)).isEqualTo(1);
+    }
+
+    private int countByPrefix(String prefix) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email LIKE ?", Integer.class, prefix + "-%");
+    }
+
+    private static User newUser(String email) {
+        return User.create(email, "encoded", "홍길동", null, UserRole.CUSTOMER);
+    }
+
+    @SpringBootConfiguration
+    @AutoConfigurationPackage
+    static class TestConfig {
+    }
+}
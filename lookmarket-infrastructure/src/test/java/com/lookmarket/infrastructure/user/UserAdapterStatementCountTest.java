@@ -0,0 +1,200 @@
+package com.lookmarket.infrastructure.user;
+
+import com.lookmarket.domain.user.User;
+import com.lookmarket.domain.user.UserRole;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserAdapter 저장 경로 SQL 수 테스트 (H2)
+ *
+ * 한 트랜잭션에서 조회한 사용자를 save하면 merge 없이 변경 컬럼만 쓰는 UPDATE 1회로 끝나는지,
+ * 신규 사용자는 배치 INSERT로 저장되는지 검증합니다.
+ * 서비스 유즈케이스 전체의 SQL 수는 UserServiceStatementCountTest(lookmarket-application)에서 검증합니다.
+ */
+@DisplayName("UserAdapter 저장 경로 SQL 수 테스트")
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.lookmarket.infrastructure.user.UserAdapterStatementCountTest$RecordingStatementInspector"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({UserAdapter.class, JdbcUserBulkInserter.class})
+class UserAdapterStatementCountTest {
+
+    @Autowired
+    private UserAdapter userAdapter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        userId = userAdapter.save(User.create(
+                "user" + System.nanoTime() + "@example.com", "encoded", "홍길동", "010-1234-5678", UserRole.CUSTOMER
+        )).getId();
+        statistics.clear();
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("조회한 사용자를 save하면 재조회 없이 name/updated_at만 쓰는 UPDATE 1회로 저장한다")
+    void save_managedEntity_dynamicUpdate() {
+        // when
+        inTransaction(user -> user.changeName("김철수"));
+
+        // then: 조회 SELECT 1회 + UPDATE 1회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(update())
+                .contains("name", "updated_at")
+                .doesNotContain("email", "password", "phone_number", "status");
+    }
+
+    @Test
+    @DisplayName("바뀐 필드가 없으면 UPDATE 하지 않는다")
+    void unchanged_noUpdate() {
+        // when
+        inTransaction(user -> { });
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(RecordingStatementInspector.STATEMENTS).noneMatch(sql -> sql.startsWith("update"));
+    }
+
+    @Test
+    @DisplayName("시간순 ID를 쓰므로 신규 사용자 여러 명은 배치 INSERT로 저장된다")
+    void bulkInsert_batched() {
+        // given
+        int users = 250;
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < users; i++) {
+                userAdapter.save(User.create("bulk" + i + "-" + System.nanoTime() + "@example.com",
+                        "encoded", "홍길동", null, UserRole.CUSTOMER));
+            }
+        });
+
+        // then: IDENTITY였다면 행마다 INSERT 준비/실행 (250회), 배치에서는 INSERT 문을 재사용 (배치 3개)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(users);
+        assertThat(RecordingStatementInspector.STATEMENTS).allMatch(sql -> sql.startsWith("insert"));
+    }
+
+    @Test
+    @DisplayName("비밀번호 교체는 저장된 해시가 기대값일 때만 조건부 UPDATE 한 번으로 바꾼다")
+    void replacePassword_compareAndSet() {
+        // when
+        boolean stale = userAdapter.replacePassword(userId, "stale", "rehashed", LocalDateTime.now());
+        boolean replaced = userAdapter.replacePassword(userId, "encoded", "rehashed", LocalDateTime.now());
+
+        // then
+        assertThat(stale).isFalse();
+        assertThat(replaced).isTrue();
+        assertThat(RecordingStatementInspector.STATEMENTS).hasSize(2).allMatch(sql -> sql.startsWith("update"));
+        assertThat(userAdapter.findById(userId).orElseThrow().getPassword()).isEqualTo("rehashed");
+    }
+
+    @Test
+    @DisplayName("saveAll은 기존 사용자를 한 번에 조회하고 INSERT/UPDATE를 배치로 실행한다")
+    void saveAll_batched() {
+        // given
+        User existing = userAdapter.findById(userId).orElseThrow();
+        existing.changeName("김철수");
+        List<User> users = new ArrayList<>(List.of(existing));
+        for (int i = 0; i < 150; i++) {
+            users.add(User.create("all" + i + "-" + System.nanoTime() + "@example.com",
+                    "encoded", "홍길동", null, UserRole.CUSTOMER));
+        }
+        statistics.clear();
+        RecordingStatementInspector.STATEMENTS.clear();
+
+        // when
+        List<User> saved = userAdapter.saveAll(users);
+
+        // then: 기존 사용자 IN 조회 1회 + INSERT 배치 + UPDATE 배치
+        assertThat(saved).hasSize(users.size()).allMatch(user -> user.getId() != null);
+        assertThat(saved.get(0).getName()).isEqualTo("김철수");
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(150);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(RecordingStatementInspector.STATEMENTS).filteredOn(sql -> sql.startsWith("select")).hasSize(1);
+    }
+
+    /**
+     * 조회 → 도메인 변경 → save (한 트랜잭션)
+     */
+    private void inTransaction(Consumer<User> change) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User user = userAdapter.findById(userId).orElseThrow();
+            change.accept(user);
+            userAdapter.save(user);
+        });
+    }
+
+    private String update() {
+        List<String> updates = RecordingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.startsWith("update"))
+                .toList();
+        assertThat(updates).hasSize(1);
+        String update = updates.get(0);
+        // WHERE id=? 이전의 SET 절만 검사
+        return update.substring(0, update.indexOf(" where "));
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL 기록
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase().replaceAll("\\s+", " ").trim());
+            return sql;
+        }
+    }
+
+    @SpringBootConfiguration
+    @AutoConfigurationPackage
+    static class TestConfig {
+    }
+}